@@ -27,6 +27,7 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.function.UnaryOperator;
@@ -49,6 +50,9 @@ import org.jspecify.annotations.Nullable;
  * Assume that all collections returning AbilityDescription are also immutable
  */
 public sealed class AbilityDescription implements Keyed, Translatable permits AbilityDescription.Sequence {
+  private static final AtomicInteger ID_COUNTER = new AtomicInteger();
+
+  private final int id;
   private final Key key;
   private final ElementSet elements;
   private final Component displayName;
@@ -61,6 +65,7 @@ public sealed class AbilityDescription implements Keyed, Translatable permits Ab
   private final int hashcode;
 
   private AbilityDescription(Builder builder) {
+    id = ID_COUNTER.getAndIncrement();
     key = builder.key;
     elements = ElementSet.copyOf(builder.elements);
     displayName = builder.displayName;
@@ -73,6 +78,15 @@ public sealed class AbilityDescription implements Keyed, Translatable permits Ab
     hashcode = Objects.hash(key, elements, activations);
   }
 
+  /**
+   * Get the runtime id of this description. Ids are assigned sequentially on creation, starting from 0,
+   * and can be used to index arrays. They are not persistent and should never be stored.
+   * @return the runtime id
+   */
+  public int id() {
+    return id;
+  }
+
   public Component displayName() {
     return displayName;
   }
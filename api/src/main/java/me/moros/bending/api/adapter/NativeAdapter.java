@@ -19,11 +19,14 @@
 
 package me.moros.bending.api.adapter;
 
+import java.util.Map;
+
 import me.moros.bending.api.event.BendingDamageEvent;
 import me.moros.bending.api.platform.block.Block;
 import me.moros.bending.api.platform.block.BlockState;
 import me.moros.bending.api.platform.block.BlockType;
 import me.moros.bending.api.platform.entity.Entity;
+import me.moros.bending.api.platform.world.World;
 import me.moros.bending.api.util.material.MaterialUtil;
 import me.moros.math.FastMath;
 import me.moros.math.Vector3d;
@@ -49,6 +52,15 @@ public interface NativeAdapter extends PacketUtil {
     return true;
   }
 
+  /**
+   * Attempt to use NMS to set BlockData for multiple blocks, usually grouped by chunk or chunk section.
+   * @param world the world the blocks belong to
+   * @param changes the blocks to set mapped to their new block data
+   */
+  default void setBlocksFast(World world, Map<Block, BlockState> changes) {
+    changes.forEach(this::setBlockFast);
+  }
+
   private Block eyeBlock(Entity entity) {
     Vector3d loc = entity.location();
     int x = loc.blockX();
@@ -25,6 +25,7 @@ import java.util.function.Predicate;
 import java.util.stream.Stream;
 
 import me.moros.bending.api.ability.Ability;
+import me.moros.bending.api.ability.AbilityDescription;
 import me.moros.bending.api.ability.Updatable;
 import me.moros.bending.api.user.User;
 import net.kyori.adventure.key.Key;
@@ -47,8 +48,16 @@ public interface AbilityManager extends Updatable, Iterable<Ability> {
     return userInstances(user, type).findAny().isPresent();
   }
 
+  default boolean hasAbility(User user, AbilityDescription desc) {
+    return userInstances(user, desc).findAny().isPresent();
+  }
+
   Stream<Ability> userInstances(User user);
 
+  default Stream<Ability> userInstances(User user, AbilityDescription desc) {
+    return userInstances(user).filter(a -> desc.equals(a.description()));
+  }
+
   default <T extends Ability> Stream<T> userInstances(User user, Class<T> type) {
     return userInstances(user).filter(type::isInstance).map(type::cast);
   }
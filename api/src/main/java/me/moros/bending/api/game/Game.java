@@ -47,4 +47,6 @@ public interface Game {
   ActivationController activationController();
 
   ConfigProcessor configProcessor();
+
+  Profiler profiler();
 }
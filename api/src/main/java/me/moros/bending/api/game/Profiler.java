@@ -0,0 +1,53 @@
+/*
+ * Copyright 2020-2026 Moros
+ *
+ * This file is part of Bending.
+ *
+ * Bending is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Bending is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bending. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package me.moros.bending.api.game;
+
+/**
+ * Collects timing information about bending sub-systems.
+ * <p>Profiling is disabled by default and adds no measurable overhead until enabled.
+ */
+public interface Profiler {
+  /**
+   * Check if this profiler is currently sampling.
+   * @return true if profiling is enabled, false otherwise
+   */
+  boolean isEnabled();
+
+  /**
+   * Discard any previous data and start sampling.
+   */
+  void enable();
+
+  /**
+   * Stop sampling. Data collected so far is retained and can still be retrieved with {@link #report()}.
+   */
+  void disable();
+
+  /**
+   * Discard all collected data.
+   */
+  void reset();
+
+  /**
+   * Create a snapshot of the data collected since profiling was last enabled or reset.
+   * @return the profiler report
+   */
+  ProfilerReport report();
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2020-2026 Moros
+ *
+ * This file is part of Bending.
+ *
+ * Bending is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Bending is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bending. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package me.moros.bending.api.game;
+
+import java.util.List;
+import java.util.Map;
+
+import me.moros.bending.api.ability.AbilityDescription;
+import net.kyori.adventure.key.Key;
+
+/**
+ * Snapshot of profiling data collected by a {@link Profiler}.
+ * @param ticks the amount of sampled ticks
+ * @param tickNanos the total time spent in bending ticks in nanoseconds
+ * @param abilities the ability update timings, sorted by total time in descending order
+ * @param collisions the collision timings for each world
+ * @param temporal the current amount of active temporaries for each temporal manager
+ */
+public record ProfilerReport(long ticks, long tickNanos, List<AbilityTiming> abilities,
+                             List<CollisionTiming> collisions, Map<String, Integer> temporal) {
+  public ProfilerReport {
+    abilities = List.copyOf(abilities);
+    collisions = List.copyOf(collisions);
+    temporal = Map.copyOf(temporal);
+  }
+
+  /**
+   * Update timings for a specific ability type.
+   * @param description the ability type
+   * @param updates the total amount of instance updates
+   * @param totalNanos the total time spent updating instances in nanoseconds
+   * @param maxNanos the longest single update in nanoseconds
+   * @param p50Nanos the upper bound of the median update time in nanoseconds
+   * @param p99Nanos the upper bound of the 99th percentile update time in nanoseconds
+   */
+  public record AbilityTiming(AbilityDescription description, long updates, long totalNanos, long maxNanos,
+                              long p50Nanos, long p99Nanos) {
+  }
+
+  /**
+   * Collision timings for a specific world.
+   * @param world the world key
+   * @param samples the amount of collision updates
+   * @param broadPhaseNanos the total time spent collecting colliders and querying the bvh in nanoseconds
+   * @param narrowPhaseNanos the total time spent testing and handling potential collisions in nanoseconds
+   * @param pairs the total amount of potential collision pairs
+   */
+  public record CollisionTiming(Key world, long samples, long broadPhaseNanos, long narrowPhaseNanos, long pairs) {
+  }
+}
@@ -46,7 +46,8 @@ public record Block(World world, int blockX, int blockY, int blockZ) implements
   }
 
   public BlockType type() {
-    return world().getBlockType(this);
+    BlockState staged = StagedBlocks.get(this);
+    return staged != null ? staged.type() : world().getBlockType(this);
   }
 
   public boolean setType(BlockType type) {
@@ -54,10 +55,12 @@ public record Block(World world, int blockX, int blockY, int blockZ) implements
   }
 
   public BlockState state() {
-    return world().getBlockState(this);
+    BlockState staged = StagedBlocks.get(this);
+    return staged != null ? staged : world().getBlockState(this);
   }
 
   public boolean setState(BlockState state) {
+    StagedBlocks.discard(this);
     return world().setBlockStateFast(this, state);
   }
 
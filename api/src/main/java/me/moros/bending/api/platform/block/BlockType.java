@@ -33,6 +33,13 @@ public sealed interface BlockType extends BlockProperties, BlockTypes permits Bl
     return BlockTypeImpl.REGISTRY;
   }
 
+  /**
+   * Get the runtime id of this block type. Ids are assigned sequentially on creation, starting from 0,
+   * and can be used to index arrays. They are not persistent and should never be stored.
+   * @return the runtime id
+   */
+  int id();
+
   default String name() {
     return key().value();
   }
@@ -19,7 +19,9 @@
 
 package me.moros.bending.api.platform.block;
 
+import java.util.Arrays;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import me.moros.bending.api.platform.item.Item;
 import me.moros.bending.api.platform.sound.SoundGroup;
@@ -28,8 +30,11 @@ import me.moros.bending.api.registry.Registry;
 import me.moros.bending.api.util.KeyUtil;
 import net.kyori.adventure.key.Key;
 
-record BlockTypeImpl(Key key) implements BlockType {
-  static final DefaultedRegistry<Key, BlockType> REGISTRY = Registry.vanillaDefaulted("blocks", BlockType.class, BlockTypeImpl::new);
+record BlockTypeImpl(Key key, int id) implements BlockType {
+  private static final AtomicInteger ID_COUNTER = new AtomicInteger();
+  private static volatile BlockProperties[] propertyTable = new BlockProperties[0];
+
+  static final DefaultedRegistry<Key, BlockType> REGISTRY = Registry.vanillaDefaulted("blocks", BlockType.class, BlockTypeImpl::create);
   static final Registry<Key, BlockProperties> PROPERTY_REGISTRY = Registry.vanilla("block.properties", BlockProperties.class);
   static final Registry<Key, BlockState> STATE_REGISTRY = Registry.vanilla("block.state", BlockState.class);
   static final Registry<Key, Item> ITEM_REGISTRY = Registry.vanilla("block.item", Item.class);
@@ -38,8 +43,37 @@ record BlockTypeImpl(Key key) implements BlockType {
     return REGISTRY.get(KeyUtil.vanilla(key));
   }
 
+  private static BlockType create(Key key) {
+    return new BlockTypeImpl(key, ID_COUNTER.getAndIncrement());
+  }
+
+  static int maxId() {
+    return ID_COUNTER.get();
+  }
+
   BlockProperties fromVanilla() {
-    return PROPERTY_REGISTRY.getOrThrow(key());
+    BlockProperties[] table = propertyTable;
+    if (id < table.length) {
+      BlockProperties properties = table[id];
+      if (properties != null) {
+        return properties;
+      }
+    }
+    return cacheProperties();
+  }
+
+  // Properties are never replaced once registered so it's safe to memoize them in a flat table indexed by id
+  private BlockProperties cacheProperties() {
+    BlockProperties properties = PROPERTY_REGISTRY.getOrThrow(key());
+    synchronized (BlockTypeImpl.class) {
+      BlockProperties[] table = propertyTable;
+      if (id >= table.length) {
+        table = Arrays.copyOf(table, Math.max(id + 1, maxId()));
+      }
+      table[id] = properties;
+      propertyTable = table;
+    }
+    return properties;
   }
 
   @Override
@@ -96,4 +130,14 @@ record BlockTypeImpl(Key key) implements BlockType {
   public Optional<Item> asItem() {
     return Optional.ofNullable(ITEM_REGISTRY.get(key()));
   }
+
+  @Override
+  public boolean equals(Object obj) {
+    return this == obj || (obj instanceof BlockTypeImpl other && key.equals(other.key));
+  }
+
+  @Override
+  public int hashCode() {
+    return key.hashCode();
+  }
 }
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2020-2026 Moros
+ *
+ * This file is part of Bending.
+ *
+ * Bending is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Bending is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bending. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package me.moros.bending.api.platform.block;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import me.moros.bending.api.platform.Platform;
+import me.moros.bending.api.platform.world.World;
+import org.jetbrains.annotations.ApiStatus.Internal;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Buffer for block changes that are applied together once per tick.
+ * Staged changes are visible through {@link Block#state()} and {@link Block#type()} until they are flushed.
+ * Writing a block directly with {@link Block#setState(BlockState)} discards any change staged for it.
+ */
+public final class StagedBlocks {
+  private static final Map<Block, BlockState> STAGED = new ConcurrentHashMap<>();
+
+  private StagedBlocks() {
+  }
+
+  /**
+   * Stage a block change to be applied on the next flush.
+   * @param block the block to change
+   * @param state the new block state
+   */
+  public static void stage(Block block, BlockState state) {
+    STAGED.put(block, state);
+  }
+
+  /**
+   * Get the staged state for a block.
+   * @param block the block to check
+   * @return the staged state or null if no change is staged for the given block
+   */
+  public static @Nullable BlockState get(Block block) {
+    return STAGED.isEmpty() ? null : STAGED.get(block);
+  }
+
+  /**
+   * Remove the staged change for a block without applying it.
+   * @param block the block to unstage
+   * @return the state that was staged or null if no change was staged for the given block
+   */
+  public static @Nullable BlockState unstage(Block block) {
+    return STAGED.isEmpty() ? null : STAGED.remove(block);
+  }
+
+  static void discard(Block block) {
+    if (!STAGED.isEmpty()) {
+      STAGED.remove(block);
+    }
+  }
+
+  /**
+   * @return the amount of staged block changes
+   */
+  public static int size() {
+    return STAGED.size();
+  }
+
+  /**
+   * Apply all staged changes, grouped by world and chunk section.
+   */
+  @Internal
+  public static void flush() {
+    if (STAGED.isEmpty()) {
+      return;
+    }
+    Map<World, Map<Long, Map<Block, BlockState>>> sections = new HashMap<>();
+    var it = STAGED.entrySet().iterator();
+    while (it.hasNext()) {
+      var entry = it.next();
+      Block block = entry.getKey();
+      BlockState state = entry.getValue();
+      it.remove();
+      sections.computeIfAbsent(block.world(), w -> new HashMap<>())
+        .computeIfAbsent(sectionKey(block), k -> new LinkedHashMap<>())
+        .put(block, state);
+    }
+    var adapter = Platform.instance().nativeAdapter();
+    for (var worldEntry : sections.entrySet()) {
+      World world = worldEntry.getKey();
+      for (Map<Block, BlockState> section : worldEntry.getValue().values()) {
+        adapter.setBlocksFast(world, section);
+      }
+    }
+  }
+
+  private static long sectionKey(Block block) {
+    long x = block.blockX() >> 4;
+    long y = block.blockY() >> 4;
+    long z = block.blockZ() >> 4;
+    return ((x & 0x3FFFFF) << 42) | ((z & 0x3FFFFF) << 20) | (y & 0xFFFFF);
+  }
+}
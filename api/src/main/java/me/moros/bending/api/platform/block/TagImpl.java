@@ -19,6 +19,7 @@
 
 package me.moros.bending.api.platform.block;
 
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.Set;
 import java.util.function.Supplier;
@@ -28,10 +29,15 @@ import me.moros.bending.api.registry.Container;
 import me.moros.bending.api.util.KeyUtil;
 import me.moros.bending.api.util.functional.Suppliers;
 import net.kyori.adventure.key.Key;
+import org.jspecify.annotations.Nullable;
 
-record TagImpl(Key key, Supplier<Container<BlockType>> supplier) implements BlockTag {
+record TagImpl(Key key, Supplier<Container<BlockType>> supplier, Supplier<long[]> members) implements BlockTag {
   private static final Container<BlockType> EMPTY = Container.create(KeyUtil.simple("empty"), Set.of());
 
+  private TagImpl(Key key, Supplier<Container<BlockType>> supplier) {
+    this(key, supplier, Suppliers.lazy(() -> toBitSet(supplier.get())));
+  }
+
   static BlockTag get(String key) {
     return reference(KeyUtil.vanilla(key));
   }
@@ -51,7 +57,10 @@ record TagImpl(Key key, Supplier<Container<BlockType>> supplier) implements Bloc
 
   @Override
   public boolean containsValue(BlockType type) {
-    return container().containsValue(type);
+    int id = type.id();
+    long[] bits = members().get();
+    int word = id >>> 6;
+    return word < bits.length && (bits[word] & (1L << id)) != 0;
   }
 
   @Override
@@ -68,4 +77,21 @@ record TagImpl(Key key, Supplier<Container<BlockType>> supplier) implements Bloc
   public Iterator<BlockType> iterator() {
     return container().iterator();
   }
+
+  // Tag contents are fixed once resolved, so membership can be answered by a bitset indexed by block type id
+  private static long[] toBitSet(@Nullable Container<BlockType> container) {
+    if (container == null) {
+      return new long[0];
+    }
+    long[] bits = new long[(BlockTypeImpl.maxId() + 63) >>> 6];
+    for (BlockType type : container) {
+      int id = type.id();
+      int word = id >>> 6;
+      if (word >= bits.length) {
+        bits = Arrays.copyOf(bits, word + 1);
+      }
+      bits[word] |= 1L << id;
+    }
+    return bits;
+  }
 }
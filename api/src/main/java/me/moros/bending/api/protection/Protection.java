@@ -36,4 +36,28 @@ public interface Protection extends Keyed {
    * @return the result
    */
   boolean canBuild(LivingEntity entity, Block block);
+
+  /**
+   * Get the granularity of this protection's results. Protections that return {@link Granularity#CHUNK}
+   * guarantee that {@link #canBuild(LivingEntity, Block)} gives the same answer for every block in a chunk.
+   * @return the granularity of results, defaults to {@link Granularity#BLOCK}
+   * @see ProtectionCache
+   */
+  default Granularity granularity() {
+    return Granularity.BLOCK;
+  }
+
+  /**
+   * The area over which a protection's results are uniform.
+   */
+  enum Granularity {
+    /**
+     * Results may differ for every block.
+     */
+    BLOCK,
+    /**
+     * Results are the same for all blocks in a chunk.
+     */
+    CHUNK
+  }
 }
@@ -19,29 +19,38 @@
 
 package me.moros.bending.api.protection;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 
+import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
-import com.github.benmanes.caffeine.cache.LoadingCache;
 import me.moros.bending.api.platform.block.Block;
+import me.moros.bending.api.protection.Protection.Granularity;
 import me.moros.bending.api.registry.Registries;
 import me.moros.bending.api.user.User;
+import net.kyori.adventure.key.Key;
 
 /**
  * A multi-layered cache used to check if a User can build in a specific block location.
+ * Protections that declare {@link Granularity#CHUNK} are cached per chunk, all others are cached per block.
  * While this implementation is thread-safe it might be dangerous to use this async as the protection plugins
  * might not be thread-safe themselves and data is fetched from those when results aren't cached.
  */
 public enum ProtectionCache {
   INSTANCE;
 
-  private final Map<UUID, LoadingCache<Block, Boolean>> cache;
+  private final Map<UUID, UserCache> cache;
+  private volatile Partition partition;
 
   ProtectionCache() {
     cache = new ConcurrentHashMap<>();
+    partition = Partition.EMPTY;
   }
 
   /**
@@ -52,34 +61,164 @@ public enum ProtectionCache {
     cache.remove(uuid);
   }
 
+  /**
+   * Remove cached results for the specified chunk for all users.
+   * Protection integrations should call this when a claim or region covering that chunk changes.
+   * @param world the key of the world the chunk belongs to
+   * @param chunkX the x coordinate of the chunk
+   * @param chunkZ the z coordinate of the chunk
+   */
+  public void invalidate(Key world, int chunkX, int chunkZ) {
+    ChunkKey key = new ChunkKey(world, chunkX, chunkZ);
+    for (UserCache userCache : cache.values()) {
+      userCache.invalidate(key);
+    }
+  }
+
+  /**
+   * Remove all cached results for all users.
+   * Protection integrations should call this when a change can affect an unknown set of chunks.
+   */
+  public void invalidateAll() {
+    cache.clear();
+  }
+
   /**
    * Checks if a user can build at a block location. First it queries the cache.
    * If no result is found it computes it and adds it to the cache before returning the result.
    * @param user the user to check
    * @param block the block to check
    * @return the result
-   * @see #canBuildPostCache(User, Block)
    */
   public boolean canBuild(User user, Block block) {
-    return cache.computeIfAbsent(user.uuid(), u -> buildCache(user)).get(block);
+    Partition p = partition();
+    UserCache userCache = userCache(user);
+    return userCache.testChunk(p, user, block) && userCache.testBlock(p, user, block);
   }
 
   /**
-   * Checks if a user can build at a block location.
+   * Checks if a user can build at all the specified block locations.
+   * Blocks are grouped by chunk so chunk granular protections are only queried once per chunk.
    * @param user the user to check
-   * @param block the block to check
-   * @return true if all enabled protections allow it, false otherwise
+   * @param blocks the blocks to check
+   * @return true if the user can build at every block, false otherwise
+   */
+  public boolean canBuild(User user, Collection<Block> blocks) {
+    if (blocks.isEmpty()) {
+      return true;
+    }
+    Partition p = partition();
+    UserCache userCache = userCache(user);
+    Map<ChunkKey, Boolean> chunks = new HashMap<>();
+    for (Block block : blocks) {
+      if (!chunks.computeIfAbsent(ChunkKey.of(block), k -> userCache.testChunk(p, user, k, block))) {
+        return false;
+      }
+    }
+    for (Block block : blocks) {
+      if (!userCache.testBlock(p, user, block)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Filters the specified block locations, keeping only those the user can build at.
+   * Blocks are grouped by chunk so chunk granular protections are only queried once per chunk
+   * and blocks in denied chunks never reach block granular protections.
+   * @param user the user to check
+   * @param blocks the blocks to filter
+   * @return a new list with the blocks the user can build at, in encounter order
+   */
+  public List<Block> filter(User user, Collection<Block> blocks) {
+    List<Block> result = new ArrayList<>(blocks.size());
+    if (blocks.isEmpty()) {
+      return result;
+    }
+    Partition p = partition();
+    UserCache userCache = userCache(user);
+    Map<ChunkKey, Boolean> chunks = new HashMap<>();
+    for (Block block : blocks) {
+      if (chunks.computeIfAbsent(ChunkKey.of(block), k -> userCache.testChunk(p, user, k, block))
+        && userCache.testBlock(p, user, block)) {
+        result.add(block);
+      }
+    }
+    return result;
+  }
+
+  private UserCache userCache(User user) {
+    return cache.computeIfAbsent(user.uuid(), u -> new UserCache());
+  }
+
+  private Partition partition() {
+    Partition p = partition;
+    if (p.size != Registries.PROTECTIONS.size()) {
+      p = Partition.create();
+      partition = p;
+    }
+    return p;
+  }
+
+  private static boolean allMatch(Protection[] protections, User user, Block block) {
+    for (Protection protection : protections) {
+      if (!protection.canBuild(user, block)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private record ChunkKey(Key world, int x, int z) {
+    private static ChunkKey of(Block block) {
+      return new ChunkKey(block.world().key(), block.blockX() >> 4, block.blockZ() >> 4);
+    }
+  }
+
+  /**
+   * Registered protections split by granularity.
    */
-  private boolean canBuildPostCache(User user, Block block) {
-    return Registries.PROTECTIONS.stream().allMatch(m -> m.canBuild(user, block));
+  private record Partition(int size, Protection[] chunk, Protection[] block) {
+    private static final Partition EMPTY = new Partition(0, new Protection[0], new Protection[0]);
+
+    private static Partition create() {
+      List<Protection> chunk = new ArrayList<>();
+      List<Protection> block = new ArrayList<>();
+      Registries.PROTECTIONS.forEach(p -> (p.granularity() == Granularity.CHUNK ? chunk : block).add(p));
+      return new Partition(chunk.size() + block.size(), chunk.toArray(Protection[]::new), block.toArray(Protection[]::new));
+    }
   }
 
   /**
-   * Creates a block cache in which entries expire 5000ms after their last access time.
-   * @return the created cache
+   * Per user caches in which entries expire 5000ms after their last access time.
    * @see Caffeine
    */
-  private LoadingCache<Block, Boolean> buildCache(User user) {
-    return Caffeine.newBuilder().expireAfterAccess(5, TimeUnit.SECONDS).build(b -> canBuildPostCache(user, b));
+  private static final class UserCache {
+    private final Cache<ChunkKey, Boolean> chunks;
+    private final Cache<Block, Boolean> blocks;
+
+    private UserCache() {
+      this.chunks = Caffeine.newBuilder().expireAfterAccess(5, TimeUnit.SECONDS).build();
+      this.blocks = Caffeine.newBuilder().expireAfterAccess(5, TimeUnit.SECONDS).build();
+    }
+
+    private boolean testChunk(Partition p, User user, Block block) {
+      return p.chunk.length == 0 || testChunk(p, user, ChunkKey.of(block), block);
+    }
+
+    private boolean testChunk(Partition p, User user, ChunkKey key, Block block) {
+      return p.chunk.length == 0 || chunks.get(key, k -> allMatch(p.chunk, user, block));
+    }
+
+    private boolean testBlock(Partition p, User user, Block block) {
+      return p.block.length == 0 || blocks.get(block, b -> allMatch(p.block, user, b));
+    }
+
+    private void invalidate(ChunkKey key) {
+      chunks.invalidate(key);
+      blocks.asMap().keySet().removeIf(b -> b.world().key().equals(key.world)
+        && (b.blockX() >> 4) == key.x && (b.blockZ() >> 4) == key.z);
+    }
   }
 }
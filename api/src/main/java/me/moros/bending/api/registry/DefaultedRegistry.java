@@ -36,7 +36,9 @@ public class DefaultedRegistry<K, V> extends SimpleRegistry<K, V> {
     var result = super.get(key);
     if (result == null) {
       result = factory.apply(key);
-      register(result);
+      if (!register(result)) {
+        result = super.get(key); // Lost a registration race, return the registered instance
+      }
     }
     return result;
   }
@@ -20,11 +20,14 @@
 package me.moros.bending.api.storage;
 
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
 
 import me.moros.bending.api.user.profile.BenderProfile;
 import org.jspecify.annotations.Nullable;
@@ -45,6 +48,14 @@ public interface BendingStorage {
    */
   CompletableFuture<Set<UUID>> loadUuidsAsync();
 
+  /**
+   * Count all stored profiles.
+   * @return the amount of stored profiles
+   */
+  default int countProfiles() {
+    return loadUuids().size();
+  }
+
   /**
    * Attempt to load a stored profile.
    * @param uuid the user's uuid
@@ -74,6 +85,20 @@ public interface BendingStorage {
    */
   CompletableFuture<Map<UUID, BenderProfile>> loadProfilesAsync(Set<UUID> uuids, LongAdder progressCounter);
 
+  /**
+   * Load all stored profiles and pass each one to the given consumer in ascending uuid order,
+   * as defined by {@link UUID#compareTo(UUID)}.
+   * Implementations should load profiles in pages so memory use doesn't grow with the amount of stored users.
+   * @param consumer the consumer that will receive every loaded profile
+   * @return the amount of profiles loaded
+   */
+  default int forEachProfile(Consumer<BenderProfile> consumer) {
+    var profiles = loadProfiles(loadUuids()).values().stream()
+      .sorted(Comparator.comparing(BenderProfile::uuid)).toList();
+    profiles.forEach(consumer);
+    return profiles.size();
+  }
+
   /**
    * Save the given profile.
    * @param profile the profile to save
@@ -112,6 +137,26 @@ public interface BendingStorage {
    */
   CompletableFuture<Boolean> saveProfilesAsync(Collection<BenderProfile> profiles, LongAdder progressCounter);
 
+  /**
+   * Queue the given profile to be saved at a later time.
+   * Repeated saves for the same user are coalesced so only the latest profile is written.
+   * @param profile the profile to save
+   * @param parts the parts of the profile that changed and need to be written
+   */
+  default void queueSave(BenderProfile profile, Set<BenderProfile.Part> parts) {
+    saveProfileAsync(profile);
+  }
+
+  /**
+   * Synchronously save all queued profiles, waiting at most the given time.
+   * @param timeout the maximum time to wait
+   * @param unit the time unit of the timeout argument
+   * @return true if all queued profiles were saved, false otherwise
+   */
+  default boolean flushQueue(long timeout, TimeUnit unit) {
+    return true;
+  }
+
   boolean isRemote();
 
   void close();
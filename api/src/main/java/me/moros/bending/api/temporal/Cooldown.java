@@ -21,41 +21,74 @@ package me.moros.bending.api.temporal;
 
 import java.util.Objects;
 import java.util.UUID;
+import java.util.function.Function;
 
 import me.moros.bending.api.ability.AbilityDescription;
 import me.moros.bending.api.user.User;
 import org.jspecify.annotations.Nullable;
 
 public final class Cooldown extends Temporary {
-  public static final TemporalManager<Cooldown, Cooldown> MANAGER = new TemporalManager<>(2400, false);
+  public static final TemporalManager<Cooldown, Cooldown> MANAGER = new Manager(2400);
 
   private final UUID uuid;
   private final AbilityDescription desc;
-  private final Runnable runnable;
+  private final boolean tracked;
+  private Runnable runnable;
+  private CooldownTable table;
+  private long expireTick;
   private boolean reverted = false;
   private final int hashCode;
 
-  private Cooldown(UUID uuid, AbilityDescription desc, @Nullable Runnable runnable) {
+  private Cooldown(UUID uuid, AbilityDescription desc, @Nullable Runnable runnable, @Nullable CooldownTable table) {
     this.uuid = uuid;
     this.desc = desc;
+    this.tracked = table != null;
     this.runnable = runnable;
+    this.table = table;
     this.hashCode = Objects.hash(this.uuid, this.desc);
   }
 
-  private Cooldown(UUID uuid, AbilityDescription desc, Runnable runnable, int ticks) {
-    this(uuid, desc, runnable);
-    MANAGER.addEntry(this, this, ticks);
+  private Cooldown(UUID uuid, AbilityDescription desc, @Nullable Runnable runnable, @Nullable CooldownTable table, int ticks) {
+    this(uuid, desc, runnable, table);
+    Cooldown existing = MANAGER.get(this).orElse(null);
+    if (existing == null) {
+      this.expireTick = ((Manager) MANAGER).currentTick + ticks + 1;
+      MANAGER.addEntry(this, this, ticks);
+      if (table != null) {
+        table.set(desc, expireTick);
+      }
+    } else if (table != null && existing.tracked) {
+      // The entry may belong to a table from a previous session of the same user
+      existing.rebind(table, runnable);
+    }
+  }
+
+  private synchronized void rebind(CooldownTable table, @Nullable Runnable runnable) {
+    if (!reverted && this.table != table) {
+      this.table = table;
+      this.runnable = runnable;
+      table.set(desc, expireTick);
+    }
   }
 
   @Override
   public boolean revert() {
-    if (reverted) {
-      return false;
+    CooldownTable currentTable;
+    Runnable currentRunnable;
+    synchronized (this) {
+      if (reverted) {
+        return false;
+      }
+      reverted = true;
+      currentTable = table;
+      currentRunnable = runnable;
     }
-    reverted = true;
     MANAGER.removeEntry(this);
-    if (runnable != null) {
-      runnable.run();
+    if (currentTable != null) {
+      currentTable.clear(desc);
+    }
+    if (currentRunnable != null) {
+      currentRunnable.run();
     }
     return true;
   }
@@ -77,10 +110,68 @@ public final class Cooldown extends Temporary {
   }
 
   public static Cooldown of(User user, AbilityDescription desc) {
-    return new Cooldown(user.uuid(), desc, null);
+    return new Cooldown(user.uuid(), desc, null, null);
   }
 
   public static Cooldown of(User user, AbilityDescription desc, Runnable runnable, long duration) {
-    return new Cooldown(user.uuid(), desc, runnable, MANAGER.fromMillis(duration));
+    return new Cooldown(user.uuid(), desc, runnable, null, MANAGER.fromMillis(duration));
+  }
+
+  static Cooldown of(CooldownTable table, User user, AbilityDescription desc, Runnable runnable, long duration) {
+    return new Cooldown(user.uuid(), desc, runnable, table, MANAGER.fromMillis(duration));
+  }
+
+  /**
+   * Check if the specified ability is on cooldown for a cooldown that isn't tracked by the user's {@link CooldownTable},
+   * such as one created with {@link #of(User, AbilityDescription, Runnable, long)}.
+   * @param user the user to check
+   * @param desc the ability to check
+   * @return true if such a cooldown exists, false otherwise
+   */
+  public static boolean isUntrackedCooldown(User user, AbilityDescription desc) {
+    Cooldown cooldown = MANAGER.get(of(user, desc)).orElse(null);
+    return cooldown != null && !cooldown.tracked;
+  }
+
+  /**
+   * Move all active tracked cooldowns of the specified user to a new table, for example when the user logs in again.
+   * @param table the new table
+   * @param user the user that owns the table
+   * @param onRemove provides the action to run when each cooldown is removed
+   */
+  static void restore(CooldownTable table, User user, Function<AbilityDescription, Runnable> onRemove) {
+    UUID uuid = user.uuid();
+    ((Manager) MANAGER).stream().filter(c -> c.tracked && c.uuid.equals(uuid))
+      .forEach(c -> c.rebind(table, onRemove.apply(c.desc)));
+  }
+
+  static long currentTick() {
+    return ((Manager) MANAGER).currentTick;
+  }
+
+  /**
+   * Keeps a tick counter so {@link CooldownTable} expiry ticks can be compared without touching the manager.
+   * Clearing skips the counter past the longest cooldown so all table entries expire at once.
+   */
+  private static final class Manager extends TemporalManager<Cooldown, Cooldown> {
+    private final int max;
+    private volatile long currentTick;
+
+    private Manager(int max) {
+      super(max, false);
+      this.max = max;
+    }
+
+    @Override
+    public void tick() {
+      super.tick();
+      currentTick++;
+    }
+
+    @Override
+    public void removeAll() {
+      super.removeAll();
+      currentTick += max + 1;
+    }
   }
 }
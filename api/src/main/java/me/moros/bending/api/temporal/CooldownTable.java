@@ -0,0 +1,88 @@
+/*
+ * Copyright 2020-2026 Moros
+ *
+ * This file is part of Bending.
+ *
+ * Bending is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Bending is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bending. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package me.moros.bending.api.temporal;
+
+import java.util.Arrays;
+import java.util.function.Function;
+
+import me.moros.bending.api.ability.AbilityDescription;
+import me.moros.bending.api.user.User;
+
+/**
+ * Per user cooldown state indexed by {@link AbilityDescription#id()}.
+ * Each slot stores the tick at which the cooldown expires so checking a cooldown is a single array read.
+ * Cooldowns are still scheduled in {@link Cooldown#MANAGER} which reverts them and clears their slot.
+ */
+public final class CooldownTable {
+  private volatile long[] expiry;
+
+  public CooldownTable() {
+    this.expiry = new long[0];
+  }
+
+  /**
+   * Check if the specified ability is on cooldown.
+   * @param desc the ability to check
+   * @return true if the ability is on cooldown, false otherwise
+   */
+  public boolean onCooldown(AbilityDescription desc) {
+    long[] local = expiry;
+    int id = desc.id();
+    return id < local.length && local[id] > Cooldown.currentTick();
+  }
+
+  /**
+   * Put the specified ability on cooldown. Does nothing if the ability is already on cooldown.
+   * @param user the user that owns this table
+   * @param desc the ability to put on cooldown
+   * @param runnable the action to run when the cooldown is removed
+   * @param duration the duration of the cooldown in milliseconds
+   */
+  public void add(User user, AbilityDescription desc, Runnable runnable, long duration) {
+    Cooldown.of(this, user, desc, runnable, duration);
+  }
+
+  /**
+   * Restore cooldowns that are still active from a previous table of the same user.
+   * @param user the user that owns this table
+   * @param onRemove provides the action to run when the cooldown for an ability is removed
+   */
+  public void restore(User user, Function<AbilityDescription, Runnable> onRemove) {
+    Cooldown.restore(this, user, onRemove);
+  }
+
+  synchronized void set(AbilityDescription desc, long tick) {
+    int id = desc.id();
+    long[] local = expiry;
+    if (id >= local.length) {
+      local = Arrays.copyOf(local, id + 1);
+    }
+    local[id] = tick;
+    expiry = local;
+  }
+
+  synchronized void clear(AbilityDescription desc) {
+    int id = desc.id();
+    long[] local = expiry;
+    if (id < local.length) {
+      local[id] = 0;
+    }
+  }
+}
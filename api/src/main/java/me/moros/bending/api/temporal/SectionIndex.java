@@ -0,0 +1,72 @@
+/*
+ * Copyright 2020-2026 Moros
+ *
+ * This file is part of Bending.
+ *
+ * Bending is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Bending is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bending. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package me.moros.bending.api.temporal;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import me.moros.bending.api.platform.block.Block;
+import net.kyori.adventure.key.Key;
+
+/**
+ * Counting filter over 16x16x16 chunk sections that hold at least one temporary block.
+ * <p>Sections are hashed into a fixed table of counters, so a zero counter guarantees that
+ * no temp block exists in the section while a positive one only means that one might.
+ * Lookups are lock-free and never allocate which makes them suitable as an early rejection
+ * step for high frequency block events.
+ */
+final class SectionIndex {
+  private static final int BITS = 14;
+  private static final int MASK = (1 << BITS) - 1;
+
+  private final AtomicIntegerArray counts = new AtomicIntegerArray(1 << BITS);
+
+  void add(Block block) {
+    counts.incrementAndGet(slot(block));
+  }
+
+  void remove(Block block) {
+    counts.decrementAndGet(slot(block));
+  }
+
+  boolean mayContain(Block block) {
+    return counts.get(slot(block)) > 0;
+  }
+
+  boolean mayContain(Key world, int x, int y, int z) {
+    return counts.get(slot(world.hashCode(), x >> 4, y >> 4, z >> 4)) > 0;
+  }
+
+  void clear() {
+    for (int i = 0; i < counts.length(); i++) {
+      counts.set(i, 0);
+    }
+  }
+
+  private static int slot(Block block) {
+    return slot(block.world().key().hashCode(), block.blockX() >> 4, block.blockY() >> 4, block.blockZ() >> 4);
+  }
+
+  private static int slot(int world, int sx, int sy, int sz) {
+    long h = ((long) sx & 0x3FFFFF) | (((long) sz & 0x3FFFFF) << 22) | (((long) sy & 0xFFF) << 44);
+    h = (h ^ world) * 0x9E3779B97F4A7C15L;
+    h ^= h >>> 32;
+    return (int) (h ^ (h >>> BITS)) & MASK;
+  }
+}
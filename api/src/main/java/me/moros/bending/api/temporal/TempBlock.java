@@ -20,8 +20,13 @@
 package me.moros.bending.api.temporal;
 
 import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Deque;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
@@ -31,21 +36,26 @@ import java.util.function.Consumer;
 import me.moros.bending.api.ability.Ability;
 import me.moros.bending.api.ability.DamageSource;
 import me.moros.bending.api.platform.Direction;
+import me.moros.bending.api.platform.Platform;
 import me.moros.bending.api.platform.block.Block;
 import me.moros.bending.api.platform.block.BlockState;
 import me.moros.bending.api.platform.block.BlockStateProperties;
 import me.moros.bending.api.platform.block.BlockType;
+import me.moros.bending.api.platform.block.StagedBlocks;
+import me.moros.bending.api.platform.world.World;
 import me.moros.bending.api.platform.world.World.Dimension;
 import me.moros.bending.api.platform.world.WorldUtil;
 import me.moros.bending.api.util.material.MaterialUtil;
 import me.moros.bending.api.util.material.WaterMaterials;
 import me.moros.math.FastMath;
 import me.moros.tasker.TimerWheel;
+import net.kyori.adventure.key.Key;
 import org.jspecify.annotations.Nullable;
 
 public final class TempBlock extends Temporary {
   private static final TimerWheel wheel = TimerWheel.hierarchical();
-  public static final TemporalManager<Block, TempBlock> MANAGER = new TemporalManager<>(wheel);
+  private static final SectionIndex SECTIONS = new SectionIndex();
+  public static final TemporalManager<Block, TempBlock> MANAGER = new Manager(wheel);
 
   private static final Set<Block> GRAVITY_CACHE = ConcurrentHashMap.newKeySet();
 
@@ -70,7 +80,11 @@ public final class TempBlock extends Temporary {
     } else {
       index.weak = builder.weak;
     }
-    block.setState(state);
+    if (builder.staged) {
+      StagedBlocks.stage(block, state);
+    } else {
+      block.setState(state);
+    }
     refreshGravityCache(block);
   }
 
@@ -181,6 +195,20 @@ public final class TempBlock extends Temporary {
     return new Snapshot(block, index.bendable, index.weak, index.source);
   }
 
+  /**
+   * Check if a temp block could exist at the specified coordinates without creating any {@link Block} objects.
+   * <p>This is a cheap pre-check for high frequency block events; a false result guarantees that
+   * {@link TemporalManager#isTemp} would also return false, while a true result must be confirmed.
+   * @param world the key of the world to check
+   * @param x the x block coordinate
+   * @param y the y block coordinate
+   * @param z the z block coordinate
+   * @return false if there are definitely no temp blocks in the chunk section containing the coordinates
+   */
+  public static boolean mayBeTemp(Key world, int x, int y, int z) {
+    return SECTIONS.mayContain(world, x, y, z);
+  }
+
   public static boolean isBendable(Block block) {
     return MANAGER.get(block).map(tb -> tb.index.bendable).orElse(true);
   }
@@ -205,6 +233,99 @@ public final class TempBlock extends Temporary {
     }
   }
 
+  /**
+   * Reverts triggered while ticking or clearing are staged and applied together afterward,
+   * with one chunk load and one bulk write per chunk.
+   */
+  private static final class Manager extends TemporalManager<Block, TempBlock> {
+    private final List<Block> pendingReverts = new ArrayList<>();
+    private volatile boolean batching;
+
+    private Manager(TimerWheel wheel) {
+      super(wheel);
+    }
+
+    private synchronized boolean tryQueueRevert(Block block, BlockState state) {
+      if (!batching) {
+        return false;
+      }
+      StagedBlocks.stage(block, state);
+      pendingReverts.add(block);
+      return true;
+    }
+
+    private synchronized void flushReverts() {
+      batching = false;
+      if (pendingReverts.isEmpty()) {
+        return;
+      }
+      Map<World, Map<Long, Map<Block, BlockState>>> chunks = new HashMap<>();
+      for (Block block : pendingReverts) {
+        BlockState state = StagedBlocks.unstage(block);
+        if (state != null) { // Skip blocks that have been written to since the revert
+          long key = ((long) (block.blockX() >> 4) << 32) | ((block.blockZ() >> 4) & 0xFFFFFFFFL);
+          chunks.computeIfAbsent(block.world(), w -> new HashMap<>())
+            .computeIfAbsent(key, k -> new LinkedHashMap<>()).put(block, state);
+        }
+      }
+      pendingReverts.clear();
+      var adapter = Platform.instance().nativeAdapter();
+      chunks.forEach((world, worldChunks) -> worldChunks.forEach((key, changes) -> {
+        int x = (int) (key >> 32);
+        int z = (int) key.longValue();
+        world.loadChunkAsync(x, z).thenRun(() -> adapter.setBlocksFast(world, changes));
+      }));
+    }
+
+    @Override
+    public void tick() {
+      batching = true;
+      try {
+        super.tick();
+      } finally {
+        flushReverts();
+      }
+    }
+
+    @Override
+    public boolean isTemp(@Nullable Block key) {
+      return key != null && SECTIONS.mayContain(key) && super.isTemp(key);
+    }
+
+    @Override
+    public Optional<TempBlock> get(Block key) {
+      return SECTIONS.mayContain(key) ? super.get(key) : Optional.empty();
+    }
+
+    @Override
+    public void addEntry(Block key, TempBlock value, int ticks) {
+      if (!super.isTemp(key) && ticks >= 0) {
+        SECTIONS.add(key);
+      }
+      super.addEntry(key, value, ticks);
+    }
+
+    @Override
+    public boolean removeEntry(Block key) {
+      if (super.removeEntry(key)) {
+        SECTIONS.remove(key);
+        return true;
+      }
+      return false;
+    }
+
+    @Override
+    public void removeAll() {
+      batching = true;
+      try {
+        super.removeAll();
+        SECTIONS.clear();
+      } finally {
+        flushReverts();
+      }
+    }
+  }
+
   private static final class TempBlockState extends Snapshot {
     private final int expirationTicks;
 
@@ -230,7 +351,9 @@ public final class TempBlock extends Temporary {
     }
 
     private void revert() {
-      block.world().loadChunkAsync(block).thenRun(() -> block.setState(state));
+      if (!((Manager) MANAGER).tryQueueRevert(block, state)) {
+        block.world().loadChunkAsync(block).thenRun(() -> block.setState(state));
+      }
     }
   }
 
@@ -277,6 +400,7 @@ public final class TempBlock extends Temporary {
     private boolean fixWater;
     private boolean bendable = false;
     private boolean weak = false;
+    private boolean staged = false;
     private long duration = 0;
 
     private Builder(BlockState state) {
@@ -299,6 +423,18 @@ public final class TempBlock extends Temporary {
       return this;
     }
 
+    /**
+     * Stage the block change instead of applying it immediately. Staged changes are applied
+     * together at the end of the tick, grouped by chunk section, and are visible to reads until then.
+     * @param staged whether to stage the block change
+     * @return this builder
+     * @see StagedBlocks
+     */
+    public Builder staged(boolean staged) {
+      this.staged = staged;
+      return this;
+    }
+
     public Builder duration(long duration) {
       this.duration = duration;
       return this;
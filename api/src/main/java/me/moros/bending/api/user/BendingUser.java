@@ -20,11 +20,13 @@
 package me.moros.bending.api.user;
 
 import java.util.Collection;
+import java.util.EnumSet;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiPredicate;
 
 import me.moros.bending.api.ability.AbilityDescription;
@@ -39,7 +41,9 @@ import me.moros.bending.api.gui.Board;
 import me.moros.bending.api.platform.entity.DelegateLivingEntity;
 import me.moros.bending.api.platform.entity.LivingEntity;
 import me.moros.bending.api.temporal.Cooldown;
+import me.moros.bending.api.temporal.CooldownTable;
 import me.moros.bending.api.user.profile.BenderProfile;
+import me.moros.bending.api.user.profile.BenderProfile.Part;
 import me.moros.bending.api.util.Tasker;
 import me.moros.bending.api.util.collect.ElementSet;
 import me.moros.bending.api.util.data.DataContainer;
@@ -61,9 +65,12 @@ sealed class BendingUser implements User, DelegateLivingEntity permits BendingPl
   private final ElementSet elements;
   private final SlotContainer slots;
   private final Set<Preset> presets;
+  private final CooldownTable cooldowns;
+  private final AtomicInteger dirtyParts;
 
   private boolean canBend = true;
   private int index = 1;
+  private volatile boolean storedBoard = true;
 
   protected BendingUser(Game game, LivingEntity entity) {
     this.game = game;
@@ -75,6 +82,9 @@ sealed class BendingUser implements User, DelegateLivingEntity permits BendingPl
     this.elements = ElementSet.mutable();
     this.slots = new SlotContainer();
     this.presets = ConcurrentHashMap.newKeySet(6);
+    this.cooldowns = new CooldownTable();
+    this.dirtyParts = new AtomicInteger();
+    this.cooldowns.restore(this, desc -> () -> onRemoveCooldown(desc));
   }
 
   @Override
@@ -116,6 +126,7 @@ sealed class BendingUser implements User, DelegateLivingEntity permits BendingPl
     if (!hasElement(element) && game().eventBus().postElementChangeEvent(this, element, ElementAction.ADD)) {
       boolean empty = elements.isEmpty();
       elements.add(element);
+      markDirty(Part.ELEMENTS);
       validatePassives();
       if (empty) {
         board();
@@ -130,6 +141,7 @@ sealed class BendingUser implements User, DelegateLivingEntity permits BendingPl
     if (hasElement(element) && game().eventBus().postElementChangeEvent(this, element, ElementAction.REMOVE)) {
       elements.remove(element);
       slots.validate(desc -> hasElements(desc.elements()));
+      markDirty(Part.ELEMENTS, Part.SLOTS);
       validateAbilities();
       board().updateAll();
       return true;
@@ -148,6 +160,7 @@ sealed class BendingUser implements User, DelegateLivingEntity permits BendingPl
         slots.validate(desc -> hasElements(desc.elements()));
         validateAbilities();
       }
+      markDirty(Part.ELEMENTS, Part.SLOTS);
       board().updateAll();
       return true;
     }
@@ -173,6 +186,7 @@ sealed class BendingUser implements User, DelegateLivingEntity permits BendingPl
     if (game().eventBus().postMultiBindChangeEvent(this, preset)) {
       Preset oldBinds = slots();
       slots.fromPreset(preset, this::validate);
+      markDirty(Part.SLOTS);
       board().updateAll();
       return !oldBinds.matchesBinds(slots.getArray());
     }
@@ -194,6 +208,7 @@ sealed class BendingUser implements User, DelegateLivingEntity permits BendingPl
     }
     if (game().eventBus().postSingleBindChangeEvent(this, slot, desc)) {
       slots.set(slot - 1, desc);
+      markDirty(Part.SLOTS);
       board().updateAll();
     }
   }
@@ -212,13 +227,13 @@ sealed class BendingUser implements User, DelegateLivingEntity permits BendingPl
 
   @Override
   public boolean onCooldown(AbilityDescription desc) {
-    return Cooldown.MANAGER.isTemp(Cooldown.of(this, desc));
+    return cooldowns.onCooldown(desc) || Cooldown.isUntrackedCooldown(this, desc);
   }
 
   @Override
   public boolean addCooldown(AbilityDescription desc, long duration) {
     if (duration > 0 && game().eventBus().postCooldownAddEvent(this, desc, duration)) {
-      Cooldown.of(this, desc, () -> onRemoveCooldown(desc), duration);
+      cooldowns.add(this, desc, () -> onRemoveCooldown(desc), duration);
       updateBoard(desc, true);
       return true;
     }
@@ -316,12 +331,14 @@ sealed class BendingUser implements User, DelegateLivingEntity permits BendingPl
       return PresetRegisterResult.CANCELLED;
     }
     presets.add(preset);
+    markDirty(Part.PRESETS);
     return PresetRegisterResult.SUCCESS;
   }
 
   @Override
   public boolean removePreset(Preset preset) {
     if (presets.remove(preset)) {
+      markDirty(Part.PRESETS);
       game().eventBus().postPresetUnregisterEvent(this, preset);
       return true;
     }
@@ -333,6 +350,32 @@ sealed class BendingUser implements User, DelegateLivingEntity permits BendingPl
     return BenderProfile.of(uuid(), !store().has(Board.HIDDEN), elements(), slots(), presets);
   }
 
+  @Override
+  public Set<Part> pollDirtyParts() {
+    int mask = dirtyParts.getAndSet(0);
+    // Board visibility is toggled directly through the data store so compare it to the last stored value instead
+    boolean board = !store().has(Board.HIDDEN);
+    if (board != storedBoard) {
+      storedBoard = board;
+      mask |= 1 << Part.BOARD.ordinal();
+    }
+    Set<Part> parts = EnumSet.noneOf(Part.class);
+    for (Part part : Part.values()) {
+      if ((mask & (1 << part.ordinal())) != 0) {
+        parts.add(part);
+      }
+    }
+    return parts;
+  }
+
+  private void markDirty(Part... parts) {
+    int mask = 0;
+    for (Part part : parts) {
+      mask |= 1 << part.ordinal();
+    }
+    dirtyParts.getAndAccumulate(mask, (prev, bits) -> prev | bits);
+  }
+
   @Override
   public boolean fromProfile(BenderProfile profile) {
     if (!uuid().equals(profile.uuid()) || !valid()) {
@@ -349,6 +392,8 @@ sealed class BendingUser implements User, DelegateLivingEntity permits BendingPl
     } else {
       store().add(Board.HIDDEN, true);
     }
+    storedBoard = profile.board();
+    dirtyParts.set(0);
     return true;
   }
 
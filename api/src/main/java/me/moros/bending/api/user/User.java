@@ -19,9 +19,11 @@
 
 package me.moros.bending.api.user;
 
+import java.util.Collection;
 import java.util.Locale;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Predicate;
 
@@ -232,6 +234,16 @@ public sealed interface User extends LivingEntity, ElementUser, AttributeUser, P
     return ProtectionCache.INSTANCE.canBuild(this, block);
   }
 
+  /**
+   * Checks if the user can build at all the specified block locations.
+   * @param blocks the blocks to check
+   * @return true if the user can build at every block, false otherwise
+   * @see ProtectionCache#canBuild(User, Collection)
+   */
+  default boolean canBuild(Collection<Block> blocks) {
+    return ProtectionCache.INSTANCE.canBuild(this, blocks);
+  }
+
   /**
    * Attempt to find a possible block source that matches the given predicate.
    * @param range the max range to check
@@ -257,6 +269,12 @@ public sealed interface User extends LivingEntity, ElementUser, AttributeUser, P
 
   BenderProfile toProfile();
 
+  /**
+   * Get and reset the parts of this user's profile that changed since it was last loaded or polled.
+   * @return the changed parts, empty if there are no changes to save
+   */
+  Set<BenderProfile.Part> pollDirtyParts();
+
   boolean fromProfile(BenderProfile profile);
 
   static Optional<User> create(Game game, LivingEntity entity, BenderProfile profile) {
@@ -57,6 +57,16 @@ public sealed interface BenderProfile permits BenderProfileImpl {
    */
   Map<String, Preset> presets();
 
+  /**
+   * The separately stored parts of a profile.
+   */
+  enum Part {
+    BOARD,
+    ELEMENTS,
+    SLOTS,
+    PRESETS
+  }
+
   static BenderProfile of(UUID uuid) {
     return new BenderProfileImpl(uuid, true, ElementSet.of(), Preset.empty(), Map.of());
   }
@@ -35,6 +35,7 @@ import me.moros.bending.api.platform.block.Block;
 import me.moros.bending.api.platform.particle.Particle;
 import me.moros.bending.api.platform.sound.SoundEffect;
 import me.moros.bending.api.platform.world.World;
+import me.moros.bending.api.protection.ProtectionCache;
 import me.moros.bending.api.temporal.TempBlock;
 import me.moros.bending.api.user.User;
 import me.moros.bending.api.util.material.MaterialUtil;
@@ -120,15 +121,15 @@ public final class BendingExplosion {
     }
 
     if (breakBlocks && !world.blockAt(center).type().isLiquid()) {
-      Collection<Block> filteredBlocks = blocks.stream().filter(predicate).filter(user::canBuild).toList();
+      Collection<Block> filteredBlocks = ProtectionCache.INSTANCE.filter(user, blocks.stream().filter(predicate).toList());
       ThreadLocalRandom rand = ThreadLocalRandom.current();
       for (Block block : filteredBlocks) {
-        TempBlock.air().fixWater(false).duration(BendingProperties.instance().explosionRevertTime(1000)).build(block);
+        TempBlock.air().fixWater(false).staged(true).duration(BendingProperties.instance().explosionRevertTime(1000)).build(block);
       }
       if (placeFire) {
         for (Block block : filteredBlocks) {
           if (MaterialUtil.isIgnitable(block) && rand.nextInt(3) == 0) {
-            TempBlock.fire().duration(BendingProperties.instance().fireRevertTime(1000)).build(block);
+            TempBlock.fire().staged(true).duration(BendingProperties.instance().fireRevertTime(1000)).build(block);
           }
         }
       }
@@ -1,5 +1,12 @@
 plugins {
     id("bending.base-conventions")
+    id("java-test-fixtures")
+}
+
+// Optional Vector API kernel for narrow phase collisions, only this source set is compiled with the incubator module.
+// It is loaded reflectively at runtime and a scalar fallback is used when the module is absent.
+val vector: SourceSet by sourceSets.creating {
+    compileClasspath += sourceSets.main.get().output + sourceSets.main.get().compileClasspath
 }
 
 dependencies {
@@ -15,4 +22,31 @@ dependencies {
     compileOnly(libs.flyway.core)
     compileOnly(libs.bundles.configurate)
     compileOnly(libs.bundles.cloud)
+    // Headless platform used by the simulation harness in jmh
+    testFixturesApi(libs.adventure.api)
+    testFixturesApi(libs.caffeine)
+    testFixturesImplementation(libs.adventure.minimessage)
+    testFixturesImplementation(libs.bundles.configurate)
+    testImplementation(platform(libs.junit.bom))
+    testImplementation(libs.junit.jupiter)
+    testImplementation(libs.adventure.api)
+    testImplementation(libs.caffeine)
+    testImplementation(libs.bundles.configurate)
+    testRuntimeOnly(libs.junit.platform)
+}
+
+tasks {
+    named<JavaCompile>(vector.compileJavaTaskName) {
+        options.compilerArgs.addAll(listOf("--add-modules", "jdk.incubator.vector"))
+    }
+    jar {
+        from(vector.output)
+    }
+    test {
+        useJUnitPlatform()
+        classpath += vector.output
+        jvmArgs("--add-modules=jdk.incubator.vector")
+        // Registries are global and get locked once a game loads, so test classes cannot share a JVM
+        forkEvery = 1
+    }
 }
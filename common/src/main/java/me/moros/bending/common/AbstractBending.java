@@ -130,6 +130,7 @@ public abstract class AbstractBending<T> implements Bending {
     if (game != null) {
       addonLoader.unloadAll();
       game.cleanup();
+      game.storage().flushQueue(10, TimeUnit.SECONDS);
       game.eventBus().shutdown();
       BendingMetadata.INSTANCE.clear();
       shutdownTasker();
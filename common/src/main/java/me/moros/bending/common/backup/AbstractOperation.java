@@ -19,15 +19,12 @@
 
 package me.moros.bending.common.backup;
 
-import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.LongAdder;
 
-import io.leangen.geantyref.TypeToken;
 import me.moros.bending.api.storage.BendingStorage;
-import me.moros.bending.api.user.profile.BenderProfile;
 import me.moros.bending.api.util.Tasker;
 import me.moros.bending.common.Bending;
 import me.moros.tasker.Task;
@@ -36,9 +33,6 @@ import org.jspecify.annotations.Nullable;
 abstract sealed class AbstractOperation implements Operation permits ExportOperation, ImportOperation {
   protected static final String SUFFIX = ".json.gz";
 
-  protected static final TypeToken<Map<String, BenderProfile[]>> PROFILES_TOKEN = new TypeToken<>() {
-  };
-
   protected final Bending plugin;
   protected final BendingStorage storage;
 
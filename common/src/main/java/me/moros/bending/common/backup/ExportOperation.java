@@ -20,23 +20,22 @@
 package me.moros.bending.common.backup;
 
 import java.io.BufferedWriter;
+import java.io.Closeable;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.io.UncheckedIOException;
+import java.io.Writer;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.Instant;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
-import java.util.Arrays;
-import java.util.Comparator;
-import java.util.Map;
-import java.util.Set;
-import java.util.UUID;
 import java.util.concurrent.atomic.LongAdder;
 import java.util.zip.GZIPOutputStream;
 
+import com.google.gson.stream.JsonWriter;
 import me.moros.bending.api.storage.BendingStorage;
 import me.moros.bending.api.user.profile.BenderProfile;
 import me.moros.bending.api.util.ColorPalette;
@@ -46,6 +45,8 @@ import me.moros.bending.common.storage.file.loader.JsonLoader;
 import net.kyori.adventure.audience.Audience;
 import net.kyori.adventure.text.Component;
 import org.jspecify.annotations.Nullable;
+import org.spongepowered.configurate.ConfigurationNode;
+import org.spongepowered.configurate.gson.GsonConfigurationLoader;
 
 final class ExportOperation extends AbstractOperation {
   private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd-HH-mm")
@@ -71,14 +72,18 @@ final class ExportOperation extends AbstractOperation {
       return false;
     }
     logToAudience(Component.text("Discovering users to export...", ColorPalette.NEUTRAL));
-    BenderProfile[] profiles = loadUsers();
-    if (profiles.length == 0) {
+    int total = storage.countProfiles();
+    logToAudience(Component.text("Found %d users to export.".formatted(total), ColorPalette.NEUTRAL));
+    if (total == 0) {
       return false;
     }
-    // Sort to ensure reproducible order and checksum
-    Arrays.parallelSort(profiles, Comparator.comparing(BenderProfile::uuid));
-    saveToFile(profiles);
-    return true;
+    LongAdder progress = new LongAdder();
+    var checker = createProgressCheckingTask(progress, total);
+    try {
+      return saveToFile(progress) > 0;
+    } finally {
+      checker.cancel();
+    }
   }
 
   @Override
@@ -98,31 +103,94 @@ final class ExportOperation extends AbstractOperation {
     }
   }
 
-  private void saveToFile(BenderProfile[] data) {
+  private int saveToFile(LongAdder progress) {
+    // Profiles are paged in ascending uuid order, which keeps the output and its checksum reproducible,
+    // and streamed straight into the file
     try (var fos = Files.newOutputStream(path);
-         var gos = new GZIPOutputStream(fos);
-         var osw = new OutputStreamWriter(gos, StandardCharsets.UTF_8);
-         var writer = new BufferedWriter(osw)
+         var writer = new ProfileWriter(fos)
     ) {
-      var loader = new JsonLoader().withSerializers().lenient(false).indent(0).sink(() -> writer).build();
-      loader.save(loader.createNode(n -> n.set(PROFILES_TOKEN, Map.of("users", data))));
+      int count = storage.forEachProfile(profile -> {
+        try {
+          writer.write(profile);
+        } catch (IOException e) {
+          throw new UncheckedIOException(e);
+        }
+        progress.increment();
+      });
+      writer.finish();
+      return count;
     } catch (IOException e) {
       throw new UncheckedIOException(e);
     }
   }
 
-  private BenderProfile[] loadUsers() {
-    final Set<UUID> uuids = storage.loadUuids();
-    final int size = uuids.size();
-    logToAudience(Component.text("Found %d users to export.".formatted(size), ColorPalette.NEUTRAL));
+  /**
+   * Writes profiles as a gzip compressed json document, one at a time.
+   * The output matches that of the gson configuration loader so exports remain byte compatible.
+   */
+  static final class ProfileWriter implements Closeable {
+    private final GsonConfigurationLoader loader;
+    private final Writer writer;
+    private final JsonWriter json;
 
-    LongAdder progress = new LongAdder();
-    var checker = createProgressCheckingTask(progress, size);
-    return storage.loadProfilesAsync(uuids, progress)
-      .handle((result, t) -> {
-        checker.cancel();
-        return result == null ? new BenderProfile[0] : result.values().toArray(BenderProfile[]::new);
-      }).join();
+    ProfileWriter(OutputStream out) throws IOException {
+      this.loader = new JsonLoader().withSerializers().lenient(false).indent(0).build();
+      this.writer = new BufferedWriter(new OutputStreamWriter(new GZIPOutputStream(out), StandardCharsets.UTF_8));
+      this.json = new JsonWriter(writer);
+      json.beginObject().name("users").beginArray();
+    }
+
+    void write(BenderProfile profile) throws IOException {
+      write(loader.createNode(n -> n.set(BenderProfile.class, profile)));
+    }
+
+    // Each node is written the same way the loader writes the root node of a document
+    void write(ConfigurationNode node) throws IOException {
+      if (node.empty()) {
+        json.beginObject().endObject();
+      } else {
+        writeNode(json, node);
+      }
+    }
+
+    void finish() throws IOException {
+      json.endArray().endObject();
+      json.flush();
+      writer.write(System.lineSeparator());
+    }
+
+    @Override
+    public void close() throws IOException {
+      json.close();
+    }
+
+    private static void writeNode(JsonWriter json, ConfigurationNode node) throws IOException {
+      if (node.isMap()) {
+        json.beginObject();
+        for (var entry : node.childrenMap().entrySet()) {
+          json.name(entry.getKey().toString());
+          writeNode(json, entry.getValue());
+        }
+        json.endObject();
+      } else if (node.isList()) {
+        json.beginArray();
+        for (var child : node.childrenList()) {
+          writeNode(json, child);
+        }
+        json.endArray();
+      } else {
+        Object value = node.rawScalar();
+        if (value == null) {
+          json.nullValue();
+        } else if (value instanceof Double || value instanceof Float || value instanceof Long || value instanceof Integer) {
+          json.value((Number) value);
+        } else if (value instanceof Boolean bool) {
+          json.value(bool);
+        } else {
+          json.value(value.toString());
+        }
+      }
+    }
   }
 
   @Override
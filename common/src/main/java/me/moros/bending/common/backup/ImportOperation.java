@@ -20,21 +20,25 @@
 package me.moros.bending.common.backup;
 
 import java.io.BufferedReader;
+import java.io.FilterInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.Arrays;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.LongAdder;
-import java.util.function.Function;
-import java.util.stream.Collectors;
 import java.util.zip.GZIPInputStream;
 
+import com.google.gson.stream.JsonReader;
 import me.moros.bending.api.registry.Registries;
 import me.moros.bending.api.storage.BendingStorage;
+import me.moros.bending.api.user.User;
 import me.moros.bending.api.user.profile.BenderProfile;
 import me.moros.bending.api.util.ColorPalette;
 import me.moros.bending.common.Bending;
@@ -43,8 +47,11 @@ import me.moros.bending.common.storage.file.loader.JsonLoader;
 import net.kyori.adventure.audience.Audience;
 import net.kyori.adventure.text.Component;
 import org.jspecify.annotations.Nullable;
+import org.spongepowered.configurate.ConfigurationNode;
 
 final class ImportOperation extends AbstractOperation {
+  private static final int BATCH_SIZE = 256;
+
   private final Audience audience;
   private final Path path;
 
@@ -61,12 +68,14 @@ final class ImportOperation extends AbstractOperation {
       return false;
     }
     logToAudience(Component.text("Reading data to import...", ColorPalette.NEUTRAL));
-    BenderProfile[] profiles = loadFromFile(path);
-    if (profiles.length == 0) {
-      return false;
+    // The amount of users is unknown until the file is fully read so progress is tracked in compressed kilobytes
+    LongAdder progress = new LongAdder();
+    var checker = createProgressCheckingTask(progress, (int) Math.max(1, fileSize() >> 10));
+    try {
+      return importFromFile(progress);
+    } finally {
+      checker.cancel();
     }
-    logToAudience(Component.text("Found %d users to import.".formatted(profiles.length), ColorPalette.NEUTRAL));
-    return saveUsers(profiles);
   }
 
   @Override
@@ -82,40 +91,91 @@ final class ImportOperation extends AbstractOperation {
     }
   }
 
-  private BenderProfile[] loadFromFile(Path path) {
+  private long fileSize() {
+    try {
+      return Files.size(path);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private boolean importFromFile(LongAdder progress) {
     try (var fis = Files.newInputStream(path);
-         var gis = new GZIPInputStream(fis);
+         var cis = new CountingInputStream(fis, progress);
+         var gis = new GZIPInputStream(cis);
          var isr = new InputStreamReader(gis, StandardCharsets.UTF_8);
-         var reader = new BufferedReader(isr)
+         var reader = new BufferedReader(isr);
+         var json = new JsonReader(reader)
     ) {
-      var loader = new JsonLoader().withSerializers().lenient(false).indent(0).source(() -> reader).build();
-      return loader.load().get(PROFILES_TOKEN, Map.of()).getOrDefault("users", new BenderProfile[0]);
+      var loader = new JsonLoader().withSerializers().lenient(false).indent(0).build();
+      BatchWriter writer = new BatchWriter();
+      json.beginObject();
+      while (json.hasNext()) {
+        if (!"users".equals(json.nextName())) {
+          json.skipValue();
+          continue;
+        }
+        // Pull one user entry at a time instead of deserializing the whole file
+        json.beginArray();
+        while (json.hasNext()) {
+          ConfigurationNode node = loader.createNode();
+          readNode(json, node);
+          BenderProfile profile = node.get(BenderProfile.class);
+          if (profile != null) {
+            writer.add(profile);
+          }
+        }
+        json.endArray();
+      }
+      json.endObject();
+      boolean result = writer.finish();
+      logToAudience(Component.text("Found %d users to import.".formatted(writer.count), ColorPalette.NEUTRAL));
+      return result;
     } catch (IOException e) {
       throw new UncheckedIOException(e);
     }
   }
 
-  private boolean saveUsers(BenderProfile[] profiles) {
-    LongAdder progress = new LongAdder();
-    var checker = createProgressCheckingTask(progress, profiles.length);
-    return storage.saveProfilesAsync(Arrays.asList(profiles), progress)
-      .whenComplete((result, t) -> {
-        checker.cancel();
-        if (Boolean.TRUE.equals(result)) {
-          updateOnline(profiles);
+  // Matches how the gson configuration loader builds nodes, numbers are parsed from their string form to keep precision
+  private static void readNode(JsonReader json, ConfigurationNode node) throws IOException {
+    switch (json.peek()) {
+      case BEGIN_OBJECT -> {
+        json.beginObject();
+        node.raw(Map.of());
+        while (json.hasNext()) {
+          readNode(json, node.node(json.nextName()));
+        }
+        json.endObject();
+      }
+      case BEGIN_ARRAY -> {
+        json.beginArray();
+        node.raw(List.of());
+        while (json.hasNext()) {
+          readNode(json, node.appendListNode());
         }
-      }).join();
+        json.endArray();
+      }
+      case NUMBER -> node.raw(readNumber(json));
+      case STRING -> node.raw(json.nextString());
+      case BOOLEAN -> node.raw(json.nextBoolean());
+      case NULL -> {
+        json.nextNull();
+        node.raw(null);
+      }
+      default -> throw new IOException("Unexpected token " + json.peek() + " at " + json.getPath());
+    }
   }
 
-  private void updateOnline(BenderProfile[] profiles) {
-    var map = Arrays.stream(profiles).collect(Collectors.toMap(BenderProfile::uuid, Function.identity()));
-    var online = Registries.BENDERS.stream().toList();
-    for (var user : online) {
-      BenderProfile updatedProfile = map.get(user.uuid());
-      if (updatedProfile != null) {
-        user.fromProfile(updatedProfile);
-      }
+  private static Number readNumber(JsonReader json) throws IOException {
+    String value = json.nextString();
+    if (value.contains(".")) {
+      return Double.parseDouble(value);
     }
+    long longValue = Long.parseLong(value);
+    if ((int) longValue == longValue) {
+      return (int) longValue;
+    }
+    return longValue;
   }
 
   @Override
@@ -127,4 +187,90 @@ final class ImportOperation extends AbstractOperation {
   private void logToAudience(Component msg) {
     audience.sendMessage(Message.brand(msg));
   }
+
+  // Writes a batch while the next one is being read, at most two batches are kept in memory
+  private final class BatchWriter {
+    private List<BenderProfile> batch = new ArrayList<>(BATCH_SIZE);
+    private CompletableFuture<Boolean> pending = CompletableFuture.completedFuture(true);
+    private boolean successful = true;
+    private int count;
+
+    private void add(BenderProfile profile) {
+      batch.add(profile);
+      if (batch.size() >= BATCH_SIZE) {
+        submit();
+      }
+    }
+
+    private void submit() {
+      successful &= Boolean.TRUE.equals(pending.join());
+      List<BenderProfile> profiles = batch;
+      batch = new ArrayList<>(BATCH_SIZE);
+      count += profiles.size();
+      pending = storage.saveProfilesAsync(profiles).thenApply(result -> {
+        if (Boolean.TRUE.equals(result)) {
+          updateOnline(profiles);
+        }
+        return result;
+      });
+    }
+
+    private boolean finish() {
+      if (!batch.isEmpty()) {
+        submit();
+      }
+      successful &= Boolean.TRUE.equals(pending.join());
+      return count > 0 && successful;
+    }
+  }
+
+  private static void updateOnline(List<BenderProfile> profiles) {
+    for (BenderProfile profile : profiles) {
+      User user = Registries.BENDERS.get(profile.uuid());
+      if (user != null) {
+        user.fromProfile(profile);
+      }
+    }
+  }
+
+  private static final class CountingInputStream extends FilterInputStream {
+    private final LongAdder kilobytes;
+    private long bytes;
+
+    private CountingInputStream(InputStream in, LongAdder kilobytes) {
+      super(in);
+      this.kilobytes = kilobytes;
+    }
+
+    private void count(long read) {
+      if (read > 0) {
+        long previous = bytes >> 10;
+        bytes += read;
+        kilobytes.add((bytes >> 10) - previous);
+      }
+    }
+
+    @Override
+    public int read() throws IOException {
+      int value = super.read();
+      if (value != -1) {
+        count(1);
+      }
+      return value;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+      int read = super.read(b, off, len);
+      count(read);
+      return read;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+      long skipped = super.skip(n);
+      count(skipped);
+      return skipped;
+    }
+  }
 }
@@ -38,6 +38,13 @@ public final class AABBUtil {
     );
   }
 
+  public static double surfaceArea(AABB box) {
+    double dx = box.max().x() - box.min().x();
+    double dy = box.max().y() - box.min().y();
+    double dz = box.max().z() - box.min().z();
+    return 2 * (dx * dy + dy * dz + dz * dx);
+  }
+
   public static AABB combine(Collection<Collider> colliders) {
     double minX = Double.POSITIVE_INFINITY;
     double minY = Double.POSITIVE_INFINITY;
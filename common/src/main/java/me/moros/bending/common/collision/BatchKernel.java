@@ -0,0 +1,54 @@
+/*
+ * Copyright 2020-2026 Moros
+ *
+ * This file is part of Bending.
+ *
+ * Bending is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Bending is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bending. If not, see <https://www.gnu.org/licenses/>.
+ */
+package me.moros.bending.common.collision;
+
+import me.moros.bending.common.collision.ColliderBatch.Buffer;
+
+/**
+ * Tests a single probe collider against packed collider buffers.
+ * Each method returns the first matching buffer index or -1 if there is no intersection.
+ * Comparisons mirror the scalar resolvers used by {@link me.moros.bending.api.collision.geometry.Collider#intersects}.
+ */
+interface BatchKernel {
+  BatchKernel INSTANCE = load();
+
+  int sphereVsSpheres(double x, double y, double z, double r, Buffer spheres);
+
+  int sphereVsBoxes(double x, double y, double z, double r, Buffer boxes);
+
+  int sphereVsRays(double x, double y, double z, double r, Buffer rays);
+
+  int boxVsSpheres(double minX, double minY, double minZ, double maxX, double maxY, double maxZ, Buffer spheres);
+
+  int boxVsBoxes(double minX, double minY, double minZ, double maxX, double maxY, double maxZ, Buffer boxes);
+
+  int boxVsRays(double minX, double minY, double minZ, double maxX, double maxY, double maxZ, Buffer rays);
+
+  private static BatchKernel load() {
+    if (ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent()) {
+      try {
+        // Load reflectively so the incubator classes are never linked when the module is absent
+        Class<?> type = Class.forName("me.moros.bending.common.collision.VectorKernel");
+        return (BatchKernel) type.getDeclaredConstructor().newInstance();
+      } catch (ReflectiveOperationException | LinkageError ignore) {
+      }
+    }
+    return ScalarKernel.INSTANCE;
+  }
+}
@@ -0,0 +1,238 @@
+/*
+ * Copyright 2020-2026 Moros
+ *
+ * This file is part of Bending.
+ *
+ * Bending is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Bending is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bending. If not, see <https://www.gnu.org/licenses/>.
+ */
+package me.moros.bending.common.collision;
+
+import java.util.Arrays;
+
+import me.moros.bending.api.collision.geometry.AABB;
+import me.moros.bending.api.collision.geometry.Collider;
+import me.moros.bending.api.collision.geometry.Ray;
+import me.moros.bending.api.collision.geometry.Sphere;
+import me.moros.math.Vector3d;
+
+/**
+ * A reusable batch of colliders for narrow phase collision detection.
+ * Spheres, AABBs and rays are packed into structure-of-arrays buffers so that a single collider can be tested
+ * against all of them at once. Other collider types are resolved through {@link Collider#intersects(Collider)}.
+ * Instances are not thread-safe.
+ */
+public final class ColliderBatch {
+  private static final int DEFAULT_CAPACITY = 16;
+
+  private Collider[] colliders;
+  private int size;
+
+  // Spheres: center and radius
+  final Buffer spheres;
+  // AABBs: min and max
+  final Buffer boxes;
+  // Rays: origin, direction and inverse direction
+  final Buffer rays;
+  private int[] others;
+  private int otherSize;
+
+  public ColliderBatch() {
+    this.colliders = new Collider[DEFAULT_CAPACITY];
+    this.spheres = new Buffer(4);
+    this.boxes = new Buffer(6);
+    this.rays = new Buffer(9);
+    this.others = new int[DEFAULT_CAPACITY];
+  }
+
+  public int size() {
+    return size;
+  }
+
+  public Collider get(int index) {
+    return colliders[index];
+  }
+
+  public void clear() {
+    Arrays.fill(colliders, 0, size, null);
+    size = 0;
+    spheres.size = 0;
+    boxes.size = 0;
+    rays.size = 0;
+    otherSize = 0;
+  }
+
+  public ColliderBatch addAll(Iterable<Collider> colliders) {
+    for (Collider collider : colliders) {
+      add(collider);
+    }
+    return this;
+  }
+
+  public ColliderBatch add(Collider collider) {
+    if (size == colliders.length) {
+      colliders = Arrays.copyOf(colliders, size << 1);
+    }
+    int index = size++;
+    colliders[index] = collider;
+    if (collider == AABB.dummy()) {
+      addOther(index);
+      return this;
+    }
+    switch (collider) {
+      case Sphere s -> {
+        int slot = spheres.next(index);
+        spheres.set(slot, s.position());
+        spheres.components[3][slot] = s.radius();
+      }
+      case AABB b -> {
+        int slot = boxes.next(index);
+        boxes.set(slot, b.min(), b.max());
+      }
+      case Ray r -> {
+        int slot = rays.next(index);
+        rays.set(slot, r.position(), r.direction(), r.inv());
+      }
+      default -> addOther(index);
+    }
+    return this;
+  }
+
+  private void addOther(int index) {
+    if (otherSize == others.length) {
+      others = Arrays.copyOf(others, otherSize << 1);
+    }
+    others[otherSize++] = index;
+  }
+
+  /**
+   * Find the first collider in this batch, in insertion order, that intersects the given collider.
+   * @param probe the collider to test against this batch
+   * @return the index of the first intersecting collider or -1 if none is found
+   */
+  public int firstIntersection(Collider probe) {
+    if (size == 0 || probe == AABB.dummy()) {
+      return -1;
+    }
+    return switch (probe) {
+      case Sphere s -> firstSphereIntersection(s);
+      case AABB b -> firstBoxIntersection(b);
+      default -> firstScalarIntersection(probe);
+    };
+  }
+
+  private int firstSphereIntersection(Sphere probe) {
+    Vector3d c = probe.position();
+    double x = c.x();
+    double y = c.y();
+    double z = c.z();
+    double r = probe.radius();
+    BatchKernel kernel = BatchKernel.INSTANCE;
+    int result = spheres.mapIndex(kernel.sphereVsSpheres(x, y, z, r, spheres));
+    result = min(result, boxes.mapIndex(kernel.sphereVsBoxes(x, y, z, r, boxes)));
+    result = min(result, rays.mapIndex(kernel.sphereVsRays(x, y, z, r, rays)));
+    return min(result, firstOtherIntersection(probe));
+  }
+
+  private int firstBoxIntersection(AABB probe) {
+    Vector3d min = probe.min();
+    Vector3d max = probe.max();
+    double minX = min.x();
+    double minY = min.y();
+    double minZ = min.z();
+    double maxX = max.x();
+    double maxY = max.y();
+    double maxZ = max.z();
+    BatchKernel kernel = BatchKernel.INSTANCE;
+    int result = spheres.mapIndex(kernel.boxVsSpheres(minX, minY, minZ, maxX, maxY, maxZ, spheres));
+    result = min(result, boxes.mapIndex(kernel.boxVsBoxes(minX, minY, minZ, maxX, maxY, maxZ, boxes)));
+    result = min(result, rays.mapIndex(kernel.boxVsRays(minX, minY, minZ, maxX, maxY, maxZ, rays)));
+    return min(result, firstOtherIntersection(probe));
+  }
+
+  private int firstOtherIntersection(Collider probe) {
+    for (int i = 0; i < otherSize; i++) {
+      int index = others[i];
+      if (probe.intersects(colliders[index])) {
+        return index;
+      }
+    }
+    return -1;
+  }
+
+  private int firstScalarIntersection(Collider probe) {
+    for (int i = 0; i < size; i++) {
+      if (probe.intersects(colliders[i])) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  private static int min(int first, int second) {
+    if (first < 0) {
+      return second;
+    }
+    return second < 0 ? first : Math.min(first, second);
+  }
+
+  /**
+   * Structure-of-arrays buffer, each component is stored in its own array.
+   */
+  static final class Buffer {
+    final double[][] components;
+    int[] indices;
+    int size;
+
+    private Buffer(int components) {
+      this.components = new double[components][DEFAULT_CAPACITY];
+      this.indices = new int[DEFAULT_CAPACITY];
+    }
+
+    private int next(int index) {
+      if (size == indices.length) {
+        int capacity = size << 1;
+        indices = Arrays.copyOf(indices, capacity);
+        for (int i = 0; i < components.length; i++) {
+          components[i] = Arrays.copyOf(components[i], capacity);
+        }
+      }
+      indices[size] = index;
+      return size++;
+    }
+
+    private void set(int slot, Vector3d first) {
+      components[0][slot] = first.x();
+      components[1][slot] = first.y();
+      components[2][slot] = first.z();
+    }
+
+    private void set(int slot, Vector3d first, Vector3d second) {
+      set(slot, first);
+      components[3][slot] = second.x();
+      components[4][slot] = second.y();
+      components[5][slot] = second.z();
+    }
+
+    private void set(int slot, Vector3d first, Vector3d second, Vector3d third) {
+      set(slot, first, second);
+      components[6][slot] = third.x();
+      components[7][slot] = third.y();
+      components[8][slot] = third.z();
+    }
+
+    private int mapIndex(int bufferIndex) {
+      return bufferIndex < 0 ? -1 : indices[bufferIndex];
+    }
+  }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2020-2026 Moros
+ *
+ * This file is part of Bending.
+ *
+ * Bending is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Bending is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bending. If not, see <https://www.gnu.org/licenses/>.
+ */
+package me.moros.bending.common.collision;
+
+import me.moros.bending.api.ability.AbilityDescription;
+import me.moros.bending.api.collision.CollisionPair;
+
+/**
+ * Dense lookup table for registered collisions, indexed by {@link AbilityDescription#id()}.
+ * Should only be created once the collision registry is locked.
+ */
+public final class CollisionMatrix {
+  private static final byte PRESENT = 1;
+  private static final byte REMOVE_FIRST = 1 << 1;
+  private static final byte REMOVE_SECOND = 1 << 2;
+
+  private final int size;
+  private final byte[] flags;
+  private final boolean[] collidable;
+
+  private CollisionMatrix(int size) {
+    this.size = size;
+    this.flags = new byte[size * size];
+    this.collidable = new boolean[size];
+  }
+
+  private void put(CollisionPair pair) {
+    int first = pair.first().id();
+    int second = pair.second().id();
+    set(first, second, pair.removeFirst(), pair.removeSecond());
+    if (first != second) {
+      set(second, first, pair.removeSecond(), pair.removeFirst());
+    }
+    collidable[first] = true;
+    collidable[second] = true;
+  }
+
+  private void set(int first, int second, boolean removeFirst, boolean removeSecond) {
+    int idx = first * size + second;
+    flags[idx] = (byte) (PRESENT | (removeFirst ? REMOVE_FIRST : 0) | (removeSecond ? REMOVE_SECOND : 0));
+  }
+
+  private int index(AbilityDescription first, AbilityDescription second) {
+    int f = first.id();
+    int s = second.id();
+    return (f < size && s < size) ? f * size + s : -1;
+  }
+
+  /**
+   * Check if the given ability is part of at least one registered collision.
+   * @param desc the ability to check
+   * @return true if the ability can collide with any other ability, false otherwise
+   */
+  public boolean hasCollisions(AbilityDescription desc) {
+    int id = desc.id();
+    return id < size && collidable[id];
+  }
+
+  /**
+   * Get the packed collision flags between the given abilities, oriented so that the first flag refers to the first ability.
+   * @param first the first ability
+   * @param second the second ability
+   * @return the packed flags, 0 if no collision is registered
+   * @see #isPresent(int)
+   * @see #removeFirst(int)
+   * @see #removeSecond(int)
+   */
+  public int flags(AbilityDescription first, AbilityDescription second) {
+    int idx = index(first, second);
+    return idx < 0 ? 0 : flags[idx];
+  }
+
+  public static boolean isPresent(int flags) {
+    return (flags & PRESENT) != 0;
+  }
+
+  public static boolean removeFirst(int flags) {
+    return (flags & REMOVE_FIRST) != 0;
+  }
+
+  public static boolean removeSecond(int flags) {
+    return (flags & REMOVE_SECOND) != 0;
+  }
+
+  public static CollisionMatrix create(Iterable<CollisionPair> collisions) {
+    int size = 0;
+    for (CollisionPair pair : collisions) {
+      size = Math.max(size, Math.max(pair.first().id(), pair.second().id()) + 1);
+    }
+    CollisionMatrix matrix = new CollisionMatrix(size);
+    for (CollisionPair pair : collisions) {
+      matrix.put(pair);
+    }
+    return matrix;
+  }
+}
@@ -19,13 +19,10 @@
 
 package me.moros.bending.common.collision;
 
-import me.moros.bending.common.collision.CollisionQuery.Pair;
-import me.moros.bending.common.collision.CollisionQueryImpl.SimplePair;
+public interface CollisionQuery<E> {
+  int size();
 
-public interface CollisionQuery<E> extends Iterable<Pair<E>> {
-  sealed interface Pair<E> permits SimplePair {
-    E first();
+  E first(int index);
 
-    E second();
-  }
+  E second(int index);
 }
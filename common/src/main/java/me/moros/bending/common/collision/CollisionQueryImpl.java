@@ -19,54 +19,54 @@
 
 package me.moros.bending.common.collision;
 
-import java.util.Collection;
-import java.util.HashSet;
-import java.util.Iterator;
+import java.util.Arrays;
+import java.util.function.IntFunction;
 
-record CollisionQueryImpl<E>(Collection<Pair<E>> potentialCollisions) implements CollisionQuery<E> {
-  CollisionQueryImpl() {
-    this(new HashSet<>(32));
+/**
+ * Stores potential collisions as packed pairs of leaf indices.
+ * Pairs are emitted in order (first index is always lower) so no deduplication is needed.
+ */
+final class CollisionQueryImpl<E> implements CollisionQuery<E> {
+  private static final int DEFAULT_CAPACITY = 32;
+
+  private final IntFunction<E> lookup;
+  private long[] pairs;
+  private int size;
+
+  CollisionQueryImpl(IntFunction<E> lookup) {
+    this.lookup = lookup;
+    this.pairs = new long[DEFAULT_CAPACITY];
   }
 
-  void add(E first, E second) {
-    potentialCollisions.add(new SimplePair<>(first, second));
+  void add(int first, int second) {
+    ensureCapacity(size + 1);
+    pairs[size++] = ((long) first << 32) | (second & 0xFFFFFFFFL);
   }
 
-  @Override
-  public Iterator<Pair<E>> iterator() {
-    return new Itr<>(potentialCollisions.iterator());
+  void merge(CollisionQueryImpl<E> other) {
+    ensureCapacity(size + other.size);
+    System.arraycopy(other.pairs, 0, pairs, size, other.size);
+    size += other.size;
   }
 
-  record SimplePair<E>(E first, E second) implements Pair<E> {
-    @Override
-    public boolean equals(Object obj) {
-      if (this == obj) {
-        return true;
-      }
-      if (obj == null || getClass() != obj.getClass()) {
-        return false;
-      }
-      SimplePair<?> other = (SimplePair<?>) obj;
-      return (first == other.first && second == other.second) || (first == other.second && second == other.first);
+  private void ensureCapacity(int minCapacity) {
+    if (minCapacity > pairs.length) {
+      pairs = Arrays.copyOf(pairs, Math.max(minCapacity, pairs.length << 1));
     }
+  }
 
-    @Override
-    public int hashCode() {
-      int maxHash = Math.max(first.hashCode(), second.hashCode());
-      int minHash = Math.min(first.hashCode(), second.hashCode());
-      return 31 * minHash + maxHash;
-    }
+  @Override
+  public int size() {
+    return size;
   }
 
-  record Itr<E>(Iterator<E> iterator) implements Iterator<E> {
-    @Override
-    public boolean hasNext() {
-      return iterator.hasNext();
-    }
+  @Override
+  public E first(int index) {
+    return lookup.apply((int) (pairs[index] >> 32));
+  }
 
-    @Override
-    public E next() {
-      return iterator.next();
-    }
+  @Override
+  public E second(int index) {
+    return lookup.apply((int) pairs[index]);
   }
 }
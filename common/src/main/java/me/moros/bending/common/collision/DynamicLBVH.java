@@ -0,0 +1,116 @@
+/*
+ * Copyright 2020-2026 Moros
+ *
+ * This file is part of Bending.
+ *
+ * Bending is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Bending is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bending. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package me.moros.bending.common.collision;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A persistent {@link LBVH} that is refitted in place as long as the same elements are provided in the same order.
+ * The tree is only rebuilt when the element set changes or when its quality degrades past a threshold.
+ * @param <K> the type of key used to identify elements across updates, compared by identity
+ * @param <E> the type of elements
+ */
+public final class DynamicLBVH<K, E extends Boundable & MortonEncoded> {
+  private static final double REBUILD_THRESHOLD = 1.5;
+
+  private final Function<E, K> keyMapper;
+  private final boolean parallel;
+
+  private @Nullable LBVH<E> tree;
+  private Object[] keys; // Keys in leaf order
+  private int[] leafOrder; // Maps input index to leaf index
+  private double baseCost;
+
+  public DynamicLBVH(Function<E, K> keyMapper) {
+    this(keyMapper, false);
+  }
+
+  public DynamicLBVH(Function<E, K> keyMapper, boolean parallel) {
+    this.keyMapper = keyMapper;
+    this.parallel = parallel;
+    this.keys = new Object[0];
+    this.leafOrder = new int[0];
+  }
+
+  /**
+   * Update the tree with the given elements. Elements must contain at least 2 entries.
+   * If the tree needs to be rebuilt, the provided array will be sorted in place.
+   * @param elements the elements for the current tick
+   * @return the updated tree
+   */
+  public LBVH<E> update(E[] elements) {
+    LBVH<E> current = tree;
+    if (current == null || !tryRefit(current, elements)) {
+      current = rebuild(elements);
+    }
+    return current;
+  }
+
+  private boolean tryRefit(LBVH<E> current, E[] elements) {
+    int length = elements.length;
+    if (length != keys.length) {
+      return false;
+    }
+    for (int i = 0; i < length; i++) {
+      if (keys[leafOrder[i]] != keyMapper.apply(elements[i])) {
+        return false;
+      }
+    }
+    for (int i = 0; i < length; i++) {
+      current.updateLeaf(leafOrder[i], elements[i]);
+    }
+    return current.refit() <= baseCost * REBUILD_THRESHOLD;
+  }
+
+  private LBVH<E> rebuild(E[] elements) {
+    int length = elements.length;
+    Map<E, Integer> inputOrder = new IdentityHashMap<>(length);
+    for (int i = 0; i < length; i++) {
+      inputOrder.put(elements[i], i);
+    }
+    LBVH<E> result = LBVH.buildTree(elements, parallel);
+    Object[] newKeys = new Object[length];
+    int[] newLeafOrder = new int[length];
+    for (int leaf = 0; leaf < length; leaf++) {
+      E element = elements[leaf];
+      newKeys[leaf] = keyMapper.apply(element);
+      newLeafOrder[inputOrder.get(element)] = leaf;
+    }
+    this.tree = result;
+    this.keys = newKeys;
+    this.leafOrder = newLeafOrder;
+    this.baseCost = result.cost();
+    return result;
+  }
+
+  /**
+   * Discard the current tree and release any references to its elements.
+   */
+  public void clear() {
+    this.tree = null;
+    this.keys = new Object[0];
+    this.leafOrder = new int[0];
+    this.baseCost = 0;
+  }
+}
@@ -21,18 +21,29 @@ package me.moros.bending.common.collision;
 
 import java.util.Arrays;
 import java.util.Comparator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.stream.IntStream;
 
 import me.moros.bending.api.collision.geometry.AABB;
 import org.jspecify.annotations.Nullable;
 
 //https://developer.nvidia.com/blog/thinking-parallel-part-iii-tree-construction-gpu/
 public class LBVH<E extends Boundable> {
+  /**
+   * Minimum amount of elements required before construction and queries are split across the common pool.
+   */
+  public static final int PARALLEL_THRESHOLD = 1024;
+  private static final int PARALLEL_DEPTH = 6;
+
   private final Node<E>[] treeNodes;
   private final Node<E>[] leafNodes;
+  private final boolean parallel;
 
-  private LBVH(Node<E>[] treeNodes, Node<E>[] leafNodes) {
+  private LBVH(Node<E>[] treeNodes, Node<E>[] leafNodes, boolean parallel) {
     this.treeNodes = treeNodes;
     this.leafNodes = leafNodes;
+    this.parallel = parallel;
   }
 
   public int size() {
@@ -43,40 +54,97 @@ public class LBVH<E extends Boundable> {
     return treeNodes[0];
   }
 
+  void updateLeaf(int index, E element) {
+    Node<E> node = leafNodes[index];
+    node.element = element;
+    node.box = element.box();
+  }
+
+  /**
+   * Recalculate all internal volumes bottom-up while keeping the existing topology.
+   * @return the new tree cost
+   */
+  double refit() {
+    calculateVolumeHierarchy(root(), parallel);
+    return cost();
+  }
+
+  /**
+   * Calculate the sum of surface areas of all internal nodes.
+   * Used as a heuristic for tree quality, lower values indicate tighter trees.
+   * @return the tree cost
+   */
+  double cost() {
+    double cost = 0;
+    for (Node<E> node : treeNodes) {
+      cost += AABBUtil.surfaceArea(node.box);
+    }
+    return cost;
+  }
+
+  private E leaf(int index) {
+    return leafNodes[index].element;
+  }
+
   public CollisionQuery<E> queryAll() {
-    CollisionQueryImpl<E> result = new CollisionQueryImpl<>();
     Node<E> root = root();
-    for (var leaf : leafNodes) {
-      recursiveQuery(leaf.element, root, result);
+    if (parallel) {
+      CollisionQueryImpl<E> result = IntStream.range(0, leafNodes.length).parallel()
+        .collect(() -> new CollisionQueryImpl<>(this::leaf), (r, i) -> queryLeaf(i, root, r), CollisionQueryImpl::merge);
+      return result;
+    }
+    CollisionQueryImpl<E> result = new CollisionQueryImpl<>(this::leaf);
+    for (int i = 0; i < leafNodes.length; i++) {
+      queryLeaf(i, root, result);
     }
     return result;
   }
 
   public CollisionQuery<E> query(E element) {
-    CollisionQueryImpl<E> result = new CollisionQueryImpl<>();
-    Node<E> root = root();
-    recursiveQuery(element, root, result);
+    // Probe element is not part of the tree, it is mapped to index -1 which precedes every leaf
+    CollisionQueryImpl<E> result = new CollisionQueryImpl<>(i -> i < 0 ? element : leaf(i));
+    recursiveQuery(-1, element, root(), result);
     return result;
   }
 
-  private void recursiveQuery(E toCheck, Node<E> node, CollisionQueryImpl<E> potential) {
-    if (node.element == toCheck) {
+  private void queryLeaf(int index, Node<E> root, CollisionQueryImpl<E> potential) {
+    recursiveQuery(index, leaf(index), root, potential);
+  }
+
+  // Only pairs with a higher leaf index are emitted so each pair is found exactly once
+  private void recursiveQuery(int index, E toCheck, Node<E> node, CollisionQueryImpl<E> potential) {
+    if (node.last <= index || node.element == toCheck) {
       return;
     }
     if (toCheck.box().intersects(node.box)) {
       if (node.element != null) {
-        potential.add(toCheck, node.element);
+        potential.add(index, node.last);
       } else {
-        recursiveQuery(toCheck, node.left, potential);
-        recursiveQuery(toCheck, node.right, potential);
+        recursiveQuery(index, toCheck, node.left, potential);
+        recursiveQuery(index, toCheck, node.right, potential);
       }
     }
   }
 
-  @SuppressWarnings("unchecked")
   public static <E extends Boundable & MortonEncoded> LBVH<E> buildTree(E[] elements) {
-    Arrays.sort(elements, Comparator.comparingInt(MortonEncoded::morton));
+    return buildTree(elements, false);
+  }
+
+  /**
+   * Build a new tree for the given elements. The provided array will be sorted in place.
+   * @param elements the elements to build the tree for
+   * @param parallel whether to use the common pool when the amount of elements exceeds {@link #PARALLEL_THRESHOLD}
+   * @return the constructed tree
+   */
+  @SuppressWarnings("unchecked")
+  public static <E extends Boundable & MortonEncoded> LBVH<E> buildTree(E[] elements, boolean parallel) {
     int length = elements.length;
+    boolean useParallel = parallel && length >= PARALLEL_THRESHOLD;
+    if (useParallel) {
+      Arrays.parallelSort(elements, Comparator.comparingInt(MortonEncoded::morton));
+    } else {
+      Arrays.sort(elements, Comparator.comparingInt(MortonEncoded::morton));
+    }
     int leafLength = length - 1;
     final Node<E>[] treeNodes = new Node[leafLength];
     final Node<E>[] leafNodes = new Node[length];
@@ -87,13 +155,27 @@ public class LBVH<E extends Boundable> {
       Node<E> node = new Node<>();
       node.element = elements[i];
       node.box = node.element.box();
+      node.last = i;
       leafNodes[i] = node;
     }
-    for (int i = 0; i < treeNodes.length; i++) {
-      generateNode(elements, treeNodes, leafNodes, i);
+    if (useParallel) {
+      // Each internal node only writes to itself and its children so they can be generated independently
+      IntStream.range(0, treeNodes.length).parallel().forEach(i -> generateNode(elements, treeNodes, leafNodes, i));
+    } else {
+      for (int i = 0; i < treeNodes.length; i++) {
+        generateNode(elements, treeNodes, leafNodes, i);
+      }
+    }
+    calculateVolumeHierarchy(treeNodes[0], useParallel);
+    return new LBVH<>(treeNodes, leafNodes, useParallel);
+  }
+
+  private static void calculateVolumeHierarchy(Node<?> node, boolean parallel) {
+    if (parallel) {
+      ForkJoinPool.commonPool().invoke(new VolumeTask(node, 0));
+    } else {
+      calculateVolumeHierarchy(node);
     }
-    calculateVolumeHierarchy(treeNodes[0]);
-    return new LBVH<>(treeNodes, leafNodes);
   }
 
   private static void calculateVolumeHierarchy(Node<?> node) {
@@ -121,6 +203,7 @@ public class LBVH<E extends Boundable> {
       right = treeNodes[split + 1];
     }
     final Node<E> node = treeNodes[idx];
+    node.last = range.end();
     node.left = left;
     node.right = right;
     left.parent = node;
@@ -206,11 +289,35 @@ public class LBVH<E extends Boundable> {
   private record Range(int start, int end) {
   }
 
+  private static final class VolumeTask extends RecursiveAction {
+    private final Node<?> node;
+    private final int depth;
+
+    private VolumeTask(Node<?> node, int depth) {
+      this.node = node;
+      this.depth = depth;
+    }
+
+    @Override
+    protected void compute() {
+      if (node.element != null) { // Skip leaf node
+        return;
+      }
+      if (depth >= PARALLEL_DEPTH) {
+        calculateVolumeHierarchy(node);
+        return;
+      }
+      invokeAll(new VolumeTask(node.left, depth + 1), new VolumeTask(node.right, depth + 1));
+      node.box = AABBUtil.combine(node.left.box, node.right.box);
+    }
+  }
+
   private static final class Node<E> {
     Node<E> left = null;
     Node<E> right = null;
     Node<E> parent = null;
     @Nullable E element = null;
     AABB box;
+    int last; // Highest leaf index in this subtree, for leaf nodes this is their own index
   }
 }
@@ -0,0 +1,147 @@
+/*
+ * Copyright 2020-2026 Moros
+ *
+ * This file is part of Bending.
+ *
+ * Bending is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Bending is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bending. If not, see <https://www.gnu.org/licenses/>.
+ */
+package me.moros.bending.common.collision;
+
+import me.moros.bending.common.collision.ColliderBatch.Buffer;
+
+final class ScalarKernel implements BatchKernel {
+  static final BatchKernel INSTANCE = new ScalarKernel();
+
+  private ScalarKernel() {
+  }
+
+  @Override
+  public int sphereVsSpheres(double x, double y, double z, double r, Buffer spheres) {
+    return sphereVsSpheres(0, x, y, z, r, spheres);
+  }
+
+  @Override
+  public int sphereVsBoxes(double x, double y, double z, double r, Buffer boxes) {
+    return sphereVsBoxes(0, x, y, z, r, boxes);
+  }
+
+  @Override
+  public int sphereVsRays(double x, double y, double z, double r, Buffer rays) {
+    return sphereVsRays(0, x, y, z, r, rays);
+  }
+
+  @Override
+  public int boxVsSpheres(double minX, double minY, double minZ, double maxX, double maxY, double maxZ, Buffer spheres) {
+    return boxVsSpheres(0, minX, minY, minZ, maxX, maxY, maxZ, spheres);
+  }
+
+  @Override
+  public int boxVsBoxes(double minX, double minY, double minZ, double maxX, double maxY, double maxZ, Buffer boxes) {
+    return boxVsBoxes(0, minX, minY, minZ, maxX, maxY, maxZ, boxes);
+  }
+
+  @Override
+  public int boxVsRays(double minX, double minY, double minZ, double maxX, double maxY, double maxZ, Buffer rays) {
+    return boxVsRays(0, minX, minY, minZ, maxX, maxY, maxZ, rays);
+  }
+
+  static int sphereVsSpheres(int from, double x, double y, double z, double r, Buffer spheres) {
+    double[][] c = spheres.components;
+    for (int i = from; i < spheres.size; i++) {
+      double dx = c[0][i] - x;
+      double dy = c[1][i] - y;
+      double dz = c[2][i] - z;
+      double sum = c[3][i] + r;
+      if (dx * dx + dy * dy + dz * dz <= sum * sum) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  static int sphereVsBoxes(int from, double x, double y, double z, double r, Buffer boxes) {
+    double[][] c = boxes.components;
+    for (int i = from; i < boxes.size; i++) {
+      double dx = x - Math.min(Math.max(x, c[0][i]), c[3][i]);
+      double dy = y - Math.min(Math.max(y, c[1][i]), c[4][i]);
+      double dz = z - Math.min(Math.max(z, c[2][i]), c[5][i]);
+      if (dx * dx + dy * dy + dz * dz <= r * r) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  static int sphereVsRays(int from, double x, double y, double z, double r, Buffer rays) {
+    double[][] c = rays.components;
+    for (int i = from; i < rays.size; i++) {
+      double mx = c[0][i] - x;
+      double my = c[1][i] - y;
+      double mz = c[2][i] - z;
+      double dx = c[3][i];
+      double dy = c[4][i];
+      double dz = c[5][i];
+      double b = dx * mx + dy * my + dz * mz;
+      if ((mx * mx + my * my + mz * mz) - b * b / (dx * dx + dy * dy + dz * dz) <= r * r) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  static int boxVsSpheres(int from, double minX, double minY, double minZ, double maxX, double maxY, double maxZ, Buffer spheres) {
+    double[][] c = spheres.components;
+    for (int i = from; i < spheres.size; i++) {
+      double x = c[0][i];
+      double y = c[1][i];
+      double z = c[2][i];
+      double r = c[3][i];
+      double dx = x - Math.min(Math.max(x, minX), maxX);
+      double dy = y - Math.min(Math.max(y, minY), maxY);
+      double dz = z - Math.min(Math.max(z, minZ), maxZ);
+      if (dx * dx + dy * dy + dz * dz <= r * r) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  static int boxVsBoxes(int from, double minX, double minY, double minZ, double maxX, double maxY, double maxZ, Buffer boxes) {
+    double[][] c = boxes.components;
+    for (int i = from; i < boxes.size; i++) {
+      if (c[3][i] > minX && c[0][i] < maxX && c[4][i] > minY && c[1][i] < maxY && c[5][i] > minZ && c[2][i] < maxZ) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  static int boxVsRays(int from, double minX, double minY, double minZ, double maxX, double maxY, double maxZ, Buffer rays) {
+    double[][] c = rays.components;
+    for (int i = from; i < rays.size; i++) {
+      double t0x = (minX - c[0][i]) * c[6][i];
+      double t0y = (minY - c[1][i]) * c[7][i];
+      double t0z = (minZ - c[2][i]) * c[8][i];
+      double t1x = (maxX - c[0][i]) * c[6][i];
+      double t1y = (maxY - c[1][i]) * c[7][i];
+      double t1z = (maxZ - c[2][i]) * c[8][i];
+      double near = Math.max(Math.max(Math.min(t0x, t1x), Math.min(t0y, t1y)), Math.min(t0z, t1z));
+      double far = Math.min(Math.min(Math.max(t0x, t1x), Math.max(t0y, t1y)), Math.max(t0z, t1z));
+      if (near <= far) {
+        return i;
+      }
+    }
+    return -1;
+  }
+}
@@ -35,6 +35,7 @@ import me.moros.bending.common.command.commands.ElementCommand;
 import me.moros.bending.common.command.commands.HelpCommand;
 import me.moros.bending.common.command.commands.ModifierCommand;
 import me.moros.bending.common.command.commands.PresetCommand;
+import me.moros.bending.common.command.commands.ProfileCommand;
 import me.moros.bending.common.command.commands.ReloadCommand;
 import me.moros.bending.common.command.commands.ToggleCommand;
 import me.moros.bending.common.command.commands.VersionCommand;
@@ -59,7 +60,7 @@ record CommanderImpl<C extends Audience>(CommandManager<C> manager, Class<? exte
       HelpCommand::new, VersionCommand::new, ReloadCommand::new, BackupCommand::new,
       BoardCommand::new, ToggleCommand::new,
       BindCommand::new, ElementCommand::new,
-      ModifierCommand::new, AttributeCommand::new, PresetCommand::new
+      ModifierCommand::new, AttributeCommand::new, PresetCommand::new, ProfileCommand::new
     );
     cmds.forEach(cmd -> cmd.apply(this).init());
   }
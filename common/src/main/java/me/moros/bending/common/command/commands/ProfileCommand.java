@@ -0,0 +1,106 @@
+/*
+ * Copyright 2020-2026 Moros
+ *
+ * This file is part of Bending.
+ *
+ * Bending is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Bending is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bending. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package me.moros.bending.common.command.commands;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+import me.moros.bending.api.GameProvider;
+import me.moros.bending.api.game.Profiler;
+import me.moros.bending.api.game.ProfilerReport;
+import me.moros.bending.api.game.ProfilerReport.AbilityTiming;
+import me.moros.bending.api.game.ProfilerReport.CollisionTiming;
+import me.moros.bending.common.command.Commander;
+import me.moros.bending.common.command.Permissions;
+import me.moros.bending.common.locale.Message;
+import me.moros.bending.common.util.Initializer;
+import net.kyori.adventure.audience.Audience;
+import org.incendo.cloud.component.DefaultValue;
+import org.incendo.cloud.minecraft.extras.RichDescription;
+import org.incendo.cloud.parser.standard.IntegerParser;
+
+public record ProfileCommand<C extends Audience>(Commander<C> commander) implements Initializer {
+  @Override
+  public void init() {
+    var builder = commander().rootBuilder().literal("profile")
+      .commandDescription(RichDescription.of(Message.PROFILE_DESC.build()))
+      .permission(Permissions.PROFILE);
+    commander().register(builder.literal("start").handler(c -> onStart(c.sender())));
+    commander().register(builder.literal("stop").handler(c -> onStop(c.sender())));
+    commander().register(builder.literal("report")
+      .optional("limit", IntegerParser.integerParser(1, 100), DefaultValue.constant(10))
+      .handler(c -> onReport(c.sender(), c.get("limit")))
+    );
+  }
+
+  private Profiler profiler() {
+    return GameProvider.get().profiler();
+  }
+
+  private void onStart(C sender) {
+    profiler().enable();
+    Message.PROFILE_START.send(sender);
+  }
+
+  private void onStop(C sender) {
+    profiler().disable();
+    Message.PROFILE_STOP.send(sender);
+  }
+
+  private void onReport(C sender, int limit) {
+    ProfilerReport report = profiler().report();
+    if (report.ticks() <= 0) {
+      Message.PROFILE_NO_DATA.send(sender);
+      return;
+    }
+    double ticks = report.ticks();
+    Message.PROFILE_HEADER.send(sender, report.ticks(), millis(report.tickNanos() / ticks));
+    if (!report.abilities().isEmpty()) {
+      Message.PROFILE_ABILITIES.send(sender);
+      for (AbilityTiming timing : report.abilities().subList(0, Math.min(limit, report.abilities().size()))) {
+        sender.sendMessage(Message.PROFILE_ABILITY.build(timing.description(), millis(timing.totalNanos() / ticks),
+          micros(timing.p50Nanos()), micros(timing.p99Nanos()), micros(timing.maxNanos()), round(timing.updates() / ticks)));
+      }
+    }
+    if (!report.collisions().isEmpty()) {
+      Message.PROFILE_COLLISIONS.send(sender);
+      for (CollisionTiming timing : report.collisions()) {
+        sender.sendMessage(Message.PROFILE_COLLISION.build(timing.world().asString(), millis(timing.broadPhaseNanos() / ticks),
+          millis(timing.narrowPhaseNanos() / ticks), round(timing.pairs() / ticks)));
+      }
+    }
+    Map<String, Integer> temporal = new TreeMap<>(report.temporal());
+    String sizes = temporal.entrySet().stream().map(e -> e.getKey() + "=" + e.getValue()).collect(Collectors.joining(", "));
+    Message.PROFILE_TEMPORAL.send(sender, sizes);
+  }
+
+  private static double millis(double nanos) {
+    return round(nanos / 1_000_000);
+  }
+
+  private static double micros(double nanos) {
+    return round(nanos / 1_000);
+  }
+
+  private static double round(double value) {
+    return Math.round(value * 1000) / 1000.0;
+  }
+}
@@ -26,6 +26,7 @@ import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 
 import me.moros.bending.api.config.Configurable;
@@ -34,6 +35,7 @@ import me.moros.bending.api.config.attribute.AttributeValue;
 import me.moros.bending.api.config.attribute.Modifiable;
 import me.moros.bending.api.config.attribute.Modifier;
 import me.moros.bending.common.util.ReflectionUtil;
+import org.jspecify.annotations.Nullable;
 import org.spongepowered.configurate.ConfigurationNode;
 import org.spongepowered.configurate.NodePath;
 import org.spongepowered.configurate.reference.ConfigurationReference;
@@ -41,18 +43,25 @@ import org.spongepowered.configurate.reference.ValueReference;
 import org.spongepowered.configurate.serialize.SerializationException;
 
 public final class CachedConfig<T extends Configurable> {
+  private static final int MAX_MEMOIZED = 256;
+
   private final Class<T> configType;
   private final T fallback;
   private final ValueReference<T, ? extends ConfigurationNode> configRef;
+  private final @Nullable CompiledConfig<T> compiled;
 
   private final Collection<Entry<Attribute, ConfigEntry>> entries;
   private final Map<Attribute, Collection<ConfigEntry>> map;
 
+  private volatile Memo<T> memo;
+
   private CachedConfig(Class<T> configType, T fallback, ValueReference<T, ? extends ConfigurationNode> configRef,
-                       Collection<Entry<Attribute, ConfigEntry>> entries) {
+                       @Nullable CompiledConfig<T> compiled, Collection<Entry<Attribute, ConfigEntry>> entries) {
     this.configType = configType;
     this.fallback = fallback;
     this.configRef = configRef;
+    this.compiled = compiled;
+    this.memo = new Memo<>(fallback);
 
     this.entries = List.copyOf(entries);
     this.map = new EnumMap<>(Attribute.class);
@@ -62,9 +71,35 @@ public final class CachedConfig<T extends Configurable> {
   }
 
   public T withAttributes(Map<Attribute, Modifier> activeModifiers, Consumer<Throwable> consumer) {
+    T base = configRef.get();
     if (activeModifiers.isEmpty()) {
-      return configRef.get();
+      return base;
+    }
+    if (compiled == null) {
+      return deserializeWithAttributes(activeModifiers, consumer);
+    }
+    Memo<T> current = memo;
+    if (current.base() != base) { // Config was reloaded, discard previous results
+      current = new Memo<>(base);
+      memo = current;
+    }
+    T result = current.results().get(activeModifiers);
+    if (result == null) {
+      try {
+        result = compiled.apply(base, activeModifiers);
+      } catch (Throwable t) {
+        consumer.accept(t);
+        return deserializeWithAttributes(activeModifiers, consumer);
+      }
+      if (current.results().size() >= MAX_MEMOIZED) {
+        current.results().clear();
+      }
+      current.results().put(Map.copyOf(activeModifiers), result);
     }
+    return result;
+  }
+
+  private T deserializeWithAttributes(Map<Attribute, Modifier> activeModifiers, Consumer<Throwable> consumer) {
     ConfigurationNode parentCopy = configRef.node().copy();
     for (var entry : activeModifiers.entrySet()) {
       Attribute attribute = entry.getKey();
@@ -98,20 +133,30 @@ public final class CachedConfig<T extends Configurable> {
     }
     try {
       var valueRef = ref.referenceTo(configType, NodePath.path(instance.path().toArray()), instance);
+      List<Entry<Attribute, Field>> fields = new ArrayList<>();
       List<Entry<Attribute, ConfigEntry>> handles = new ArrayList<>();
       for (Field field : configType.getDeclaredFields()) {
         Modifiable annotation = field.getAnnotation(Modifiable.class);
         if (annotation != null) {
           Attribute attribute = annotation.value();
+          fields.add(Map.entry(attribute, field));
           handles.add(Map.entry(attribute, new ConfigEntry(field)));
         }
       }
-      return new CachedConfig<>(configType, instance, valueRef, handles);
+      var compiled = CompiledConfig.compile(configType, fields);
+      return new CachedConfig<>(configType, instance, valueRef, compiled, handles);
     } catch (Exception e) {
       throw new ConfigException(e);
     }
   }
 
+  // Results are keyed by the active modifiers, which are value based, and are only valid for a specific base instance
+  private record Memo<T>(T base, Map<Map<Attribute, Modifier>, T> results) {
+    private Memo(T base) {
+      this(base, new ConcurrentHashMap<>());
+    }
+  }
+
   public static final class ConfigException extends Exception {
     private ConfigException(Exception e) {
       super(e.getMessage(), e);
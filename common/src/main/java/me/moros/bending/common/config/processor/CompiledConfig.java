@@ -0,0 +1,123 @@
+/*
+ * Copyright 2020-2026 Moros
+ *
+ * This file is part of Bending.
+ *
+ * Bending is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Bending is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bending. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package me.moros.bending.common.config.processor;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.function.DoubleUnaryOperator;
+
+import me.moros.bending.api.config.Configurable;
+import me.moros.bending.api.config.attribute.Attribute;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Applies attribute modifiers directly to the fields of a shallow copy of an already deserialized config instance.
+ * All accessors are resolved once so no reflection or node traversal happens per calculation.
+ * @param <T> the config type
+ */
+final class CompiledConfig<T extends Configurable> {
+  private static final MethodType GETTER = MethodType.methodType(Object.class, Object.class);
+  private static final MethodType SETTER = MethodType.methodType(void.class, Object.class, Object.class);
+
+  private final Class<T> configType;
+  private final MethodHandle constructor;
+  private final MethodHandle[] getters;
+  private final MethodHandle[] setters;
+  private final Map<Attribute, ModifiableField[]> modifiable;
+
+  private CompiledConfig(Class<T> configType, MethodHandle constructor, List<MethodHandle> getters,
+                         List<MethodHandle> setters, Map<Attribute, ModifiableField[]> modifiable) {
+    this.configType = configType;
+    this.constructor = constructor;
+    this.getters = getters.toArray(MethodHandle[]::new);
+    this.setters = setters.toArray(MethodHandle[]::new);
+    this.modifiable = modifiable;
+  }
+
+  T apply(T base, Map<Attribute, ? extends DoubleUnaryOperator> activeModifiers) throws Throwable {
+    Object copy = (Object) constructor.invokeExact();
+    for (int i = 0; i < getters.length; i++) {
+      setters[i].invokeExact(copy, (Object) getters[i].invokeExact((Object) base));
+    }
+    for (var entry : activeModifiers.entrySet()) {
+      ModifiableField[] fields = modifiable.get(entry.getKey());
+      if (fields != null) {
+        for (ModifiableField field : fields) {
+          field.modify(base, copy, entry.getValue());
+        }
+      }
+    }
+    return configType.cast(copy);
+  }
+
+  static <T extends Configurable> @Nullable CompiledConfig<T> compile(Class<T> configType, Collection<Entry<Attribute, Field>> fields) {
+    try {
+      MethodHandles.Lookup lookup = MethodHandles.lookup();
+      Constructor<T> ctor = configType.getDeclaredConstructor();
+      ctor.setAccessible(true);
+      MethodHandle constructor = lookup.unreflectConstructor(ctor).asType(MethodType.methodType(Object.class));
+      List<MethodHandle> getters = new ArrayList<>();
+      List<MethodHandle> setters = new ArrayList<>();
+      for (Class<?> type = configType; type != null && type != Object.class; type = type.getSuperclass()) {
+        for (Field field : type.getDeclaredFields()) {
+          if (!Modifier.isStatic(field.getModifiers())) {
+            field.setAccessible(true);
+            getters.add(lookup.unreflectGetter(field).asType(GETTER));
+            setters.add(lookup.unreflectSetter(field).asType(SETTER));
+          }
+        }
+      }
+      Map<Attribute, List<ModifiableField>> grouped = new EnumMap<>(Attribute.class);
+      for (var entry : fields) {
+        Field field = entry.getValue();
+        ConfigEntry configEntry = new ConfigEntry(field);
+        if (!configEntry.hasConverter()) {
+          return null;
+        }
+        field.setAccessible(true);
+        var modifiableField = new ModifiableField(configEntry, lookup.unreflectGetter(field).asType(GETTER),
+          lookup.unreflectSetter(field).asType(SETTER));
+        grouped.computeIfAbsent(entry.getKey(), a -> new ArrayList<>()).add(modifiableField);
+      }
+      Map<Attribute, ModifiableField[]> modifiable = new EnumMap<>(Attribute.class);
+      grouped.forEach((attribute, list) -> modifiable.put(attribute, list.toArray(ModifiableField[]::new)));
+      return new CompiledConfig<>(configType, constructor, getters, setters, modifiable);
+    } catch (ReflectiveOperationException | RuntimeException e) {
+      return null;
+    }
+  }
+
+  private record ModifiableField(ConfigEntry entry, MethodHandle getter, MethodHandle setter) {
+    private void modify(Object base, Object copy, DoubleUnaryOperator operator) throws Throwable {
+      Number value = (Number) (Object) getter.invokeExact(base);
+      setter.invokeExact(copy, (Object) entry.toNative(operator.applyAsDouble(value.doubleValue())));
+    }
+  }
+}
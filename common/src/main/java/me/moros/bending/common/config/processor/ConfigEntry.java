@@ -73,7 +73,11 @@ record ConfigEntry(String name, Class<?> type) {
     return AttributeValue.of(attribute, name, base, modifiedNumber);
   }
 
-  private Number toNative(double value) {
+  boolean hasConverter() {
+    return CONVERTERS.containsKey(type());
+  }
+
+  Number toNative(double value) {
     return CONVERTERS.getOrDefault(type(), x -> x).apply(value);
   }
 }
@@ -22,11 +22,11 @@ package me.moros.bending.common.game;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
-import java.util.Queue;
+import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
 
@@ -43,16 +43,18 @@ import net.kyori.adventure.key.Key;
 
 public class AbilityManagerImpl implements AbilityManager {
   private final Logger logger;
+  private final ProfilerImpl profiler;
   private final Key world;
-  private final Map<UUID, Queue<Ability>> globalInstances;
+  private final Map<UUID, UserInstances> globalInstances;
 
   private final Collection<Updatable> pending;
   private final MultiUpdatable<Updatable> generics;
 
   private int size;
 
-  AbilityManagerImpl(Logger logger, Key world) {
+  AbilityManagerImpl(Logger logger, ProfilerImpl profiler, Key world) {
     this.logger = logger;
+    this.profiler = profiler;
     this.world = world;
     globalInstances = new ConcurrentHashMap<>(32);
     pending = new ArrayList<>();
@@ -60,7 +62,7 @@ public class AbilityManagerImpl implements AbilityManager {
   }
 
   private void addAbilityInternal(UUID uuid, Ability instance) {
-    globalInstances.computeIfAbsent(uuid, k -> new ConcurrentLinkedQueue<>()).add(instance);
+    globalInstances.computeIfAbsent(uuid, k -> new UserInstances()).add(instance);
   }
 
   @Override
@@ -113,7 +115,7 @@ public class AbilityManagerImpl implements AbilityManager {
     if (ability.user().equals(user) || !ability.user().worldKey().equals(user.worldKey()) || !world.equals(user.worldKey())) {
       return;
     }
-    Collection<Ability> holder = globalInstances.get(ability.user().uuid());
+    UserInstances holder = globalInstances.get(ability.user().uuid());
     if (holder != null && holder.remove(ability)) {
       ability.onUserChange(user);
       ability.loadConfig();
@@ -121,15 +123,45 @@ public class AbilityManagerImpl implements AbilityManager {
     }
   }
 
+  @Override
+  public <T extends Ability> boolean hasAbility(User user, Class<T> type) {
+    UserInstances holder = globalInstances.get(user.uuid());
+    return holder != null && holder.has(type);
+  }
+
+  @Override
+  public boolean hasAbility(User user, AbilityDescription desc) {
+    UserInstances holder = globalInstances.get(user.uuid());
+    return holder != null && holder.has(desc);
+  }
+
   @Override
   public Stream<Ability> userInstances(User user) {
-    Collection<Ability> holder = globalInstances.get(user.uuid());
+    UserInstances holder = globalInstances.get(user.uuid());
     return holder != null ? holder.stream() : Stream.of();
   }
 
+  @Override
+  public <T extends Ability> Stream<T> userInstances(User user, Class<T> type) {
+    UserInstances holder = globalInstances.get(user.uuid());
+    return holder != null ? holder.stream(type) : Stream.of();
+  }
+
+  @Override
+  public Stream<Ability> userInstances(User user, AbilityDescription desc) {
+    UserInstances holder = globalInstances.get(user.uuid());
+    return holder != null ? holder.stream(desc) : Stream.of();
+  }
+
+  @Override
+  public <T extends Ability> Optional<T> firstInstance(User user, Class<T> type) {
+    UserInstances holder = globalInstances.get(user.uuid());
+    return holder != null ? Optional.ofNullable(holder.first(type)) : Optional.empty();
+  }
+
   @Override
   public Stream<Ability> instances() {
-    return globalInstances.values().stream().flatMap(Collection::stream);
+    return globalInstances.values().stream().flatMap(UserInstances::stream);
   }
 
   @Override
@@ -140,19 +172,24 @@ public class AbilityManagerImpl implements AbilityManager {
     generics.update();
 
     Collection<Exception> exceptions = new ArrayList<>();
+    boolean profiling = profiler.isEnabled();
     var iterator = globalInstances.values().iterator();
     size = 0;
     while (iterator.hasNext()) {
-      Collection<Ability> abilities = iterator.next();
+      UserInstances abilities = iterator.next();
       Iterator<Ability> innerIterator = abilities.iterator();
       while (innerIterator.hasNext()) {
         Ability ability = innerIterator.next();
         UpdateResult result = UpdateResult.REMOVE;
+        long start = profiling ? System.nanoTime() : 0;
         try {
           result = ability.update();
         } catch (Exception e) {
           exceptions.add(e);
         } finally {
+          if (profiling) {
+            profiler.recordAbility(ability.description(), System.nanoTime() - start);
+          }
           if (result == UpdateResult.REMOVE) {
             innerIterator.remove();
             ability.onDestroy();
@@ -171,27 +208,31 @@ public class AbilityManagerImpl implements AbilityManager {
     return UpdateResult.CONTINUE;
   }
 
+  @Override
+  public boolean destroyUserInstances(User user, Class<? extends Ability> type) {
+    return destroyUserInstances(user, List.of(type));
+  }
+
+  @Override
+  public boolean destroyUserInstances(User user, Collection<Class<? extends Ability>> types) {
+    UserInstances holder = globalInstances.get(user.uuid());
+    return holder != null && destroy(holder.removeAll(types));
+  }
+
   @Override
   public boolean destroyUserInstances(User user, Predicate<Ability> predicate) {
-    boolean destroyed = false;
-    Collection<Ability> holder = globalInstances.get(user.uuid());
-    if (holder != null) {
-      Iterator<Ability> iterator = holder.iterator();
-      while (iterator.hasNext()) {
-        Ability ability = iterator.next();
-        if (predicate.test(ability)) {
-          iterator.remove();
-          ability.onDestroy();
-          destroyed = true;
-        }
-      }
-    }
-    return destroyed;
+    UserInstances holder = globalInstances.get(user.uuid());
+    return holder != null && destroy(holder.removeIf(predicate));
+  }
+
+  private static boolean destroy(Collection<Ability> removed) {
+    removed.forEach(Ability::onDestroy);
+    return !removed.isEmpty();
   }
 
   @Override
   public void destroyUserInstances(User user) {
-    Collection<Ability> holder = globalInstances.remove(user.uuid());
+    UserInstances holder = globalInstances.remove(user.uuid());
     if (holder != null) {
       holder.forEach(Ability::onDestroy);
       holder.clear();
@@ -200,7 +241,7 @@ public class AbilityManagerImpl implements AbilityManager {
 
   @Override
   public void destroyInstance(Ability ability) {
-    Collection<Ability> holder = globalInstances.get(ability.user().uuid());
+    UserInstances holder = globalInstances.get(ability.user().uuid());
     if (holder != null && holder.remove(ability)) {
       ability.onDestroy();
     }
@@ -210,7 +251,7 @@ public class AbilityManagerImpl implements AbilityManager {
   public void destroyAllInstances() {
     pending.clear();
     generics.clear();
-    for (Collection<Ability> holder : globalInstances.values()) {
+    for (UserInstances holder : globalInstances.values()) {
       holder.forEach(Ability::onDestroy);
       holder.clear();
     }
@@ -105,7 +105,10 @@ public final class ActivationControllerImpl implements ActivationController {
     TempArmor.MANAGER.get(uuid).ifPresent(TempArmor::revert);
     user.game().abilityManager(user.worldKey()).destroyUserInstances(user);
     if (user instanceof Player) {
-      user.game().storage().saveProfileAsync(user.toProfile());
+      var dirty = user.pollDirtyParts();
+      if (!dirty.isEmpty()) {
+        user.game().storage().queueSave(user.toProfile(), dirty);
+      }
     }
     user.board().disableScoreboard();
     user.game().flightManager().remove(uuid);
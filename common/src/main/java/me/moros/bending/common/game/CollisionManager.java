@@ -29,31 +29,41 @@ import java.util.Set;
 
 import me.moros.bending.api.ability.Ability;
 import me.moros.bending.api.ability.Updatable;
-import me.moros.bending.api.collision.CollisionPair;
 import me.moros.bending.api.collision.geometry.AABB;
 import me.moros.bending.api.collision.geometry.Collider;
 import me.moros.bending.api.game.AbilityManager;
-import me.moros.bending.api.registry.Registries;
 import me.moros.bending.common.collision.AABBUtil;
 import me.moros.bending.common.collision.Boundable;
+import me.moros.bending.common.collision.ColliderBatch;
 import me.moros.bending.common.collision.CollisionData;
+import me.moros.bending.common.collision.CollisionMatrix;
 import me.moros.bending.common.collision.CollisionQuery;
-import me.moros.bending.common.collision.CollisionQuery.Pair;
-import me.moros.bending.common.collision.LBVH;
+import me.moros.bending.common.collision.DynamicLBVH;
 import me.moros.bending.common.collision.MortonEncoded;
 import me.moros.math.FastMath;
 import org.jspecify.annotations.Nullable;
 
 public final class CollisionManager implements Updatable {
   private final AbilityManager manager;
+  private final ProfilerImpl profiler;
+  private final CollisionMatrix matrix;
+  private final DynamicLBVH<Ability, CachedAbility> bvh;
+  private final ColliderBatch batch;
 
-  CollisionManager(AbilityManager manager) {
+  CollisionManager(AbilityManager manager, ProfilerImpl profiler, CollisionMatrix matrix, boolean parallel) {
     this.manager = manager;
+    this.profiler = profiler;
+    this.matrix = matrix;
+    this.bvh = new DynamicLBVH<>(CachedAbility::ability, parallel);
+    this.batch = new ColliderBatch();
   }
 
   private CachedAbility[] filterAndCollect() {
     Collection<CachedAbility> instances = new ArrayList<>(FastMath.ceil(0.5 * manager.size()));
     for (Ability ability : manager) {
+      if (!matrix.hasCollisions(ability.description())) {
+        continue;
+      }
       Collection<Collider> colliders = ability.colliders();
       if (!colliders.isEmpty()) {
         instances.add(CachedAbility.create(ability, colliders));
@@ -64,34 +74,42 @@ public final class CollisionManager implements Updatable {
 
   @Override
   public UpdateResult update() {
+    boolean profiling = profiler.isEnabled();
+    long start = profiling ? System.nanoTime() : 0;
     CachedAbility[] instances = filterAndCollect();
     if (instances.length < 2) {
+      bvh.clear();
+      if (profiling) {
+        profiler.recordCollisions(manager.worldKey(), System.nanoTime() - start, 0, 0);
+      }
       return UpdateResult.CONTINUE;
     }
     Set<CachedAbility> pruned = Collections.newSetFromMap(new IdentityHashMap<>(instances.length));
-    LBVH<CachedAbility> bvh = LBVH.buildTree(instances);
-    CollisionQuery<CachedAbility> query = bvh.queryAll();
-    for (Pair<CachedAbility> pair : query) {
-      processPotentialCollision(pair, pruned);
+    CollisionQuery<CachedAbility> query = bvh.update(instances).queryAll();
+    long broadPhaseEnd = profiling ? System.nanoTime() : 0;
+    for (int i = 0; i < query.size(); i++) {
+      processPotentialCollision(query.first(i), query.second(i), pruned);
+    }
+    if (profiling) {
+      long end = System.nanoTime();
+      profiler.recordCollisions(manager.worldKey(), broadPhaseEnd - start, end - broadPhaseEnd, query.size());
     }
     return UpdateResult.CONTINUE;
   }
 
-  private void processPotentialCollision(Pair<CachedAbility> queryPair, Set<CachedAbility> pruned) {
-    CachedAbility firstEntry = queryPair.first();
-    CachedAbility secondEntry = queryPair.second();
+  private void processPotentialCollision(CachedAbility firstEntry, CachedAbility secondEntry, Set<CachedAbility> pruned) {
     if (firstEntry.isSameUser(secondEntry) || pruned.contains(firstEntry) || pruned.contains(secondEntry)) {
       return;
     }
     Ability first = firstEntry.ability();
     Ability second = secondEntry.ability();
-    CollisionPair pair = Registries.COLLISIONS.get(CollisionPair.createKey(first.description(), second.description()));
-    if (pair == null) {
+    int flags = matrix.flags(first.description(), second.description());
+    if (!CollisionMatrix.isPresent(flags)) {
       return;
     }
     Entry<Collider, Collider> collision = checkCollision(firstEntry.colliders(), secondEntry.colliders());
     if (collision != null) {
-      CollisionData result = handleCollision(first, second, collision.getKey(), collision.getValue(), pair);
+      CollisionData result = handleCollision(first, second, collision.getKey(), collision.getValue(), flags);
       if (result.removeFirst()) {
         manager.destroyInstance(first);
         pruned.add(firstEntry);
@@ -104,20 +122,20 @@ public final class CollisionManager implements Updatable {
   }
 
   private @Nullable Entry<Collider, Collider> checkCollision(Iterable<Collider> firstColliders, Iterable<Collider> secondColliders) {
+    batch.clear();
+    batch.addAll(secondColliders);
     for (Collider firstCollider : firstColliders) {
-      for (Collider secondCollider : secondColliders) {
-        if (firstCollider.intersects(secondCollider)) {
-          return Map.entry(firstCollider, secondCollider);
-        }
+      int idx = batch.firstIntersection(firstCollider);
+      if (idx >= 0) {
+        return Map.entry(firstCollider, batch.get(idx));
       }
     }
     return null;
   }
 
-  private CollisionData handleCollision(Ability first, Ability second, Collider c1, Collider c2, CollisionPair pair) {
-    boolean invertOrder = first.description() != pair.first();
-    boolean removeFirst = invertOrder ? pair.removeSecond() : pair.removeFirst();
-    boolean removeSecond = invertOrder ? pair.removeFirst() : pair.removeSecond();
+  private CollisionData handleCollision(Ability first, Ability second, Collider c1, Collider c2, int flags) {
+    boolean removeFirst = CollisionMatrix.removeFirst(flags);
+    boolean removeSecond = CollisionMatrix.removeSecond(flags);
     CollisionData data = new CollisionData(first, second, c1, c2, removeFirst, removeSecond);
     first.onCollision(data.asCollision());
     second.onCollision(data.asInverseCollision());
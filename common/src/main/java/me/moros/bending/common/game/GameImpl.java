@@ -19,8 +19,7 @@
 
 package me.moros.bending.common.game;
 
-import java.util.Collection;
-import java.util.List;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -31,7 +30,9 @@ import me.moros.bending.api.game.AbilityManager;
 import me.moros.bending.api.game.ActivationController;
 import me.moros.bending.api.game.FlightManager;
 import me.moros.bending.api.game.Game;
+import me.moros.bending.api.game.Profiler;
 import me.moros.bending.api.game.WorldManager;
+import me.moros.bending.api.platform.block.StagedBlocks;
 import me.moros.bending.api.registry.Registries;
 import me.moros.bending.api.registry.Registry;
 import me.moros.bending.api.storage.BendingStorage;
@@ -43,15 +44,16 @@ import me.moros.bending.api.temporal.TempDisplayEntity;
 import me.moros.bending.api.temporal.TempEntity;
 import me.moros.bending.api.temporal.TempLight;
 import me.moros.bending.api.temporal.TemporalManager;
-import me.moros.bending.api.user.User;
 import me.moros.bending.api.util.BendingEffect;
 import me.moros.bending.api.util.Tasker;
 import me.moros.bending.api.util.TextUtil;
 import me.moros.bending.api.util.data.DataKey;
 import me.moros.bending.common.Bending;
 import me.moros.bending.common.ability.AbilityInitializer;
+import me.moros.bending.common.collision.CollisionMatrix;
 import me.moros.bending.common.event.EventBusImpl;
 import me.moros.bending.common.storage.StorageFactory;
+import me.moros.bending.common.util.EntityIndex;
 
 public final class GameImpl implements Game {
   private final Bending plugin;
@@ -60,20 +62,28 @@ public final class GameImpl implements Game {
   private final FlightManager flightManager;
   private final WorldManager worldManager;
   private final ActivationController activationController;
-  private final Collection<TemporalManager<?, ?>> temporal;
+  private final Map<String, TemporalManager<?, ?>> temporal;
   private final BendingStorage storage;
+  private final ProfilerImpl profiler;
 
   public GameImpl(Bending plugin) {
     this.plugin = plugin;
     this.configProcessor = plugin.configManager().processor();
     this.eventBus = new EventBusImpl(plugin.logger());
     this.flightManager = new FlightManagerImpl();
-    this.worldManager = new WorldManagerImpl(plugin.logger());
     this.activationController = new ActivationControllerImpl();
-    this.temporal = List.of(Cooldown.MANAGER, TempLight.MANAGER, TempEntity.MANAGER, TempDisplayEntity.MANAGER,
-      ActionLimiter.MANAGER, TempArmor.MANAGER, TempBlock.MANAGER);
+    this.temporal = new LinkedHashMap<>(); // Preserve tick order
+    temporal.put("cooldowns", Cooldown.MANAGER);
+    temporal.put("lights", TempLight.MANAGER);
+    temporal.put("entities", TempEntity.MANAGER);
+    temporal.put("display_entities", TempDisplayEntity.MANAGER);
+    temporal.put("action_limiters", ActionLimiter.MANAGER);
+    temporal.put("armor", TempArmor.MANAGER);
+    temporal.put("blocks", TempBlock.MANAGER);
+    this.profiler = new ProfilerImpl(this::temporalSizes);
 
     lockRegistries();
+    this.worldManager = new WorldManagerImpl(plugin.logger(), profiler, CollisionMatrix.create(Registries.COLLISIONS));
     this.storage = new StorageFactory(plugin).createInstance();
 
     AbilityInitializer.initConfigs();
@@ -101,14 +111,27 @@ public final class GameImpl implements Game {
     plugin.logger().info("Registered protection plugins: " + TextUtil.collect(Registries.PROTECTIONS));
   }
 
+  private Map<String, Integer> temporalSizes() {
+    return temporal.entrySet().stream().collect(Collectors.toMap(Map.Entry::getKey, e -> e.getValue().size()));
+  }
+
   private void update() {
+    boolean profiling = profiler.isEnabled();
+    long start = profiling ? System.nanoTime() : 0;
     activationController.clearCache();
+    EntityIndex.INSTANCE.open();
     try {
-      temporal.forEach(TemporalManager::tick);
+      temporal.values().forEach(TemporalManager::tick);
       worldManager.update();
       flightManager.update();
+      StagedBlocks.flush();
     } catch (Throwable t) { // The show must go on
       plugin.logger().error(t.getMessage(), t);
+    } finally {
+      EntityIndex.INSTANCE.close();
+      if (profiling) {
+        profiler.recordTick(System.nanoTime() - start);
+      }
     }
   }
 
@@ -120,11 +143,16 @@ public final class GameImpl implements Game {
 
   @Override
   public void cleanup() {
+    StagedBlocks.flush();
     worldManager.forEach(AbilityManager::destroyAllInstances);
     flightManager.removeAll();
-    temporal.forEach(TemporalManager::removeAll);
-    var profiles = Registries.BENDERS.players().map(User::toProfile).toList();
-    storage.saveProfilesAsync(profiles);
+    temporal.values().forEach(TemporalManager::removeAll);
+    Registries.BENDERS.players().forEach(user -> {
+      var dirty = user.pollDirtyParts();
+      if (!dirty.isEmpty()) {
+        storage.queueSave(user.toProfile(), dirty);
+      }
+    });
   }
 
   @Override
@@ -156,4 +184,9 @@ public final class GameImpl implements Game {
   public ConfigProcessor configProcessor() {
     return configProcessor;
   }
+
+  @Override
+  public Profiler profiler() {
+    return profiler;
+  }
 }
@@ -0,0 +1,177 @@
+/*
+ * Copyright 2020-2026 Moros
+ *
+ * This file is part of Bending.
+ *
+ * Bending is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Bending is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bending. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package me.moros.bending.common.game;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import me.moros.bending.api.ability.AbilityDescription;
+import me.moros.bending.api.game.Profiler;
+import me.moros.bending.api.game.ProfilerReport;
+import me.moros.bending.api.game.ProfilerReport.AbilityTiming;
+import me.moros.bending.api.game.ProfilerReport.CollisionTiming;
+import net.kyori.adventure.key.Key;
+
+/**
+ * Samplers are only ever written to from the main thread. Callers are expected to check {@link #isEnabled()}
+ * once per update and skip any {@link System#nanoTime()} calls when profiling is disabled.
+ */
+final class ProfilerImpl implements Profiler {
+  private final Supplier<Map<String, Integer>> temporalSizes;
+  private final Map<Key, CollisionSampler> collisions;
+
+  private volatile boolean enabled;
+  private volatile AbilitySampler[] abilities;
+  private long ticks;
+  private long tickNanos;
+
+  ProfilerImpl(Supplier<Map<String, Integer>> temporalSizes) {
+    this.temporalSizes = temporalSizes;
+    this.collisions = new ConcurrentHashMap<>();
+    this.abilities = new AbilitySampler[0];
+  }
+
+  @Override
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  @Override
+  public void enable() {
+    if (!enabled) {
+      reset();
+      enabled = true;
+    }
+  }
+
+  @Override
+  public void disable() {
+    enabled = false;
+  }
+
+  @Override
+  public void reset() {
+    abilities = new AbilitySampler[0];
+    collisions.clear();
+    ticks = 0;
+    tickNanos = 0;
+  }
+
+  void recordTick(long nanos) {
+    ticks++;
+    tickNanos += nanos;
+  }
+
+  void recordAbility(AbilityDescription desc, long nanos) {
+    int id = desc.id();
+    AbilitySampler[] samplers = abilities;
+    if (id >= samplers.length) {
+      samplers = Arrays.copyOf(samplers, id + 1);
+      abilities = samplers;
+    }
+    AbilitySampler sampler = samplers[id];
+    if (sampler == null) {
+      sampler = new AbilitySampler(desc);
+      samplers[id] = sampler;
+    }
+    sampler.record(nanos);
+  }
+
+  void recordCollisions(Key world, long broadPhaseNanos, long narrowPhaseNanos, int pairs) {
+    collisions.computeIfAbsent(world, CollisionSampler::new).record(broadPhaseNanos, narrowPhaseNanos, pairs);
+  }
+
+  @Override
+  public ProfilerReport report() {
+    List<AbilityTiming> abilityTimings = new ArrayList<>();
+    for (AbilitySampler sampler : abilities) {
+      if (sampler != null && sampler.updates > 0) {
+        abilityTimings.add(sampler.toTiming());
+      }
+    }
+    abilityTimings.sort(Comparator.comparingLong(AbilityTiming::totalNanos).reversed());
+    List<CollisionTiming> collisionTimings = collisions.values().stream().map(CollisionSampler::toTiming).toList();
+    return new ProfilerReport(ticks, tickNanos, abilityTimings, collisionTimings, temporalSizes.get());
+  }
+
+  private static final class AbilitySampler {
+    private final AbilityDescription desc;
+    // Log2 histogram, bucket i holds samples in [2^i, 2^(i+1)) nanoseconds
+    private final long[] histogram = new long[Long.SIZE];
+    private long updates;
+    private long totalNanos;
+    private long maxNanos;
+
+    private AbilitySampler(AbilityDescription desc) {
+      this.desc = desc;
+    }
+
+    private void record(long nanos) {
+      updates++;
+      totalNanos += nanos;
+      maxNanos = Math.max(maxNanos, nanos);
+      histogram[63 - Long.numberOfLeadingZeros(nanos | 1)]++;
+    }
+
+    private long percentile(double p) {
+      long target = (long) Math.ceil(p * updates);
+      long count = 0;
+      for (int i = 0; i < histogram.length; i++) {
+        count += histogram[i];
+        if (count >= target) {
+          return Math.min(maxNanos, (1L << (i + 1)) - 1);
+        }
+      }
+      return maxNanos;
+    }
+
+    private AbilityTiming toTiming() {
+      return new AbilityTiming(desc, updates, totalNanos, maxNanos, percentile(0.5), percentile(0.99));
+    }
+  }
+
+  private static final class CollisionSampler {
+    private final Key world;
+    private long samples;
+    private long broadPhaseNanos;
+    private long narrowPhaseNanos;
+    private long pairs;
+
+    private CollisionSampler(Key world) {
+      this.world = world;
+    }
+
+    private void record(long broadPhaseNanos, long narrowPhaseNanos, int pairs) {
+      this.samples++;
+      this.broadPhaseNanos += broadPhaseNanos;
+      this.narrowPhaseNanos += narrowPhaseNanos;
+      this.pairs += pairs;
+    }
+
+    private CollisionTiming toTiming() {
+      return new CollisionTiming(world, samples, broadPhaseNanos, narrowPhaseNanos, pairs);
+    }
+  }
+}
@@ -19,10 +19,6 @@
 
 package me.moros.bending.common.game;
 
-import java.util.ArrayDeque;
-import java.util.ArrayList;
-import java.util.Deque;
-import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 
@@ -39,13 +35,15 @@ import me.moros.bending.api.user.User;
 
 public final class SequenceManagerImpl implements SequenceManager {
   private final ActivationController controller;
-  private final LoadingCache<UUID, Deque<SequenceStep>> cache;
+  private final LoadingCache<UUID, MatcherState> cache;
+
+  private volatile SequenceMatcher matcher;
 
   SequenceManagerImpl(ActivationController controller) {
     this.controller = controller;
     cache = Caffeine.newBuilder()
       .expireAfterAccess(10, TimeUnit.SECONDS)
-      .build(u -> new ArrayDeque<>(Sequence.MAX_STEPS));
+      .build(u -> new MatcherState());
     tryInitRegistry();
   }
 
@@ -64,25 +62,46 @@ public final class SequenceManagerImpl implements SequenceManager {
     return sequence.steps().stream().map(SequenceStep::ability).allMatch(Registries.ABILITIES::containsValue);
   }
 
+  // The registry is only mutable during startup, compile once it's locked and recompile on every call before that
+  private SequenceMatcher matcher() {
+    SequenceMatcher current = matcher;
+    if (current == null) {
+      synchronized (this) {
+        current = matcher;
+        if (current == null) {
+          current = SequenceMatcher.compile(Registries.SEQUENCES);
+          if (Registries.SEQUENCES.isLocked()) {
+            matcher = current;
+          }
+        }
+      }
+    }
+    return current;
+  }
+
   @Override
   public void registerStep(User user, Activation action) {
     AbilityDescription desc = user.selectedAbility();
     if (desc == null) {
       return;
     }
-    Deque<SequenceStep> buffer = cache.get(user.uuid());
-    if (buffer.size() >= Sequence.MAX_STEPS) {
-      buffer.removeFirst();
+    SequenceMatcher current = matcher();
+    MatcherState userState = cache.get(user.uuid());
+    if (userState.matcher != current) {
+      userState.matcher = current;
+      userState.state = SequenceMatcher.ROOT;
     }
-    buffer.addLast(SequenceStep.of(desc, action));
-    List<SequenceStep> bufferSteps = new ArrayList<>(buffer);
-    for (Sequence sequence : Registries.SEQUENCES) {
-      if (sequence.matches(bufferSteps)) {
-        if (controller.activateAbility(user, Activation.SEQUENCE, sequence) != null) {
-          buffer.clear(); // Consume all actions in the buffer
-          return;
-        }
+    userState.state = current.next(userState.state, desc, action);
+    for (Sequence sequence : current.matches(userState.state)) {
+      if (controller.activateAbility(user, Activation.SEQUENCE, sequence) != null) {
+        userState.state = SequenceMatcher.ROOT; // Consume all recorded steps
+        return;
       }
     }
   }
+
+  private static final class MatcherState {
+    private SequenceMatcher matcher;
+    private int state = SequenceMatcher.ROOT;
+  }
 }
@@ -0,0 +1,168 @@
+/*
+ * Copyright 2020-2026 Moros
+ *
+ * This file is part of Bending.
+ *
+ * Bending is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Bending is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bending. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package me.moros.bending.common.game;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import me.moros.bending.api.ability.AbilityDescription;
+import me.moros.bending.api.ability.AbilityDescription.Sequence;
+import me.moros.bending.api.ability.Activation;
+import me.moros.bending.api.ability.SequenceStep;
+
+/**
+ * Aho-Corasick automaton over (ability, activation) symbols.
+ * <p>Each state represents the longest suffix of the recorded steps that is also a prefix of some sequence.
+ * Advancing a state is amortized O(1) and allocation free, and every state knows all sequences that
+ * end at it, in the order they were provided during compilation.
+ */
+public final class SequenceMatcher {
+  public static final int ROOT = 0;
+
+  private static final int ACTIVATIONS = Activation.values().length;
+
+  private final int[][] symbols;
+  private final int[][] targets;
+  private final int[] fail;
+  private final List<List<Sequence>> outputs;
+
+  private SequenceMatcher(int[][] symbols, int[][] targets, int[] fail, List<List<Sequence>> outputs) {
+    this.symbols = symbols;
+    this.targets = targets;
+    this.fail = fail;
+    this.outputs = outputs;
+  }
+
+  /**
+   * Advance the automaton by a single step.
+   * @param state the current state
+   * @param ability the ability of the step
+   * @param activation the activation of the step
+   * @return the new state
+   */
+  public int next(int state, AbilityDescription ability, Activation activation) {
+    int symbol = symbol(ability, activation);
+    while (true) {
+      int idx = Arrays.binarySearch(symbols[state], symbol);
+      if (idx >= 0) {
+        return targets[state][idx];
+      }
+      if (state == ROOT) {
+        return ROOT;
+      }
+      state = fail[state];
+    }
+  }
+
+  /**
+   * Get all sequences whose steps are a suffix of the steps that led to the given state.
+   * @param state the state to check
+   * @return an immutable list of matching sequences, possibly empty
+   */
+  public List<Sequence> matches(int state) {
+    return outputs.get(state);
+  }
+
+  public int size() {
+    return fail.length;
+  }
+
+  private static int symbol(AbilityDescription ability, Activation activation) {
+    return ability.id() * ACTIVATIONS + activation.ordinal();
+  }
+
+  private static int symbol(SequenceStep step) {
+    return symbol(step.ability(), step.activation());
+  }
+
+  public static SequenceMatcher compile(Iterable<Sequence> sequences) {
+    List<Map<Integer, Integer>> transitions = new ArrayList<>();
+    List<List<Sequence>> terminal = new ArrayList<>();
+    Map<Sequence, Integer> order = new IdentityHashMap<>();
+    transitions.add(new HashMap<>());
+    terminal.add(new ArrayList<>());
+    for (Sequence sequence : sequences) {
+      if (sequence.steps().size() > Sequence.MAX_STEPS || order.containsKey(sequence)) {
+        continue; // Can never match the step buffer
+      }
+      order.put(sequence, order.size());
+      int state = ROOT;
+      for (SequenceStep step : sequence.steps()) {
+        Integer next = transitions.get(state).get(symbol(step));
+        if (next == null) {
+          next = transitions.size();
+          transitions.get(state).put(symbol(step), next);
+          transitions.add(new HashMap<>());
+          terminal.add(new ArrayList<>());
+        }
+        state = next;
+      }
+      terminal.get(state).add(sequence);
+    }
+    int size = transitions.size();
+    int[][] symbols = new int[size][];
+    int[][] targets = new int[size][];
+    for (int i = 0; i < size; i++) {
+      int[] keys = transitions.get(i).keySet().stream().mapToInt(Integer::intValue).sorted().toArray();
+      int[] values = new int[keys.length];
+      for (int j = 0; j < keys.length; j++) {
+        values[j] = transitions.get(i).get(keys[j]);
+      }
+      symbols[i] = keys;
+      targets[i] = values;
+    }
+    // Breadth first traversal so failure links of shorter prefixes are resolved first
+    int[] fail = new int[size];
+    Deque<Integer> queue = new ArrayDeque<>();
+    for (int child : targets[ROOT]) {
+      queue.add(child);
+    }
+    while (!queue.isEmpty()) {
+      int state = queue.poll();
+      for (int j = 0; j < symbols[state].length; j++) {
+        int child = targets[state][j];
+        int f = fail[state];
+        int idx;
+        while ((idx = Arrays.binarySearch(symbols[f], symbols[state][j])) < 0 && f != ROOT) {
+          f = fail[f];
+        }
+        fail[child] = idx >= 0 ? targets[f][idx] : ROOT;
+        queue.add(child);
+      }
+    }
+    List<List<Sequence>> result = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      List<Sequence> matches = new ArrayList<>();
+      for (int s = i; s != ROOT; s = fail[s]) {
+        matches.addAll(terminal.get(s));
+      }
+      matches.sort(Comparator.comparingInt(order::get));
+      result.add(List.copyOf(matches));
+    }
+    return new SequenceMatcher(symbols, targets, fail, List.copyOf(result));
+  }
+}
@@ -0,0 +1,278 @@
+/*
+ * Copyright 2020-2026 Moros
+ *
+ * This file is part of Bending.
+ *
+ * Bending is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Bending is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bending. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package me.moros.bending.common.game;
+
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Queue;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+import me.moros.bending.api.ability.Ability;
+import me.moros.bending.api.ability.AbilityDescription;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Holds the active abilities of a single user keyed by activation sequence,
+ * along with secondary indexes by concrete class and by description.
+ * Index buckets only exist while they are non-empty.
+ */
+final class UserInstances {
+  private final NavigableMap<Long, Ability> bySequence;
+  private final Collection<Ability> all;
+  private final Map<Ability, Long> sequences;
+  private final Map<Class<?>, Queue<Ability>> byClass;
+  private final Map<AbilityDescription, Queue<Ability>> byDescription;
+  private final Map<Class<?>, Match> matches;
+  private final AtomicInteger version;
+  private final AtomicLong nextSequence;
+
+  UserInstances() {
+    this.bySequence = new ConcurrentSkipListMap<>();
+    this.all = bySequence.values();
+    this.sequences = new ConcurrentHashMap<>(8);
+    this.byClass = new ConcurrentHashMap<>(8);
+    this.byDescription = new ConcurrentHashMap<>(8);
+    this.matches = new ConcurrentHashMap<>(8);
+    this.version = new AtomicInteger();
+    this.nextSequence = new AtomicLong();
+  }
+
+  void add(Ability ability) {
+    long sequence = nextSequence.getAndIncrement();
+    if (sequences.putIfAbsent(ability, sequence) != null) {
+      return;
+    }
+    bySequence.put(sequence, ability);
+    byClass.compute(ability.getClass(), (k, bucket) -> {
+      if (bucket == null) {
+        bucket = new ConcurrentLinkedQueue<>();
+        version.incrementAndGet();
+      }
+      bucket.add(ability);
+      return bucket;
+    });
+    byDescription.computeIfAbsent(ability.description(), k -> new ConcurrentLinkedQueue<>()).add(ability);
+  }
+
+  boolean remove(Ability ability) {
+    Long sequence = sequences.remove(ability);
+    if (sequence != null) {
+      bySequence.remove(sequence);
+      unindex(ability);
+      return true;
+    }
+    return false;
+  }
+
+  private void unindex(Ability ability) {
+    byClass.computeIfPresent(ability.getClass(), (k, bucket) -> {
+      if (bucket.remove(ability) && bucket.isEmpty()) {
+        version.incrementAndGet();
+        return null;
+      }
+      return bucket;
+    });
+    removeDescription(ability);
+  }
+
+  private void removeDescription(Ability ability) {
+    byDescription.computeIfPresent(ability.description(), (k, bucket) -> {
+      bucket.remove(ability);
+      return bucket.isEmpty() ? null : bucket;
+    });
+  }
+
+  boolean isEmpty() {
+    return all.isEmpty();
+  }
+
+  Stream<Ability> stream() {
+    return all.stream();
+  }
+
+  void forEach(Consumer<Ability> consumer) {
+    all.forEach(consumer);
+  }
+
+  /**
+   * Iterate abilities in activation order. Removing through the iterator also updates the indexes.
+   */
+  Iterator<Ability> iterator() {
+    Iterator<Ability> it = all.iterator();
+    return new Iterator<>() {
+      private Ability last;
+
+      @Override
+      public boolean hasNext() {
+        return it.hasNext();
+      }
+
+      @Override
+      public Ability next() {
+        return last = it.next();
+      }
+
+      @Override
+      public void remove() {
+        it.remove();
+        sequences.remove(last);
+        unindex(last);
+      }
+    };
+  }
+
+  /**
+   * Find the only class bucket matching the given type.
+   * @return the bucket, {@link #all} if more than one bucket matches or null if none match
+   */
+  private @Nullable Collection<Ability> bucket(Class<?> type) {
+    if (Modifier.isFinal(type.getModifiers())) {
+      return byClass.get(type);
+    }
+    Class<?>[] classes = matchingClasses(type);
+    return switch (classes.length) {
+      case 0 -> null;
+      case 1 -> byClass.get(classes[0]);
+      default -> all;
+    };
+  }
+
+  /**
+   * Get the indexed concrete classes assignable to the given type.
+   * Results are cached until a class bucket is created or dropped.
+   */
+  private Class<?>[] matchingClasses(Class<?> type) {
+    int current = version.get();
+    Match match = matches.get(type);
+    if (match == null || match.version != current) {
+      List<Class<?>> result = new ArrayList<>(2);
+      for (Class<?> concrete : byClass.keySet()) {
+        if (type.isAssignableFrom(concrete)) {
+          result.add(concrete);
+        }
+      }
+      match = new Match(current, result.toArray(Class<?>[]::new));
+      matches.put(type, match);
+    }
+    return match.classes;
+  }
+
+  boolean has(Class<?> type) {
+    return bucket(type) != null;
+  }
+
+  boolean has(AbilityDescription desc) {
+    Queue<Ability> bucket = byDescription.get(desc);
+    return bucket != null && !bucket.isEmpty();
+  }
+
+  <T extends Ability> @Nullable T first(Class<T> type) {
+    Collection<Ability> bucket = bucket(type);
+    if (bucket != null) {
+      for (Ability ability : bucket) {
+        if (type.isInstance(ability)) {
+          return type.cast(ability);
+        }
+      }
+    }
+    return null;
+  }
+
+  <T extends Ability> Stream<T> stream(Class<T> type) {
+    Collection<Ability> bucket = bucket(type);
+    if (bucket == null) {
+      return Stream.of();
+    }
+    Stream<Ability> stream = bucket.stream();
+    return (bucket == all ? stream.filter(type::isInstance) : stream).map(type::cast);
+  }
+
+  Stream<Ability> stream(AbilityDescription desc) {
+    Queue<Ability> bucket = byDescription.get(desc);
+    return bucket == null ? Stream.of() : bucket.stream();
+  }
+
+  /**
+   * Remove all abilities that are instances of any of the given types.
+   * @return the removed abilities in activation order
+   */
+  Collection<Ability> removeAll(Collection<Class<? extends Ability>> types) {
+    NavigableMap<Long, Ability> removed = new TreeMap<>();
+    for (Class<? extends Ability> type : types) {
+      for (Class<?> concrete : matchingClasses(type)) {
+        Queue<Ability> bucket = byClass.remove(concrete);
+        if (bucket == null) {
+          continue;
+        }
+        version.incrementAndGet();
+        for (Ability ability : bucket) {
+          Long sequence = sequences.remove(ability);
+          if (sequence != null) {
+            bySequence.remove(sequence);
+            removeDescription(ability);
+            removed.put(sequence, ability);
+          }
+        }
+      }
+    }
+    return removed.values();
+  }
+
+  /**
+   * Remove all abilities matching the given predicate.
+   * @return the removed abilities in activation order
+   */
+  Collection<Ability> removeIf(Predicate<Ability> predicate) {
+    Collection<Ability> removed = new ArrayList<>();
+    Iterator<Ability> it = iterator();
+    while (it.hasNext()) {
+      Ability ability = it.next();
+      if (predicate.test(ability)) {
+        it.remove();
+        removed.add(ability);
+      }
+    }
+    return removed;
+  }
+
+  void clear() {
+    bySequence.clear();
+    sequences.clear();
+    byClass.clear();
+    byDescription.clear();
+    version.incrementAndGet();
+  }
+
+  private record Match(int version, Class<?>[] classes) {
+  }
+}
@@ -33,6 +33,7 @@ import me.moros.bending.api.game.WorldManager;
 import me.moros.bending.api.registry.Registries;
 import me.moros.bending.api.user.User;
 import me.moros.bending.api.util.KeyUtil;
+import me.moros.bending.common.collision.CollisionMatrix;
 import me.moros.bending.common.config.ConfigManager;
 import me.moros.bending.common.logging.Logger;
 import net.kyori.adventure.key.Key;
@@ -40,19 +41,26 @@ import org.spongepowered.configurate.objectmapping.meta.Comment;
 
 public final class WorldManagerImpl implements WorldManager {
   private final Logger logger;
+  private final ProfilerImpl profiler;
   private final Map<Key, ManagerPair> worlds;
   private final Set<Key> disabled;
+  private final CollisionMatrix collisionMatrix;
+  private final boolean parallelCollisions;
 
-  WorldManagerImpl(Logger logger) {
+  WorldManagerImpl(Logger logger, ProfilerImpl profiler, CollisionMatrix collisionMatrix) {
     this.logger = logger;
+    this.profiler = profiler;
+    this.collisionMatrix = collisionMatrix;
     worlds = new ConcurrentHashMap<>();
     disabled = ConcurrentHashMap.newKeySet();
-    refreshDisabled();
+    Config config = ConfigManager.load(Config::new);
+    refreshDisabled(config);
+    parallelCollisions = config.parallelCollisions;
   }
 
-  private void refreshDisabled() {
+  private void refreshDisabled(Config config) {
     disabled.clear();
-    for (String raw : ConfigManager.load(Config::new).disabledWorlds) {
+    for (String raw : config.disabledWorlds) {
       Key key = KeyUtil.VANILLA_KEY_MAPPER.apply(raw.toLowerCase(Locale.ROOT));
       if (key != null) {
         disabled.add(key);
@@ -70,8 +78,8 @@ public final class WorldManagerImpl implements WorldManager {
   }
 
   private ManagerPair createPair(Key world) {
-    AbilityManager abilities = new AbilityManagerImpl(logger, world);
-    return new ManagerPair(abilities, new CollisionManager(abilities));
+    AbilityManager abilities = new AbilityManagerImpl(logger, profiler, world);
+    return new ManagerPair(abilities, new CollisionManager(abilities, profiler, collisionMatrix, parallelCollisions));
   }
 
   @Override
@@ -122,6 +130,8 @@ public final class WorldManagerImpl implements WorldManager {
   private static final class Config implements Configurable {
     @Comment("Worlds are specified by their key, e.g. minecraft:overworld")
     private List<String> disabledWorlds = List.of("disabledbendingworld");
+    @Comment("Split collision tree construction and queries across multiple threads for worlds with many active abilities")
+    private boolean parallelCollisions = false;
 
     @Override
     public List<String> path() {
@@ -198,6 +198,23 @@ public interface Message {
   Args1<Double> IMPORT_SUCCESS = seconds -> brand(translatable("bending.command.import.success", SUCCESS)
     .arguments(text(seconds)));
 
+  Args0 PROFILE_DESC = () -> translatable("bending.command.profile.description");
+  Args0 PROFILE_START = () -> brand(translatable("bending.command.profile.start", SUCCESS));
+  Args0 PROFILE_STOP = () -> brand(translatable("bending.command.profile.stop", WARN));
+  Args0 PROFILE_NO_DATA = () -> brand(translatable("bending.command.profile.no-data", WARN));
+  Args2<Long, Double> PROFILE_HEADER = (ticks, avg) -> translatable("bending.command.profile.header", HEADER)
+    .arguments(text(ticks, ACCENT), text(avg, ACCENT));
+  Args0 PROFILE_ABILITIES = () -> translatable("bending.command.profile.abilities", HEADER);
+  Args6<AbilityDescription, Double, Double, Double, Double, Double> PROFILE_ABILITY = (desc, total, p50, p99, max, count) ->
+    translatable("bending.command.profile.ability", TEXT_COLOR)
+      .arguments(desc.displayName(), text(total, ACCENT), text(p50), text(p99), text(max), text(count));
+  Args0 PROFILE_COLLISIONS = () -> translatable("bending.command.profile.collisions", HEADER);
+  Args4<String, Double, Double, Double> PROFILE_COLLISION = (world, broad, narrow, pairs) ->
+    translatable("bending.command.profile.collision", TEXT_COLOR)
+      .arguments(text(world, ACCENT), text(broad), text(narrow), text(pairs));
+  Args1<String> PROFILE_TEMPORAL = sizes -> translatable("bending.command.profile.temporal", TEXT_COLOR)
+    .arguments(text(sizes, NEUTRAL));
+
   Args0 BENDING_BOARD_TITLE = () -> translatable("bending.board.title", Style.style(TEXT_COLOR, TextDecoration.BOLD));
 
   Args1<Integer> BENDING_BOARD_EMPTY_SLOT = slot -> translatable("bending.board.empty-slot", METAL)
@@ -252,4 +269,22 @@ public interface Message {
       audience.sendMessage(build(arg0, arg1, arg2));
     }
   }
+
+  @FunctionalInterface
+  interface Args4<A0, A1, A2, A3> {
+    Component build(A0 arg0, A1 arg1, A2 arg2, A3 arg3);
+
+    default void send(Audience audience, A0 arg0, A1 arg1, A2 arg2, A3 arg3) {
+      audience.sendMessage(build(arg0, arg1, arg2, arg3));
+    }
+  }
+
+  @FunctionalInterface
+  interface Args6<A0, A1, A2, A3, A4, A5> {
+    Component build(A0 arg0, A1 arg1, A2 arg2, A3 arg3, A4 arg4, A5 arg5);
+
+    default void send(Audience audience, A0 arg0, A1 arg1, A2 arg2, A3 arg3, A4 arg4, A5 arg5) {
+      audience.sendMessage(build(arg0, arg1, arg2, arg3, arg4, arg5));
+    }
+  }
 }
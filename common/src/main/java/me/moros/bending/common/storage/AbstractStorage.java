@@ -19,32 +19,54 @@
 
 package me.moros.bending.common.storage;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.EnumSet;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
 import me.moros.bending.api.storage.BendingStorage;
 import me.moros.bending.api.user.profile.BenderProfile;
+import me.moros.bending.api.user.profile.BenderProfile.Part;
 import me.moros.bending.api.util.Tasker;
 import me.moros.bending.common.logging.Logger;
 import org.jspecify.annotations.Nullable;
 
 abstract class AbstractStorage implements BendingStorage {
+  protected static final int BATCH_SIZE = 256;
+  private static final long WRITE_DELAY = 5; // seconds
+
   protected final Logger logger;
   private final Executor executor;
+  private final Map<UUID, PendingSave> queue;
+  private final AtomicBoolean drainScheduled;
+  private final AtomicLong sequence;
+  private final ReentrantLock writeLock;
 
   protected AbstractStorage(Logger logger) {
     this.logger = logger;
     this.executor = Tasker.async();
+    this.queue = new ConcurrentHashMap<>();
+    this.drainScheduled = new AtomicBoolean();
+    this.sequence = new AtomicLong();
+    this.writeLock = new ReentrantLock();
   }
 
   private <R> CompletableFuture<R> async(Supplier<R> supplier) {
@@ -62,15 +84,45 @@ abstract class AbstractStorage implements BendingStorage {
 
   @Override
   public final CompletableFuture<@Nullable BenderProfile> loadProfileAsync(UUID uuid) {
+    PendingSave pending = queue.get(uuid);
+    if (pending != null) {
+      return CompletableFuture.completedFuture(pending.profile());
+    }
     return async(() -> loadProfile(uuid)).exceptionally(logError(null));
   }
 
+  /**
+   * Load the profiles for a batch of at most {@link #BATCH_SIZE} users.
+   * @param uuids the users' uuids
+   * @return a map with all matching stored profiles
+   */
+  protected Map<UUID, BenderProfile> loadProfileBatch(Collection<UUID> uuids) {
+    Map<UUID, BenderProfile> results = new HashMap<>(uuids.size());
+    for (UUID uuid : uuids) {
+      BenderProfile profile = loadProfile(uuid);
+      if (profile != null) {
+        results.put(uuid, profile);
+      }
+    }
+    return results;
+  }
+
+  private static <T> List<List<T>> partition(Collection<T> values) {
+    List<T> list = List.copyOf(values);
+    List<List<T>> batches = new ArrayList<>((list.size() + BATCH_SIZE - 1) / BATCH_SIZE);
+    for (int i = 0; i < list.size(); i += BATCH_SIZE) {
+      batches.add(list.subList(i, Math.min(list.size(), i + BATCH_SIZE)));
+    }
+    return batches;
+  }
+
   @Override
   public final Map<UUID, BenderProfile> loadProfiles(Set<UUID> uuids) {
     Map<UUID, BenderProfile> results = new HashMap<>(uuids.size());
-    for (UUID uuid : uuids) {
-      results.computeIfAbsent(uuid, this::loadProfile);
+    for (List<UUID> batch : partition(uuids)) {
+      results.putAll(loadProfileBatch(batch));
     }
+    overlayQueued(uuids, results);
     return results;
   }
 
@@ -78,65 +130,244 @@ abstract class AbstractStorage implements BendingStorage {
   public final CompletableFuture<Map<UUID, BenderProfile>> loadProfilesAsync(Set<UUID> uuids, LongAdder progressCounter) {
     final int size = uuids.size();
     Map<UUID, BenderProfile> results = new ConcurrentHashMap<>(size);
-    CompletableFuture<?>[] futures = new CompletableFuture[size];
+    List<List<UUID>> batches = partition(uuids);
+    CompletableFuture<?>[] futures = new CompletableFuture[batches.size()];
     AtomicInteger counter = new AtomicInteger();
-    for (UUID uuid : uuids) {
+    for (List<UUID> batch : batches) {
       futures[counter.getAndIncrement()] = async(() -> {
-        results.computeIfAbsent(uuid, this::loadProfile);
-        progressCounter.increment();
+        results.putAll(loadProfileBatch(batch));
+        progressCounter.add(batch.size());
       });
     }
     return CompletableFuture.allOf(futures).handle((ignore, t) -> {
       if (t != null) {
         logger.warn(t.getMessage(), t);
       }
+      overlayQueued(uuids, results);
       return results;
     });
   }
 
+  // Queued profiles are newer than what is stored
+  private void overlayQueued(Set<UUID> uuids, Map<UUID, BenderProfile> results) {
+    for (PendingSave pending : queue.values()) {
+      if (uuids.contains(pending.profile().uuid())) {
+        results.put(pending.profile().uuid(), pending.profile());
+      }
+    }
+  }
+
+  /**
+   * Load the next page of stored uuids in ascending order, as defined by {@link UUID#compareTo(UUID)}.
+   * @param after the last uuid of the previous page or null to load the first page
+   * @param limit the maximum amount of uuids to load
+   * @return the page of uuids
+   */
+  protected abstract List<UUID> loadUuidPage(@Nullable UUID after, int limit);
+
+  @Override
+  public int forEachProfile(Consumer<BenderProfile> consumer) {
+    // Keyset pagination so only a single page of uuids and profiles is held at a time
+    int count = 0;
+    List<UUID> page = loadUuidPage(null, BATCH_SIZE);
+    while (!page.isEmpty()) {
+      Map<UUID, BenderProfile> profiles = loadProfileBatch(page);
+      overlayQueued(Set.copyOf(page), profiles);
+      for (UUID uuid : page) {
+        BenderProfile profile = profiles.get(uuid);
+        if (profile != null) {
+          consumer.accept(profile);
+          count++;
+        }
+      }
+      if (page.size() < BATCH_SIZE) {
+        break;
+      }
+      page = loadUuidPage(page.getLast(), BATCH_SIZE);
+    }
+    return count;
+  }
+
   @Override
   public final CompletableFuture<Boolean> saveProfileAsync(BenderProfile profile) {
     return async(() -> saveProfile(profile)).exceptionally(logError(false));
   }
 
+  /**
+   * Save a batch of at most {@link #BATCH_SIZE} profiles.
+   * Implementations only need to write the dirty parts of each profile.
+   * @param batch the profiles to save
+   * @return true if all profiles were successfully saved, false otherwise
+   */
+  protected boolean saveProfileBatch(Collection<PendingSave> batch) {
+    boolean result = true;
+    for (PendingSave pending : batch) {
+      result &= saveProfile(pending.profile());
+    }
+    return result;
+  }
+
+  private boolean saveFullBatch(Collection<BenderProfile> profiles) {
+    List<PendingSave> batch = new ArrayList<>(profiles.size());
+    for (BenderProfile profile : profiles) {
+      batch.add(PendingSave.full(profile));
+    }
+    writeLock.lock();
+    try {
+      List<PendingSave> superseded = new ArrayList<>();
+      for (BenderProfile profile : profiles) {
+        PendingSave pending = queue.get(profile.uuid());
+        if (pending != null) {
+          superseded.add(pending);
+        }
+      }
+      if (!saveProfileBatch(batch)) {
+        return false;
+      }
+      // A full save supersedes queued changes for the same users, entries updated while writing stay queued
+      for (PendingSave pending : superseded) {
+        queue.remove(pending.profile().uuid(), pending);
+      }
+      return true;
+    } finally {
+      writeLock.unlock();
+    }
+  }
+
   @Override
   public final boolean saveProfiles(Collection<BenderProfile> profiles) {
-    boolean result = false;
-    for (var profile : profiles) {
-      result |= saveProfile(profile);
+    boolean result = !profiles.isEmpty();
+    for (List<BenderProfile> batch : partition(profiles)) {
+      result &= saveFullBatch(batch);
     }
     return result;
   }
 
   @Override
   public final CompletableFuture<Boolean> saveProfilesAsync(Collection<BenderProfile> profiles, LongAdder progressCounter) {
-    final int size = profiles.size();
-    CompletableFuture<?>[] futures = new CompletableFuture[size];
+    List<List<BenderProfile>> batches = partition(profiles);
+    if (batches.isEmpty()) {
+      return CompletableFuture.completedFuture(false);
+    }
+    CompletableFuture<?>[] futures = new CompletableFuture[batches.size()];
     AtomicInteger counter = new AtomicInteger();
-    LongAdder successful = new LongAdder();
-    for (var profile : profiles) {
+    AtomicBoolean successful = new AtomicBoolean(true);
+    for (List<BenderProfile> batch : batches) {
       futures[counter.getAndIncrement()] = async(() -> {
-        if (saveProfile(profile)) {
-          successful.increment();
+        if (!saveFullBatch(batch)) {
+          successful.set(false);
         }
-        progressCounter.increment();
+        progressCounter.add(batch.size());
       });
     }
-    if (futures.length == 0) {
-      return CompletableFuture.completedFuture(false);
-    }
     return CompletableFuture.allOf(futures).handle((ignore, t) -> {
       if (t != null) {
         logger.warn(t.getMessage(), t);
+        return false;
       }
-      return successful.intValue() == size;
+      return successful.get();
     });
   }
 
+  @Override
+  public final void queueSave(BenderProfile profile, Set<Part> parts) {
+    if (parts.isEmpty()) {
+      return;
+    }
+    PendingSave pending = new PendingSave(profile, EnumSet.copyOf(parts), sequence.incrementAndGet());
+    queue.merge(profile.uuid(), pending, PendingSave::merge);
+    if (drainScheduled.compareAndSet(false, true)) {
+      Tasker.async().submit(this::drainQueue, WRITE_DELAY, TimeUnit.SECONDS);
+    }
+  }
+
+  @Override
+  public final boolean flushQueue(long timeout, TimeUnit unit) {
+    if (queue.isEmpty()) {
+      return true;
+    }
+    try {
+      async(this::drainQueue).get(timeout, unit);
+    } catch (TimeoutException e) {
+      logger.warn("Timed out while saving " + queue.size() + " queued profiles.");
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } catch (ExecutionException e) {
+      logger.error(e.getMessage(), e);
+    }
+    return queue.isEmpty();
+  }
+
+  private int drainQueue() {
+    drainScheduled.set(false);
+    int written = 0;
+    writeLock.lock();
+    try {
+      List<PendingSave> batch = new ArrayList<>(Math.min(BATCH_SIZE, queue.size()));
+      for (PendingSave pending : queue.values()) {
+        batch.add(pending);
+        if (batch.size() >= BATCH_SIZE) {
+          written += writeQueued(batch);
+          batch.clear();
+        }
+      }
+      if (!batch.isEmpty()) {
+        written += writeQueued(batch);
+      }
+    } finally {
+      writeLock.unlock();
+    }
+    // Retry failed writes and anything queued while draining
+    if (!queue.isEmpty() && drainScheduled.compareAndSet(false, true)) {
+      Tasker.async().submit(this::drainQueue, WRITE_DELAY, TimeUnit.SECONDS);
+    }
+    return written;
+  }
+
+  private int writeQueued(List<PendingSave> batch) {
+    boolean saved;
+    try {
+      saved = saveProfileBatch(batch);
+    } catch (Exception e) {
+      logger.error(e.getMessage(), e);
+      saved = false;
+    }
+    if (!saved) {
+      return 0;
+    }
+    // Entries that were updated while writing stay queued
+    for (PendingSave pending : batch) {
+      queue.remove(pending.profile().uuid(), pending);
+    }
+    return batch.size();
+  }
+
   private <R> Function<Throwable, R> logError(R def) {
     return t -> {
       logger.error(t.getMessage(), t);
       return def;
     };
   }
+
+  /**
+   * A profile waiting to be saved along with the parts of it that changed.
+   */
+  record PendingSave(BenderProfile profile, Set<Part> parts, long sequence) {
+    private static final Set<Part> ALL = EnumSet.allOf(Part.class);
+
+    static PendingSave full(BenderProfile profile) {
+      return new PendingSave(profile, ALL, 0);
+    }
+
+    boolean isDirty(Part part) {
+      return parts.contains(part);
+    }
+
+    private PendingSave merge(PendingSave other) {
+      PendingSave newer = sequence >= other.sequence ? this : other;
+      Set<Part> union = EnumSet.copyOf(parts);
+      union.addAll(other.parts);
+      return new PendingSave(newer.profile, union, newer.sequence);
+    }
+  }
 }
@@ -23,13 +23,19 @@ import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Objects;
+import java.util.PriorityQueue;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import com.github.benmanes.caffeine.cache.Caffeine;
 import com.github.benmanes.caffeine.cache.LoadingCache;
@@ -67,20 +73,46 @@ final class FileStorage extends AbstractStorage {
     return dataPath.resolve(uuid + SUFFIX);
   }
 
-  @Override
-  public Set<UUID> loadUuids() {
+  private <R> R listUuids(Function<Stream<UUID>, R> function) {
     try (var stream = Files.list(dataPath)) {
-      return stream.map(p -> p.getFileName().toString())
+      return function.apply(stream.map(p -> p.getFileName().toString())
         .filter(name -> name.endsWith(SUFFIX))
         .map(name -> name.substring(0, name.length() - SUFFIX.length()))
         .map(TextUtil::parseUUID)
-        .filter(Objects::nonNull)
-        .collect(Collectors.toSet());
+        .filter(Objects::nonNull));
     } catch (IOException e) {
       throw new UncheckedIOException(e);
     }
   }
 
+  @Override
+  public Set<UUID> loadUuids() {
+    return listUuids(stream -> stream.collect(Collectors.toSet()));
+  }
+
+  @Override
+  public int countProfiles() {
+    return listUuids(stream -> (int) stream.count());
+  }
+
+  @Override
+  protected List<UUID> loadUuidPage(@Nullable UUID after, int limit) {
+    // Files are listed in no particular order, so each page keeps the lowest uuids seen in a bounded heap
+    PriorityQueue<UUID> page = new PriorityQueue<>(limit + 1, Comparator.reverseOrder());
+    listUuids(stream -> {
+      stream.filter(uuid -> after == null || uuid.compareTo(after) > 0).forEach(uuid -> {
+        page.add(uuid);
+        if (page.size() > limit) {
+          page.poll();
+        }
+      });
+      return null;
+    });
+    List<UUID> result = new ArrayList<>(page);
+    result.sort(null);
+    return result;
+  }
+
   @Override
   public @Nullable BenderProfile loadProfile(UUID uuid) {
     Path path = filePath(uuid);
@@ -0,0 +1,162 @@
+/*
+ * Copyright 2020-2026 Moros
+ *
+ * This file is part of Bending.
+ *
+ * Bending is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Bending is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bending. If not, see <https://www.gnu.org/licenses/>.
+ */
+package me.moros.bending.common.storage;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import me.moros.bending.api.storage.BendingStorage;
+import me.moros.bending.api.user.profile.BenderProfile;
+import me.moros.bending.api.util.Tasker;
+import me.moros.bending.common.logging.Logger;
+import me.moros.bending.common.storage.file.log.SegmentFile;
+import me.moros.tasker.Task;
+import org.jspecify.annotations.Nullable;
+
+final class SegmentStorage extends AbstractStorage {
+  static final String FILE_NAME = "profiles.seg";
+
+  private final SegmentFile file;
+  private final Task compactionTask;
+
+  SegmentStorage(Logger logger, Path directory) {
+    super(logger);
+    try {
+      Files.createDirectories(directory);
+      this.file = SegmentFile.open(directory.resolve(FILE_NAME));
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    this.compactionTask = Tasker.async().repeat(this::compact, 10, TimeUnit.MINUTES);
+  }
+
+  @Override
+  public Set<UUID> loadUuids() {
+    return file.keys();
+  }
+
+  @Override
+  public int countProfiles() {
+    return file.count();
+  }
+
+  @Override
+  protected List<UUID> loadUuidPage(@Nullable UUID after, int limit) {
+    return file.keys(after, limit);
+  }
+
+  @Override
+  public @Nullable BenderProfile loadProfile(UUID uuid) {
+    try {
+      return file.read(uuid);
+    } catch (IOException e) {
+      logger.warn(e.getMessage(), e);
+      return null;
+    }
+  }
+
+  @Override
+  public boolean saveProfile(BenderProfile profile) {
+    return saveProfileBatch(List.of(PendingSave.full(profile)));
+  }
+
+  @Override
+  protected boolean saveProfileBatch(Collection<PendingSave> batch) {
+    // Records are always written in full so the whole batch is appended with a single sync
+    List<BenderProfile> profiles = new ArrayList<>(batch.size());
+    for (PendingSave pending : batch) {
+      profiles.add(pending.profile());
+    }
+    try {
+      file.write(profiles);
+      return true;
+    } catch (IOException e) {
+      logger.warn(e.getMessage(), e);
+      return false;
+    }
+  }
+
+  /**
+   * Copy all profiles from another storage into a new segment file.
+   * Profiles that cannot be read from the source are skipped and reported to the given consumer.
+   * @param source the storage to copy profiles from
+   * @param target the path of the segment file to create
+   * @param unreadable the consumer for uuids of profiles that could not be read
+   * @return the amount of copied profiles
+   * @throws IOException if the segment file could not be written
+   */
+  static int migrate(BendingStorage source, Path target, Consumer<UUID> unreadable) throws IOException {
+    List<UUID> uuids = List.copyOf(source.loadUuids());
+    int count = 0;
+    try (SegmentFile file = SegmentFile.open(target)) {
+      for (int i = 0; i < uuids.size(); i += BATCH_SIZE) {
+        List<UUID> batch = uuids.subList(i, Math.min(uuids.size(), i + BATCH_SIZE));
+        Map<UUID, BenderProfile> profiles = source.loadProfiles(Set.copyOf(batch));
+        for (UUID uuid : batch) {
+          if (!profiles.containsKey(uuid)) {
+            unreadable.accept(uuid);
+          }
+        }
+        file.write(profiles.values());
+        count += profiles.size();
+      }
+    }
+    return count;
+  }
+
+  private void compact() {
+    try {
+      if (file.compactIfNeeded()) {
+        logger.debug("Compacted profile segment file, " + file.count() + " profiles remain.");
+      }
+    } catch (IOException e) {
+      logger.warn(e.getMessage(), e);
+    }
+  }
+
+  @Override
+  public boolean isRemote() {
+    return false;
+  }
+
+  @Override
+  public String toString() {
+    return "Binary";
+  }
+
+  @Override
+  public void close() {
+    compactionTask.cancel();
+    try {
+      file.close();
+    } catch (IOException e) {
+      logger.warn(e.getMessage(), e);
+    }
+  }
+}
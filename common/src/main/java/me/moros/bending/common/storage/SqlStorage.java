@@ -24,31 +24,31 @@ import java.sql.SQLException;
 import java.sql.Types;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.HashSet;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
-import java.util.function.Function;
-import java.util.stream.Collectors;
 
 import me.moros.bending.api.ability.AbilityDescription;
 import me.moros.bending.api.ability.element.Element;
 import me.moros.bending.api.ability.preset.Preset;
 import me.moros.bending.api.registry.Registries;
 import me.moros.bending.api.user.profile.BenderProfile;
-import me.moros.bending.api.util.collect.ElementSet;
+import me.moros.bending.api.user.profile.BenderProfile.Part;
 import me.moros.bending.common.logging.Logger;
-import me.moros.bending.common.storage.sql.PresetAccumulator;
+import me.moros.bending.common.storage.sql.ProfileAccumulator;
 import me.moros.bending.common.storage.sql.dialect.SqlDialect;
 import me.moros.bending.common.storage.sql.migration.V1__Rename_legacy_tables;
 import me.moros.bending.common.storage.sql.migration.V3__Migrate_from_legacy;
+import me.moros.bending.common.storage.sql.migration.V5__Add_user_order_columns;
 import me.moros.bending.common.util.UUIDUtil;
 import me.moros.storage.StorageDataSource;
 import net.kyori.adventure.util.Index;
 import org.flywaydb.core.Flyway;
+import org.jdbi.v3.core.Handle;
 import org.jdbi.v3.core.Jdbi;
 import org.jdbi.v3.core.argument.AbstractArgumentFactory;
 import org.jdbi.v3.core.argument.Argument;
@@ -81,7 +81,8 @@ final class SqlStorage extends AbstractStorage {
   private void migrateWithFlyway() {
     Flyway flyway = Flyway.configure(getClass().getClassLoader())
       .table("bending_schemahistory").loggers("slf4j").locations("classpath:bending/migrations")
-      .javaMigrations(new V1__Rename_legacy_tables(), new V3__Migrate_from_legacy(logger, dialect.nativeUuid()))
+      .javaMigrations(new V1__Rename_legacy_tables(), new V3__Migrate_from_legacy(logger, dialect.nativeUuid()),
+        new V5__Add_user_order_columns(dialect.nativeUuid()))
       .dataSource(dataSource.source()).validateOnMigrate(true).validateMigrationNaming(true)
       .baselineOnMigrate(true).baselineVersion("0")
       .placeholders(Map.of(
@@ -120,130 +121,121 @@ final class SqlStorage extends AbstractStorage {
 
   @Override
   public @Nullable BenderProfile loadProfile(UUID uuid) {
-    Boolean board = DB.withHandle(handle -> handle.createQuery(dialect.SELECT_USER_BY_UUID)
-      .bind(0, uuid).mapTo(boolean.class).findOne().orElse(null));
-    if (board == null) {
-      return null;
-    }
-    Set<Element> elements = getElements(uuid);
-    Map<String, Preset> presetMap = getSlotsAndPresets(uuid);
-    Preset slots = presetMap.remove("");
-    if (slots == null) {
-      slots = Preset.empty();
-    }
-    return BenderProfile.of(uuid, board, elements, slots, presetMap.values());
+    return DB.withHandle(handle -> new ProfileAccumulator(this::getAbilityFromId).reduce(
+      handle.createQuery(dialect.SELECT_PROFILE_BY_UUID).bind(0, uuid).bind(1, uuid)
+    ).get(uuid));
   }
 
   @Override
-  public boolean saveProfile(BenderProfile profile) {
-    saveBoard(profile);
-    saveElements(profile);
-    savePresets(profile);
-    return true;
+  protected Map<UUID, BenderProfile> loadProfileBatch(Collection<UUID> uuids) {
+    if (uuids.isEmpty()) {
+      return Map.of();
+    }
+    return DB.withHandle(handle -> new ProfileAccumulator(this::getAbilityFromId).reduce(
+      handle.createQuery(dialect.SELECT_PROFILES_BY_UUIDS).bindList("uuids", uuids)
+    ));
   }
 
   @Override
-  public boolean isRemote() {
-    return !dataSource.type().isLocal();
+  public int countProfiles() {
+    return DB.withHandle(handle -> handle.createQuery(dialect.COUNT_USERS).mapTo(Integer.class).one());
   }
 
   @Override
-  public void close() {
-    dataSource.source().close();
+  protected List<UUID> loadUuidPage(@Nullable UUID after, int limit) {
+    return DB.withHandle(handle -> {
+      if (after == null) {
+        return handle.createQuery(dialect.SELECT_USER_UUIDS_FIRST_PAGE).bind(0, limit).mapTo(UUID.class).list();
+      }
+      long msb = after.getMostSignificantBits();
+      return handle.createQuery(dialect.SELECT_USER_UUIDS_NEXT_PAGE)
+        .bind(0, msb).bind(1, msb).bind(2, after.getLeastSignificantBits()).bind(3, limit)
+        .mapTo(UUID.class).list();
+    });
   }
 
   @Override
-  public String toString() {
-    return dataSource.type().toString();
-  }
-
-  private Set<Element> getElements(UUID uuid) {
-    return DB.withHandle(handle ->
-      handle.createQuery(dialect.SELECT_USER_ELEMENTS).bind(0, uuid)
-        .mapTo(String.class).map(Element::fromName).filter(Objects::nonNull).toCollection(ElementSet::mutable)
-    );
+  public boolean saveProfile(BenderProfile profile) {
+    return saveProfileBatch(List.of(PendingSave.full(profile)));
   }
 
-  private Map<String, Preset> getSlotsAndPresets(UUID uuid) {
-    return DB.withHandle(handle ->
-      handle.createQuery(dialect.SELECT_USER_PRESETS).bind(0, uuid)
-        .reduceRows(new PresetAccumulator(this::getAbilityFromId))
-        .collect(Collectors.toMap(Preset::name, Function.identity()))
-    );
+  @Override
+  protected boolean saveProfileBatch(Collection<PendingSave> batch) {
+    if (batch.isEmpty()) {
+      return true;
+    }
+    DB.useTransaction(handle -> {
+      PreparedBatch users = handle.prepareBatch(dialect.insertUser());
+      PreparedBatch removeElements = handle.prepareBatch(dialect.REMOVE_USER_ELEMENTS);
+      PreparedBatch insertElements = handle.prepareBatch(dialect.INSERT_USER_ELEMENTS);
+      PreparedBatch removeSlots = handle.prepareBatch(dialect.REMOVE_USER_PRESET);
+      PreparedBatch removePresets = handle.prepareBatch(dialect.REMOVE_USER_NAMED_PRESETS);
+      PreparedBatch insertPresets = handle.prepareBatch(dialect.INSERT_USER_PRESET_WITH_ID);
+      PreparedBatch insertPresetSlots = handle.prepareBatch(dialect.INSERT_USER_PRESET_SLOTS);
+      for (PendingSave pending : batch) {
+        BenderProfile profile = pending.profile();
+        UUID userId = profile.uuid();
+        // The user row is always written as every other table references it
+        users.bind(0, userId).bind(1, userId.getMostSignificantBits()).bind(2, userId.getLeastSignificantBits())
+          .bind(3, profile.board()).add();
+        if (pending.isDirty(Part.ELEMENTS)) {
+          removeElements.bind(0, userId).add();
+          for (Element element : profile.elements()) {
+            insertElements.bind(0, userId).bind(1, element.name().toLowerCase(Locale.ROOT)).add();
+          }
+        }
+        if (pending.isDirty(Part.SLOTS)) {
+          removeSlots.bind(0, userId).bind(1, "").add();
+          addPreset(insertPresets, insertPresetSlots, userId, profile.slots());
+        }
+        if (pending.isDirty(Part.PRESETS)) {
+          removePresets.bind(0, userId).add();
+          for (Preset preset : profile.presets().values()) {
+            addPreset(insertPresets, insertPresetSlots, userId, preset);
+          }
+        }
+      }
+      // Order matters, rows are removed before being written again
+      execute(users, removeElements, insertElements, removeSlots, removePresets, insertPresets, insertPresetSlots);
+    });
+    return true;
   }
 
-  private void saveBoard(BenderProfile profile) {
-    DB.useTransaction(handle ->
-      handle.createUpdate(dialect.insertUser()).bind(0, profile.uuid())
-        .bind(1, profile.board()).execute()
+  private void addPreset(PreparedBatch presetBatch, PreparedBatch presetSlotBatch, UUID userId, Preset preset) {
+    if (preset.isEmpty()) {
+      return;
+    }
+    UUID presetId = UUID.randomUUID();
+    presetBatch.bind(0, presetId).bind(1, userId).bind(2, preset.name()).add();
+    preset.forEach((desc, idx) -> presetSlotBatch
+      .bind(0, presetId)
+      .bind(1, idx + 1)
+      .bind(2, abilityIndex.key(desc))
+      .add()
     );
   }
 
-  private void saveElements(BenderProfile profile) {
-    DB.useTransaction(handle -> {
-      handle.createUpdate(dialect.REMOVE_USER_ELEMENTS).bind(0, profile.uuid()).execute();
-      if (!profile.elements().isEmpty()) {
-        PreparedBatch batch = handle.prepareBatch(dialect.INSERT_USER_ELEMENTS);
-        for (Element element : profile.elements()) {
-          batch.bind(0, profile.uuid()).bind(1, element.name().toLowerCase(Locale.ROOT)).add();
-        }
+  private static void execute(PreparedBatch... batches) {
+    for (PreparedBatch batch : batches) {
+      if (batch.size() > 0) {
         batch.execute();
       }
-    });
+    }
   }
 
-  private void savePresets(BenderProfile profile) {
-    // Loading the currently stored presets to only save the difference
-    UUID userId = profile.uuid();
-    var oldPresets = getSlotsAndPresets(userId).values();
-    var newPresets = profile.presets().values();
-
-    Set<Preset> removed = new HashSet<>(oldPresets);
-    removed.removeAll(newPresets);
-    removed.remove(profile.slots());
-
-    Set<Preset> added = new HashSet<>(newPresets);
-    added.add(profile.slots());
-    added.removeAll(oldPresets);
-    added.removeIf(Preset::isEmpty);
-
-    deletePresets(userId, removed);
-    savePresets(userId, added);
+  @Override
+  public boolean isRemote() {
+    return !dataSource.type().isLocal();
   }
 
-  private void savePresets(UUID userId, Collection<Preset> presets) {
-    if (presets.isEmpty()) {
-      return;
-    }
-    DB.useTransaction(handle -> {
-      PreparedBatch presetBatch = handle.prepareBatch(dialect.INSERT_USER_PRESET_WITH_ID);
-      PreparedBatch presetSlotBatch = handle.prepareBatch(dialect.INSERT_USER_PRESET_SLOTS);
-      for (Preset preset : presets) {
-        UUID presetId = UUID.randomUUID();
-        presetBatch.bind(0, presetId).bind(1, userId).bind(2, preset.name()).add();
-        preset.forEach((desc, idx) -> presetSlotBatch
-          .bind(0, presetId)
-          .bind(1, idx + 1)
-          .bind(2, abilityIndex.key(desc))
-          .add()
-        );
-      }
-      presetBatch.execute();
-      presetSlotBatch.execute();
-    });
+  @Override
+  public void close() {
+    dataSource.source().close();
   }
 
-  private void deletePresets(UUID userId, Collection<Preset> presets) {
-    if (presets.isEmpty()) {
-      return;
-    }
-    DB.useTransaction(handle -> {
-      PreparedBatch batch = handle.prepareBatch(dialect.REMOVE_USER_PRESET);
-      for (Preset preset : presets) {
-        batch.bind(0, userId).bind(1, preset.name()).add();
-      }
-      batch.execute();
-    });
+  @Override
+  public String toString() {
+    return dataSource.type().toString();
   }
 
   private @Nullable AbilityDescription getAbilityFromId(UUID uuid) {
@@ -35,7 +35,8 @@ public enum StorageEngine {
   H2(StorageType.H2),
   HSQL(StorageType.HSQL),
   // Flat file
-  JSON("JSON", new JsonLoader());
+  JSON("JSON", new JsonLoader()),
+  BINARY("BINARY", null);
 
   private final String name;
   private final StorageType type;
@@ -45,7 +46,7 @@ public enum StorageEngine {
     this(type.toString(), type, null);
   }
 
-  StorageEngine(String name, Loader<?> loaderSupplier) {
+  StorageEngine(String name, @Nullable Loader<?> loaderSupplier) {
     this(name, null, loaderSupplier);
   }
 
@@ -20,14 +20,19 @@
 package me.moros.bending.common.storage;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.UUID;
 
 import me.moros.bending.api.config.Configurable;
 import me.moros.bending.api.storage.BendingStorage;
 import me.moros.bending.common.Bending;
 import me.moros.bending.common.config.ConfigManager;
+import me.moros.bending.common.storage.file.loader.JsonLoader;
 import me.moros.bending.common.storage.file.loader.Loader;
 import me.moros.storage.Builder;
 import me.moros.storage.StorageDataSource;
@@ -43,6 +48,9 @@ import org.spongepowered.configurate.objectmapping.meta.Comment;
 public record StorageFactory(Bending plugin) {
   public @Nullable BendingStorage createInstance() {
     Config config = ConfigManager.load(Config::new);
+    if (config.engine == StorageEngine.BINARY) {
+      return segmentStorage();
+    }
     return config.engine.loader().map(this::fileStorage).orElseGet(() -> sqlStorage(config));
   }
 
@@ -50,6 +58,53 @@ public record StorageFactory(Bending plugin) {
     return new FileStorage(plugin.logger(), plugin.path().resolve("data").resolve("flatfile"), loader);
   }
 
+  private @Nullable BendingStorage segmentStorage() {
+    Path dataPath = plugin.path().resolve("data");
+    Path directory = dataPath.resolve("binary");
+    Path legacyPath = dataPath.resolve("flatfile");
+    if (Files.notExists(directory.resolve(SegmentStorage.FILE_NAME)) && Files.isDirectory(legacyPath)
+      && !migrateLegacyProfiles(legacyPath, directory)) {
+      return null;
+    }
+    try {
+      return new SegmentStorage(plugin.logger(), directory);
+    } catch (UncheckedIOException e) {
+      plugin.logger().error(e.getMessage(), e);
+      return null;
+    }
+  }
+
+  // Profiles are migrated into a temporary file that only replaces the segment file once complete,
+  // an interrupted migration leaves no segment file behind and starts over on the next startup.
+  // Unreadable profiles are skipped and logged. The old json files are left untouched.
+  private boolean migrateLegacyProfiles(Path legacyPath, Path directory) {
+    plugin.logger().info("Migrating profiles from " + legacyPath + "...");
+    Path segmentFile = directory.resolve(SegmentStorage.FILE_NAME);
+    Path tmp = directory.resolve(SegmentStorage.FILE_NAME + ".migration");
+    BendingStorage source = new FileStorage(plugin.logger(), legacyPath, new JsonLoader());
+    try {
+      Files.createDirectories(directory);
+      Files.deleteIfExists(tmp);
+      List<UUID> unreadable = new ArrayList<>();
+      int count = SegmentStorage.migrate(source, tmp, unreadable::add);
+      if (!unreadable.isEmpty()) {
+        plugin.logger().warn("Skipped " + unreadable.size() + " unreadable profiles: " + unreadable);
+      }
+      Files.move(tmp, segmentFile, StandardCopyOption.ATOMIC_MOVE);
+      plugin.logger().info("Migrated " + count + " profiles to binary storage.");
+      return true;
+    } catch (IOException | RuntimeException e) {
+      plugin.logger().error(e.getMessage(), e);
+      try {
+        Files.deleteIfExists(tmp);
+      } catch (IOException ignore) {
+      }
+      return false;
+    } finally {
+      source.close();
+    }
+  }
+
   private @Nullable BendingStorage sqlStorage(Config config) {
     StorageType storageType = config.engine.type().orElseThrow();
     Builder builder = StorageDataSource.builder(storageType).database(config.database)
@@ -96,7 +151,8 @@ public record StorageFactory(Bending plugin) {
       - Local:
         > H2 (preferred)
         > HSQL
-        > JSON""")
+        > JSON
+        > BINARY (single file, imports existing JSON data on first use)""")
     private StorageEngine engine = StorageEngine.H2;
     private String host = "localhost";
     private int port = 5432;
@@ -0,0 +1,151 @@
+/*
+ * Copyright 2020-2026 Moros
+ *
+ * This file is part of Bending.
+ *
+ * Bending is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Bending is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bending. If not, see <https://www.gnu.org/licenses/>.
+ */
+package me.moros.bending.common.storage.file.log;
+
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.IntFunction;
+import java.util.function.ToIntFunction;
+
+import me.moros.bending.api.ability.AbilityDescription;
+import me.moros.bending.api.ability.element.Element;
+import me.moros.bending.api.ability.preset.Preset;
+import me.moros.bending.api.user.profile.BenderProfile;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Compact binary encoding for profiles.
+ * <p>Layout: uuid (2 longs), flags (byte), element mask (varint), slots, preset count (varint) and presets.
+ * Each preset is stored as its name followed by a varint slot mask and the varint ability id of every set slot.
+ */
+final class ProfileCodec {
+  private static final Element[] ELEMENTS = Element.values();
+  private static final int BOARD_FLAG = 1;
+
+  private ProfileCodec() {
+  }
+
+  static void encode(DataOutput out, BenderProfile profile, ToIntFunction<AbilityDescription> abilityIds) throws IOException {
+    UUID uuid = profile.uuid();
+    out.writeLong(uuid.getMostSignificantBits());
+    out.writeLong(uuid.getLeastSignificantBits());
+    out.writeByte(profile.board() ? BOARD_FLAG : 0);
+    int elementMask = 0;
+    for (Element element : profile.elements()) {
+      elementMask |= 1 << element.ordinal();
+    }
+    writeVarInt(out, elementMask);
+    writePreset(out, profile.slots(), abilityIds);
+    Collection<Preset> presets = profile.presets().values();
+    writeVarInt(out, presets.size());
+    for (Preset preset : presets) {
+      writeString(out, preset.name());
+      writePreset(out, preset, abilityIds);
+    }
+  }
+
+  static BenderProfile decode(ByteBuffer in, IntFunction<@Nullable AbilityDescription> abilities) throws IOException {
+    try {
+      UUID uuid = new UUID(in.getLong(), in.getLong());
+      boolean board = (in.get() & BOARD_FLAG) != 0;
+      int elementMask = readVarInt(in);
+      List<Element> elements = new ArrayList<>(ELEMENTS.length);
+      for (Element element : ELEMENTS) {
+        if ((elementMask & (1 << element.ordinal())) != 0) {
+          elements.add(element);
+        }
+      }
+      Preset slots = Preset.from(readAbilities(in, abilities));
+      int size = readVarInt(in);
+      List<Preset> presets = new ArrayList<>(size);
+      for (int i = 0; i < size; i++) {
+        String name = readString(in);
+        presets.add(Preset.create(name, readAbilities(in, abilities)));
+      }
+      return BenderProfile.of(uuid, board, elements, slots, presets);
+    } catch (BufferUnderflowException | IllegalArgumentException e) {
+      throw new IOException("Malformed profile record", e);
+    }
+  }
+
+  private static void writePreset(DataOutput out, Preset preset, ToIntFunction<AbilityDescription> abilityIds) throws IOException {
+    int[] ids = new int[9];
+    int[] mask = new int[1];
+    preset.forEach((desc, idx) -> {
+      ids[idx] = abilityIds.applyAsInt(desc);
+      mask[0] |= 1 << idx;
+    });
+    writeVarInt(out, mask[0]);
+    for (int idx = 0; idx < ids.length; idx++) {
+      if ((mask[0] & (1 << idx)) != 0) {
+        writeVarInt(out, ids[idx]);
+      }
+    }
+  }
+
+  private static AbilityDescription[] readAbilities(ByteBuffer in, IntFunction<@Nullable AbilityDescription> abilities) {
+    AbilityDescription[] result = new AbilityDescription[9];
+    int mask = readVarInt(in);
+    for (int idx = 0; idx < result.length; idx++) {
+      if ((mask & (1 << idx)) != 0) {
+        result[idx] = abilities.apply(readVarInt(in));
+      }
+    }
+    return result;
+  }
+
+  static void writeString(DataOutput out, String value) throws IOException {
+    byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+    writeVarInt(out, bytes.length);
+    out.write(bytes);
+  }
+
+  static String readString(ByteBuffer in) {
+    byte[] bytes = new byte[readVarInt(in)];
+    in.get(bytes);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+
+  static void writeVarInt(DataOutput out, int value) throws IOException {
+    while ((value & ~0x7F) != 0) {
+      out.writeByte((value & 0x7F) | 0x80);
+      value >>>= 7;
+    }
+    out.writeByte(value);
+  }
+
+  static int readVarInt(ByteBuffer in) {
+    int result = 0;
+    for (int shift = 0; shift < 32; shift += 7) {
+      byte b = in.get();
+      result |= (b & 0x7F) << shift;
+      if ((b & 0x80) == 0) {
+        return result;
+      }
+    }
+    throw new IllegalArgumentException("VarInt is too big");
+  }
+}
@@ -0,0 +1,524 @@
+/*
+ * Copyright 2020-2026 Moros
+ *
+ * This file is part of Bending.
+ *
+ * Bending is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Bending is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bending. If not, see <https://www.gnu.org/licenses/>.
+ */
+package me.moros.bending.common.storage.file.log;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.zip.CRC32C;
+
+import me.moros.bending.api.ability.AbilityDescription;
+import me.moros.bending.api.ability.element.Element;
+import me.moros.bending.api.registry.Registries;
+import me.moros.bending.api.user.profile.BenderProfile;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A single append-only segment file that stores binary encoded profiles.
+ * <p>The file starts with a header followed by records. Each record is stored as its type (byte),
+ * payload length (int), payload and a CRC32C checksum of the type and payload.
+ * Ability records map a numeric id to an ability key and always precede the first profile that uses them.
+ * Profile records are never modified, saving a profile appends a new record and the older one becomes garbage
+ * until the file is compacted. An in-memory index sorted by uuid maps each uuid to the location of its latest record.
+ * <p>The file is mapped in fixed-size chunks that are only mapped once they are complete, so appending never
+ * invalidates existing mappings. Records in the incomplete last chunk or across a chunk boundary are read
+ * through the channel instead.
+ */
+public final class SegmentFile implements Closeable {
+  private static final int MAGIC = 0x424E4453; // BNDS
+  private static final byte VERSION = 1;
+
+  private static final byte ABILITY_RECORD = 1;
+  private static final byte PROFILE_RECORD = 2;
+
+  private static final int RECORD_HEADER_SIZE = Byte.BYTES + Integer.BYTES;
+  private static final int RECORD_OVERHEAD = RECORD_HEADER_SIZE + Integer.BYTES;
+  private static final long MIN_COMPACTION_GARBAGE = 1 << 20;
+  private static final long CHUNK_SIZE = 1 << 24;
+
+  private final Path path;
+  private final long chunkSize;
+  private final ReadWriteLock lock;
+
+  private final NavigableMap<UUID, Location> index;
+  private final Map<AbilityDescription, Integer> abilityIds;
+  private final List<@Nullable String> abilityKeys;
+  private final List<@Nullable AbilityDescription> abilities;
+
+  private FileChannel channel;
+  private @Nullable Arena arena;
+  private final List<MemorySegment> chunks;
+  private long size;
+  private long liveBytes;
+
+  private SegmentFile(Path path, long chunkSize) {
+    this.path = path;
+    this.chunkSize = chunkSize;
+    this.chunks = new ArrayList<>();
+    this.lock = new ReentrantReadWriteLock();
+    this.index = new TreeMap<>();
+    this.abilityIds = new HashMap<>();
+    this.abilityKeys = new ArrayList<>();
+    this.abilities = new ArrayList<>();
+  }
+
+  /**
+   * Open or create a segment file and build its index.
+   * A partially written record at the end of the file, for example after a crash, is discarded.
+   * @param path the path of the segment file
+   * @return the opened segment file
+   * @throws IOException if the file could not be read or has an incompatible format
+   */
+  public static SegmentFile open(Path path) throws IOException {
+    return open(path, CHUNK_SIZE);
+  }
+
+  static SegmentFile open(Path path, long chunkSize) throws IOException {
+    SegmentFile file = new SegmentFile(path, chunkSize);
+    file.channel = openChannel(path);
+    try {
+      file.load();
+    } catch (IOException e) {
+      file.channel.close();
+      throw e;
+    }
+    return file;
+  }
+
+  private static FileChannel openChannel(Path path) throws IOException {
+    return FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+  }
+
+  private void load() throws IOException {
+    size = channel.size();
+    if (size == 0) {
+      byte[] header = header();
+      writeFully(channel, ByteBuffer.wrap(header), 0);
+      channel.force(true);
+      size = header.length;
+    }
+    mapChunks();
+    long pos = readHeader();
+    while (pos + RECORD_OVERHEAD <= size) {
+      ByteBuffer recordHeader = ByteBuffer.wrap(bytes(pos, RECORD_HEADER_SIZE));
+      byte type = recordHeader.get();
+      int length = recordHeader.getInt();
+      long end = pos + RECORD_OVERHEAD + length;
+      if (length < 0 || end > size) {
+        break;
+      }
+      ByteBuffer record = ByteBuffer.wrap(bytes(pos + RECORD_HEADER_SIZE, length + Integer.BYTES));
+      byte[] data = new byte[length];
+      record.get(data);
+      if (!validChecksum(type, data, record.getInt())) {
+        break;
+      }
+      ByteBuffer payload = ByteBuffer.wrap(data);
+      switch (type) {
+        case ABILITY_RECORD -> registerAbility(ProfileCodec.readVarInt(payload), ProfileCodec.readString(payload));
+        case PROFILE_RECORD -> index(new UUID(payload.getLong(), payload.getLong()), pos, length);
+        default -> throw new IOException("Unknown record type " + type + " in " + path);
+      }
+      pos = end;
+    }
+    if (pos < size) {
+      // Discard the incomplete tail, mapped chunks past the new end must be released first
+      unmap();
+      channel.truncate(pos);
+      size = pos;
+      mapChunks();
+    }
+  }
+
+  private static byte[] header() throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    DataOutputStream out = new DataOutputStream(bytes);
+    out.writeInt(MAGIC);
+    out.writeByte(VERSION);
+    Element[] elements = Element.values();
+    out.writeByte(elements.length);
+    for (Element element : elements) {
+      ProfileCodec.writeString(out, element.name());
+    }
+    return bytes.toByteArray();
+  }
+
+  private long readHeader() throws IOException {
+    ByteBuffer buffer = ByteBuffer.wrap(bytes(0, (int) Math.min(size, 1024)));
+    if (buffer.remaining() < 6 || buffer.getInt() != MAGIC) {
+      throw new IOException(path + " is not a bending segment file.");
+    }
+    byte version = buffer.get();
+    if (version != VERSION) {
+      throw new IOException("Unsupported segment file version " + version + " in " + path);
+    }
+    // Elements are stored as a bitmask of their ordinals so the order must match
+    Element[] elements = Element.values();
+    int count = buffer.get();
+    boolean matches = count == elements.length;
+    for (int i = 0; i < count; i++) {
+      String name = ProfileCodec.readString(buffer);
+      matches &= i < elements.length && elements[i].name().equals(name);
+    }
+    if (!matches) {
+      throw new IOException("Segment file " + path + " was written with a different set of elements.");
+    }
+    return buffer.position();
+  }
+
+  private static boolean validChecksum(byte type, byte[] payload, int checksum) {
+    CRC32C crc = new CRC32C();
+    crc.update(type);
+    crc.update(payload);
+    return (int) crc.getValue() == checksum;
+  }
+
+  // Copies to the heap as buffers of shared mappings can't be passed to every JDK API
+  private byte[] bytes(long pos, int length) throws IOException {
+    int chunk = (int) (pos / chunkSize);
+    long offset = pos % chunkSize;
+    if (chunk < chunks.size() && offset + length <= chunkSize) {
+      return chunks.get(chunk).asSlice(offset, length).toArray(ValueLayout.JAVA_BYTE);
+    }
+    ByteBuffer buffer = ByteBuffer.allocate(length);
+    while (buffer.hasRemaining()) {
+      if (channel.read(buffer, pos + buffer.position()) < 0) {
+        throw new EOFException("Unexpected end of " + path);
+      }
+    }
+    return buffer.array();
+  }
+
+  private void registerAbility(int id, String key) {
+    while (abilityKeys.size() <= id) {
+      abilityKeys.add(null);
+      abilities.add(null);
+    }
+    AbilityDescription desc = Registries.ABILITIES.fromString(key);
+    abilityKeys.set(id, key);
+    abilities.set(id, desc);
+    if (desc != null) {
+      abilityIds.put(desc, id);
+    }
+  }
+
+  private void index(UUID uuid, long pos, int length) {
+    Location previous = index.put(uuid, new Location(pos, length));
+    if (previous != null) {
+      liveBytes -= previous.recordSize();
+    }
+    liveBytes += RECORD_OVERHEAD + length;
+  }
+
+  // Only maps chunks that are complete, existing mappings stay valid while the file grows
+  private void mapChunks() throws IOException {
+    if (arena == null) {
+      arena = Arena.ofShared();
+    }
+    while ((chunks.size() + 1) * chunkSize <= size) {
+      chunks.add(channel.map(MapMode.READ_ONLY, chunks.size() * chunkSize, chunkSize, arena));
+    }
+  }
+
+  private void unmap() {
+    chunks.clear();
+    if (arena != null) {
+      arena.close();
+      arena = null;
+    }
+  }
+
+  /**
+   * Get a snapshot of all stored uuids.
+   * @return the stored uuids
+   */
+  public Set<UUID> keys() {
+    lock.readLock().lock();
+    try {
+      return Set.copyOf(index.keySet());
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * Get a page of stored uuids in ascending order.
+   * @param after the last uuid of the previous page or null to get the first page
+   * @param limit the maximum amount of uuids to return
+   * @return the page of uuids
+   */
+  public List<UUID> keys(@Nullable UUID after, int limit) {
+    lock.readLock().lock();
+    try {
+      var keys = after == null ? index.navigableKeySet() : index.navigableKeySet().tailSet(after, false);
+      return keys.stream().limit(limit).toList();
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * Get the amount of stored profiles.
+   * @return the amount of profiles
+   */
+  public int count() {
+    lock.readLock().lock();
+    try {
+      return index.size();
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * Read the latest stored profile for the given uuid.
+   * @param uuid the user's uuid
+   * @return the profile or null if not found
+   * @throws IOException if the stored record is malformed
+   */
+  public @Nullable BenderProfile read(UUID uuid) throws IOException {
+    lock.readLock().lock();
+    try {
+      Location location = index.get(uuid);
+      if (location == null) {
+        return null;
+      }
+      byte[] payload = bytes(location.pos() + RECORD_HEADER_SIZE, location.length());
+      return ProfileCodec.decode(ByteBuffer.wrap(payload), this::ability);
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  private @Nullable AbilityDescription ability(int id) {
+    return id >= 0 && id < abilities.size() ? abilities.get(id) : null;
+  }
+
+  /**
+   * Append the given profiles and sync the file once for the whole batch.
+   * @param profiles the profiles to write
+   * @throws IOException if writing fails, in which case nothing is written, or if new chunks could not be mapped
+   */
+  public void write(Collection<BenderProfile> profiles) throws IOException {
+    if (profiles.isEmpty()) {
+      return;
+    }
+    lock.writeLock().lock();
+    try {
+      RecordWriter writer = new RecordWriter();
+      long[] offsets = new long[profiles.size()];
+      int[] lengths = new int[profiles.size()];
+      append(profiles, writer, offsets, lengths);
+      size += writer.size();
+      int i = 0;
+      for (BenderProfile profile : profiles) {
+        index(profile.uuid(), offsets[i], lengths[i++]);
+      }
+      mapChunks();
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  private void append(Collection<BenderProfile> profiles, RecordWriter writer, long[] offsets, int[] lengths) throws IOException {
+    int abilityCount = abilityKeys.size();
+    try {
+      int i = 0;
+      for (BenderProfile profile : profiles) {
+        ByteArrayOutputStream payload = new ByteArrayOutputStream(64);
+        ProfileCodec.encode(new DataOutputStream(payload), profile, desc -> abilityId(desc, writer));
+        offsets[i] = size + writer.size();
+        lengths[i++] = payload.size();
+        writer.append(PROFILE_RECORD, payload.toByteArray());
+      }
+      writeFully(channel, ByteBuffer.wrap(writer.toByteArray()), size);
+      channel.force(false);
+    } catch (IOException e) {
+      // Roll back ability ids that never made it to the file along with any partial write
+      while (abilityKeys.size() > abilityCount) {
+        abilityKeys.removeLast();
+        AbilityDescription desc = abilities.removeLast();
+        if (desc != null) {
+          abilityIds.remove(desc);
+        }
+      }
+      channel.truncate(size);
+      throw e;
+    }
+  }
+
+  private int abilityId(AbilityDescription desc, RecordWriter writer) {
+    Integer id = abilityIds.get(desc);
+    if (id == null) {
+      id = abilityKeys.size();
+      String key = desc.key().asString();
+      abilityKeys.add(key);
+      abilities.add(desc);
+      abilityIds.put(desc, id);
+      writer.appendAbility(id, key);
+    }
+    return id;
+  }
+
+  /**
+   * Rewrite the file with only the latest record of each profile if enough of it is garbage.
+   * @return true if the file was compacted, false otherwise
+   * @throws IOException if compaction fails, in which case the existing file is left untouched
+   */
+  public boolean compactIfNeeded() throws IOException {
+    lock.writeLock().lock();
+    try {
+      long garbage = size - liveBytes;
+      if (garbage < MIN_COMPACTION_GARBAGE || garbage < liveBytes) {
+        return false;
+      }
+      compact();
+      return true;
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  private void compact() throws IOException {
+    Path tmp = path.resolveSibling(path.getFileName() + ".tmp");
+    Map<UUID, Location> offsets = new TreeMap<>();
+    long newSize;
+    try (FileChannel out = FileChannel.open(tmp, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+      RecordWriter writer = new RecordWriter();
+      writer.writeBytes(header());
+      for (int id = 0; id < abilityKeys.size(); id++) {
+        String key = abilityKeys.get(id);
+        if (key != null) {
+          writer.appendAbility(id, key);
+        }
+      }
+      long pos = writeFully(out, ByteBuffer.wrap(writer.toByteArray()), 0);
+      for (var entry : index.entrySet()) {
+        Location location = entry.getValue();
+        offsets.put(entry.getKey(), new Location(pos, location.length()));
+        pos += writeFully(out, ByteBuffer.wrap(bytes(location.pos(), location.recordSize())), pos);
+      }
+      out.force(true);
+      newSize = pos;
+    }
+    // Mappings must be released before the file can be replaced on some platforms
+    unmap();
+    channel.close();
+    boolean moved = false;
+    try {
+      Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+      moved = true;
+    } finally {
+      channel = openChannel(path);
+      if (moved) {
+        size = newSize;
+        index.clear();
+        index.putAll(offsets);
+      }
+      mapChunks();
+    }
+    liveBytes = 0;
+    for (Location location : index.values()) {
+      liveBytes += location.recordSize();
+    }
+  }
+
+  private static long writeFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+    long written = 0;
+    while (buffer.hasRemaining()) {
+      written += channel.write(buffer, position + written);
+    }
+    return written;
+  }
+
+  @Override
+  public void close() throws IOException {
+    lock.writeLock().lock();
+    try {
+      unmap();
+      channel.close();
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  private record Location(long pos, int length) {
+    private int recordSize() {
+      return RECORD_OVERHEAD + length;
+    }
+  }
+
+  private static final class RecordWriter extends ByteArrayOutputStream {
+    private final CRC32C crc = new CRC32C();
+    private final DataOutputStream out = new DataOutputStream(this);
+
+    private RecordWriter() {
+      super(4096);
+    }
+
+    private void appendAbility(int id, String key) {
+      ByteArrayOutputStream payload = new ByteArrayOutputStream(32);
+      try {
+        DataOutputStream data = new DataOutputStream(payload);
+        ProfileCodec.writeVarInt(data, id);
+        ProfileCodec.writeString(data, key);
+      } catch (IOException e) {
+        throw new AssertionError(e); // In-memory streams do not throw
+      }
+      append(ABILITY_RECORD, payload.toByteArray());
+    }
+
+    private void append(byte type, byte[] payload) {
+      crc.reset();
+      crc.update(type);
+      crc.update(payload);
+      try {
+        out.writeByte(type);
+        out.writeInt(payload.length);
+        out.write(payload);
+        out.writeInt((int) crc.getValue());
+      } catch (IOException e) {
+        throw new AssertionError(e); // In-memory streams do not throw
+      }
+    }
+  }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2020-2026 Moros
+ *
+ * This file is part of Bending.
+ *
+ * Bending is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Bending is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bending. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package me.moros.bending.common.storage.sql;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+
+import me.moros.bending.api.ability.AbilityDescription;
+import me.moros.bending.api.ability.element.Element;
+import me.moros.bending.api.ability.preset.Preset;
+import me.moros.bending.api.user.profile.BenderProfile;
+import me.moros.bending.api.util.collect.ElementSet;
+import org.jdbi.v3.core.result.ResultBearing;
+import org.jdbi.v3.core.result.RowView;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Reduces the rows of a unioned profile query into profiles in a single pass.
+ * Each row is tagged by a row_type column, user rows carry the board and an element
+ * while preset rows carry a single preset slot. Rows may arrive in any order.
+ */
+public record ProfileAccumulator(Function<UUID, @Nullable AbilityDescription> index) {
+  private static final int USER_ROW = 0;
+
+  /**
+   * Reduce the given query into profiles.
+   * @param rows the query selecting row_type, user_id, board, element, preset_name, slot and ability_id columns
+   * @return the profiles mapped by uuid, in the order users were first returned
+   */
+  public Map<UUID, BenderProfile> reduce(ResultBearing rows) {
+    Map<UUID, Builder> builders = rows.reduceRows(new LinkedHashMap<>(), this::accumulate);
+    Map<UUID, BenderProfile> result = new LinkedHashMap<>(builders.size());
+    builders.forEach((uuid, builder) -> {
+      if (builder.exists) {
+        result.put(uuid, builder.build(uuid));
+      }
+    });
+    return result;
+  }
+
+  private Map<UUID, Builder> accumulate(Map<UUID, Builder> container, RowView rowView) {
+    Builder builder = container.computeIfAbsent(rowView.getColumn("user_id", UUID.class), u -> new Builder());
+    if (rowView.getColumn("row_type", Integer.class) == USER_ROW) {
+      accumulateUser(builder, rowView);
+    } else {
+      accumulatePreset(builder, rowView);
+    }
+    return container;
+  }
+
+  private void accumulateUser(Builder builder, RowView rowView) {
+    Boolean board = rowView.getColumn("board", Boolean.class);
+    builder.exists = true;
+    builder.board = board == null || board;
+    String elementName = rowView.getColumn("element", String.class);
+    if (elementName != null) {
+      Element element = Element.fromName(elementName);
+      if (element != null) {
+        builder.elements.add(element);
+      }
+    }
+  }
+
+  private void accumulatePreset(Builder builder, RowView rowView) {
+    String presetName = rowView.getColumn("preset_name", String.class);
+    Integer slot = rowView.getColumn("slot", Integer.class);
+    if (presetName != null && slot != null) {
+      AbilityDescription desc = index().apply(rowView.getColumn("ability_id", UUID.class));
+      builder.presets.computeIfAbsent(presetName, n -> new AbilityDescription[9])[slot - 1] = desc;
+    }
+  }
+
+  private static final class Builder {
+    private final Set<Element> elements;
+    private final Map<String, AbilityDescription[]> presets;
+    private boolean exists;
+    private boolean board;
+
+    private Builder() {
+      this.elements = ElementSet.mutable();
+      this.presets = new HashMap<>();
+      this.board = true;
+    }
+    private BenderProfile build(UUID uuid) {
+      AbilityDescription[] slotData = presets.remove("");
+      Preset slots = slotData == null ? Preset.empty() : Preset.create("", slotData);
+      var presetList = presets.entrySet().stream().map(e -> Preset.create(e.getKey(), e.getValue())).toList();
+      return BenderProfile.of(uuid, board, elements, slots, presetList);
+    }
+  }
+}
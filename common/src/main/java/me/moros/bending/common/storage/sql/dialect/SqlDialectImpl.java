@@ -68,7 +68,8 @@ record SqlDialectImpl(StorageType type, boolean nativeUuidSupport) implements Sq
   @Override
   public String insertUser() {
     return pgInsert() ?
-      "MERGE INTO bending_users (user_id, board) VALUES (?, ?)" :
-      "INSERT INTO bending_users (user_id, board) VALUES (?, ?) ON DUPLICATE KEY UPDATE board = VALUES (board)";
+      "MERGE INTO bending_users (user_id, uuid_msb, uuid_lsb, board) VALUES (?, ?, ?, ?)" :
+      "INSERT INTO bending_users (user_id, uuid_msb, uuid_lsb, board) VALUES (?, ?, ?, ?)"
+        + " ON DUPLICATE KEY UPDATE board = VALUES (board)";
   }
 }
@@ -23,14 +23,30 @@ sealed interface SqlQueries permits SqlDialect {
   String SELECT_ABILITIES = "SELECT ability_id, ability_name FROM bending_abilities";
 
   String SELECT_ALL_USER_UUIDS = "SELECT user_id FROM bending_users";
-  String SELECT_USER_BY_UUID = "SELECT board FROM bending_users WHERE user_id = ? LIMIT 1";
+  String COUNT_USERS = "SELECT COUNT(*) FROM bending_users";
+  // Ordered by the signed halves of the uuid to match UUID#compareTo
+  String SELECT_USER_UUIDS_FIRST_PAGE = "SELECT user_id FROM bending_users ORDER BY uuid_msb, uuid_lsb LIMIT ?";
+  String SELECT_USER_UUIDS_NEXT_PAGE = "SELECT user_id FROM bending_users"
+    + " WHERE uuid_msb > ? OR (uuid_msb = ? AND uuid_lsb > ?) ORDER BY uuid_msb, uuid_lsb LIMIT ?";
 
-  String SELECT_USER_ELEMENTS = "SELECT element FROM bending_user_elements WHERE user_id = ?";
   String INSERT_USER_ELEMENTS = "INSERT INTO bending_user_elements (user_id, element) VALUES (?, ?)";
   String REMOVE_USER_ELEMENTS = "DELETE FROM bending_user_elements WHERE user_id = ?";
 
-  String SELECT_USER_PRESETS = "SELECT preset_name, slot, ability_id FROM bending_profiles WHERE user_id = ?";
   String INSERT_USER_PRESET_WITH_ID = "INSERT INTO bending_presets (preset_id, user_id, preset_name) VALUES (?, ?, ?)";
   String REMOVE_USER_PRESET = "DELETE FROM bending_presets WHERE user_id = ? AND preset_name = ?";
+  String REMOVE_USER_NAMED_PRESETS = "DELETE FROM bending_presets WHERE user_id = ? AND preset_name <> ''";
   String INSERT_USER_PRESET_SLOTS = "INSERT INTO bending_preset_slots (preset_id, slot, ability_id) VALUES (?, ?, ?)";
+
+  // Element and preset slot rows are unioned rather than joined so they don't multiply each other
+  String SELECT_USER_ROWS = "SELECT 0 AS row_type, users.user_id, users.board, elements.element,"
+    + " NULL AS preset_name, NULL AS slot, NULL AS ability_id"
+    + " FROM bending_users AS users"
+    + " LEFT JOIN bending_user_elements AS elements ON users.user_id = elements.user_id";
+  String SELECT_PRESET_ROWS = "SELECT 1, presets.user_id, NULL, NULL, presets.preset_name, slots.slot, slots.ability_id"
+    + " FROM bending_presets AS presets"
+    + " JOIN bending_preset_slots AS slots ON presets.preset_id = slots.preset_id";
+  String SELECT_PROFILE_BY_UUID = SELECT_USER_ROWS + " WHERE users.user_id = ?"
+    + " UNION ALL " + SELECT_PRESET_ROWS + " WHERE presets.user_id = ?";
+  String SELECT_PROFILES_BY_UUIDS = SELECT_USER_ROWS + " WHERE users.user_id IN (<uuids>)"
+    + " UNION ALL " + SELECT_PRESET_ROWS + " WHERE presets.user_id IN (<uuids>)";
 }
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2020-2026 Moros
+ *
+ * This file is part of Bending.
+ *
+ * Bending is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Bending is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bending. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package me.moros.bending.common.storage.sql.migration;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import me.moros.bending.common.util.UUIDUtil;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+/**
+ * Stores the signed halves of each user id so users can be paged in the same order as {@link UUID#compareTo(UUID)}.
+ * Native uuid and binary columns sort as unsigned bytes, or in a vendor specific layout, so they can't be used for that.
+ */
+public class V5__Add_user_order_columns extends BaseJavaMigration {
+  private static final int PAGE_SIZE = 1000;
+
+  private final boolean nativeUuid;
+
+  public V5__Add_user_order_columns(boolean nativeUuid) {
+    this.nativeUuid = nativeUuid;
+  }
+
+  @Override
+  public void migrate(Context context) throws Exception {
+    Connection conn = context.getConnection();
+    try (var statement = conn.createStatement()) {
+      statement.execute("ALTER TABLE bending_users ADD COLUMN uuid_msb BIGINT NOT NULL DEFAULT 0");
+      statement.execute("ALTER TABLE bending_users ADD COLUMN uuid_lsb BIGINT NOT NULL DEFAULT 0");
+    }
+    try (var firstPage = conn.prepareStatement("SELECT user_id FROM bending_users ORDER BY user_id LIMIT ?");
+         var nextPage = conn.prepareStatement("SELECT user_id FROM bending_users WHERE user_id > ? ORDER BY user_id LIMIT ?");
+         var update = conn.prepareStatement("UPDATE bending_users SET uuid_msb = ?, uuid_lsb = ? WHERE user_id = ?")
+    ) {
+      firstPage.setInt(1, PAGE_SIZE);
+      List<UUID> page = loadPage(firstPage);
+      while (!page.isEmpty()) {
+        for (UUID uuid : page) {
+          update.setLong(1, uuid.getMostSignificantBits());
+          update.setLong(2, uuid.getLeastSignificantBits());
+          bind(update, 3, uuid);
+          update.addBatch();
+        }
+        update.executeBatch();
+        if (page.size() < PAGE_SIZE) {
+          break;
+        }
+        bind(nextPage, 1, page.getLast());
+        nextPage.setInt(2, PAGE_SIZE);
+        page = loadPage(nextPage);
+      }
+    }
+    try (var statement = conn.createStatement()) {
+      statement.execute("CREATE UNIQUE INDEX bending_users_order ON bending_users (uuid_msb, uuid_lsb)");
+    }
+  }
+
+  private List<UUID> loadPage(PreparedStatement statement) throws SQLException {
+    List<UUID> page = new ArrayList<>(PAGE_SIZE);
+    try (ResultSet rs = statement.executeQuery()) {
+      while (rs.next()) {
+        page.add(nativeUuid ? rs.getObject(1, UUID.class) : UUIDUtil.fromBytes(rs.getBytes(1)));
+      }
+    }
+    return page;
+  }
+
+  private void bind(PreparedStatement prepared, int idx, UUID uuid) throws SQLException {
+    if (nativeUuid) {
+      prepared.setObject(idx, uuid);
+    } else {
+      prepared.setBytes(idx, UUIDUtil.toBytes(uuid));
+    }
+  }
+}
@@ -0,0 +1,180 @@
+/*
+ * Copyright 2020-2026 Moros
+ *
+ * This file is part of Bending.
+ *
+ * Bending is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Bending is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bending. If not, see <https://www.gnu.org/licenses/>.
+ */
+package me.moros.bending.common.util;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import me.moros.bending.api.collision.geometry.AABB;
+import me.moros.bending.api.platform.entity.Entity;
+import me.moros.bending.api.platform.world.World;
+import me.moros.math.FastMath;
+import me.moros.math.Vector3d;
+import net.kyori.adventure.key.Key;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Per-tick entity snapshot that is shared by all abilities.
+ * <p>While a tick is open, entities are loaded lazily per chunk column on first access and their wrappers are cached,
+ * so any further queries touching the same chunk are answered without querying the platform again.
+ * Entities that spawn or move during the tick are only picked up by the next tick.
+ * Outside an open tick, or when accessed from another thread, queries are forwarded directly to the platform.
+ */
+public enum EntityIndex {
+  INSTANCE;
+
+  private static final int CELL_SHIFT = 4;
+  private static final int CELL_SIZE = 1 << CELL_SHIFT;
+  private static final int HEIGHT_MARGIN = 64;
+  private static final double CELL_MARGIN = 0.5;
+
+  private final Map<Key, Snapshot> snapshots = new HashMap<>();
+  private @Nullable Thread owner;
+
+  /**
+   * Open a new tick. Must be called from the main thread.
+   */
+  public void open() {
+    snapshots.clear();
+    owner = Thread.currentThread();
+  }
+
+  /**
+   * Close the current tick and release all cached entities.
+   */
+  public void close() {
+    owner = null;
+    snapshots.clear();
+  }
+
+  /**
+   * Collect all entities inside a bounding box that satisfy the given predicate.
+   * @param world the world to check
+   * @param box the bounding box to check
+   * @param predicate the predicate that needs to be satisfied for every entity
+   * @param limit the amount of entities to collect, only respected if positive
+   * @param loader the platform function that collects all entities intersecting a bounding box
+   * @return all collected entities
+   */
+  public List<Entity> nearbyEntities(World world, AABB box, Predicate<Entity> predicate, int limit,
+                                     Function<AABB, List<Entity>> loader) {
+    if (owner != Thread.currentThread()) {
+      return filter(loader.apply(box), predicate, limit);
+    }
+    Snapshot snapshot = snapshots.computeIfAbsent(world.key(), k -> new Snapshot(world, loader));
+    return snapshot.query(box, predicate, limit);
+  }
+
+  private static List<Entity> filter(List<Entity> entities, Predicate<Entity> predicate, int limit) {
+    List<Entity> result = new ArrayList<>();
+    for (Entity entity : entities) {
+      if (predicate.test(entity)) {
+        result.add(entity);
+        if (limit > 0 && result.size() >= limit) {
+          break;
+        }
+      }
+    }
+    return result;
+  }
+
+  private static int cell(double value) {
+    return FastMath.floor(value) >> CELL_SHIFT;
+  }
+
+  private static final class Snapshot {
+    private final Function<AABB, List<Entity>> loader;
+    private final LongObjectMap<Cell> cells;
+    private final double minY;
+    private final double maxY;
+
+    private Snapshot(World world, Function<AABB, List<Entity>> loader) {
+      this.loader = loader;
+      this.cells = new LongObjectMap<>();
+      this.minY = world.minHeight() - HEIGHT_MARGIN;
+      this.maxY = world.maxHeight() + HEIGHT_MARGIN;
+    }
+
+    private List<Entity> query(AABB box, Predicate<Entity> predicate, int limit) {
+      List<Entity> result = new ArrayList<>();
+      Vector3d min = box.min();
+      Vector3d max = box.max();
+      int minCellX = cell(min.x());
+      int maxCellX = cell(max.x());
+      int minCellZ = cell(min.z());
+      int maxCellZ = cell(max.z());
+      for (int cx = minCellX; cx <= maxCellX; cx++) {
+        for (int cz = minCellZ; cz <= maxCellZ; cz++) {
+          Cell cell = cells.computeIfAbsent(LongObjectMap.pack(cx, cz), this::load);
+          for (int i = 0; i < cell.entities.length; i++) {
+            Entity entity = cell.entities[i];
+            AABB bounds = cell.bounds[i];
+            if (!intersects(bounds, min, max)) {
+              continue;
+            }
+            // Entities spanning multiple cells are only reported by the cell containing the reference point
+            Vector3d bMin = bounds.min();
+            if (cell(Math.max(bMin.x(), min.x())) != cx || cell(Math.max(bMin.z(), min.z())) != cz) {
+              continue;
+            }
+            if (entity.valid() && predicate.test(entity)) {
+              result.add(entity);
+              if (limit > 0 && result.size() >= limit) {
+                return result;
+              }
+            }
+          }
+        }
+      }
+      return result;
+    }
+
+    private Cell load(long key) {
+      double x = (key >> 32) << CELL_SHIFT;
+      double z = ((int) key) << CELL_SHIFT;
+      // Slightly expand each cell so entities resting exactly on cell edges are always loaded
+      Vector3d cellMin = Vector3d.of(x - CELL_MARGIN, minY, z - CELL_MARGIN);
+      Vector3d cellMax = Vector3d.of(x + CELL_SIZE + CELL_MARGIN, maxY, z + CELL_SIZE + CELL_MARGIN);
+      AABB box = AABB.of(cellMin, cellMax);
+      List<Entity> loaded = loader.apply(box);
+      int size = loaded.size();
+      Entity[] entities = loaded.toArray(Entity[]::new);
+      AABB[] bounds = new AABB[size];
+      for (int i = 0; i < size; i++) {
+        bounds[i] = entities[i].bounds();
+      }
+      return new Cell(entities, bounds);
+    }
+
+    // Same semantics as AABB intersection, edges that only touch are not considered intersecting
+    private static boolean intersects(AABB bounds, Vector3d min, Vector3d max) {
+      Vector3d bMin = bounds.min();
+      Vector3d bMax = bounds.max();
+      return bMax.x() > min.x() && bMin.x() < max.x() && bMax.y() > min.y() && bMin.y() < max.y() &&
+        bMax.z() > min.z() && bMin.z() < max.z();
+    }
+  }
+
+  private record Cell(Entity[] entities, AABB[] bounds) {
+  }
+}
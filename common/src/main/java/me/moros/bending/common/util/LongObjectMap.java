@@ -0,0 +1,194 @@
+/*
+ * Copyright 2020-2026 Moros
+ *
+ * This file is part of Bending.
+ *
+ * Bending is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Bending is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bending. If not, see <https://www.gnu.org/licenses/>.
+ */
+package me.moros.bending.common.util;
+
+import java.util.Arrays;
+import java.util.function.Consumer;
+import java.util.function.LongFunction;
+import java.util.function.Predicate;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Open addressing hash map with primitive long keys and non-null values.
+ * Lookups never allocate. Instances are not thread-safe.
+ * @param <V> the type of values
+ */
+public final class LongObjectMap<V> {
+  private static final int DEFAULT_CAPACITY = 16;
+  private static final float LOAD_FACTOR = 0.5F;
+
+  private long[] keys;
+  private @Nullable Object[] values;
+  private int mask;
+  private int size;
+
+  public LongObjectMap() {
+    this(DEFAULT_CAPACITY);
+  }
+
+  public LongObjectMap(int expectedSize) {
+    int capacity = Integer.highestOneBit(Math.max(DEFAULT_CAPACITY, (int) (expectedSize / LOAD_FACTOR)) - 1) << 1;
+    this.keys = new long[capacity];
+    this.values = new Object[capacity];
+    this.mask = capacity - 1;
+  }
+
+  private static int hash(long key) {
+    long h = key * 0x9E3779B97F4A7C15L;
+    return (int) (h ^ (h >>> 32));
+  }
+
+  private int slot(long key) {
+    int idx = hash(key) & mask;
+    while (values[idx] != null && keys[idx] != key) {
+      idx = (idx + 1) & mask;
+    }
+    return idx;
+  }
+
+  public int size() {
+    return size;
+  }
+
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  public boolean containsKey(long key) {
+    return values[slot(key)] != null;
+  }
+
+  @SuppressWarnings("unchecked")
+  public @Nullable V get(long key) {
+    return (V) values[slot(key)];
+  }
+
+  @SuppressWarnings("unchecked")
+  public @Nullable V put(long key, V value) {
+    int idx = slot(key);
+    V old = (V) values[idx];
+    keys[idx] = key;
+    values[idx] = value;
+    if (old == null && ++size > values.length * LOAD_FACTOR) {
+      resize(values.length << 1);
+    }
+    return old;
+  }
+
+  @SuppressWarnings("unchecked")
+  public V computeIfAbsent(long key, LongFunction<? extends V> function) {
+    int idx = slot(key);
+    V value = (V) values[idx];
+    if (value == null) {
+      value = function.apply(key);
+      keys[idx] = key;
+      values[idx] = value;
+      if (++size > values.length * LOAD_FACTOR) {
+        resize(values.length << 1);
+      }
+    }
+    return value;
+  }
+
+  @SuppressWarnings("unchecked")
+  public @Nullable V remove(long key) {
+    int idx = slot(key);
+    V old = (V) values[idx];
+    if (old != null) {
+      removeAt(idx);
+    }
+    return old;
+  }
+
+  @SuppressWarnings("unchecked")
+  public void forEach(Consumer<? super V> consumer) {
+    for (Object value : values) {
+      if (value != null) {
+        consumer.accept((V) value);
+      }
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  public boolean removeIf(Predicate<? super V> predicate) {
+    boolean removed = false;
+    int idx = 0;
+    while (idx < values.length) {
+      Object value = values[idx];
+      if (value != null && predicate.test((V) value)) {
+        removeAt(idx);
+        removed = true;
+        // Backward shift may have moved another entry into this slot, re-check it
+      } else {
+        idx++;
+      }
+    }
+    return removed;
+  }
+
+  public void clear() {
+    if (size > 0) {
+      Arrays.fill(values, null);
+      size = 0;
+    }
+  }
+
+  // Backward shift deletion to keep probe sequences intact without tombstones
+  private void removeAt(int idx) {
+    size--;
+    int gap = idx;
+    int next = (gap + 1) & mask;
+    while (values[next] != null) {
+      int home = hash(keys[next]) & mask;
+      if (((next - home) & mask) >= ((next - gap) & mask)) {
+        keys[gap] = keys[next];
+        values[gap] = values[next];
+        gap = next;
+      }
+      next = (next + 1) & mask;
+    }
+    values[gap] = null;
+  }
+
+  private void resize(int capacity) {
+    long[] oldKeys = keys;
+    Object[] oldValues = values;
+    keys = new long[capacity];
+    values = new Object[capacity];
+    mask = capacity - 1;
+    for (int i = 0; i < oldValues.length; i++) {
+      if (oldValues[i] != null) {
+        int idx = slot(oldKeys[i]);
+        keys[idx] = oldKeys[i];
+        values[idx] = oldValues[i];
+      }
+    }
+  }
+
+  /**
+   * Pack 2 int coordinates into a single long key.
+   * @param x the first coordinate
+   * @param z the second coordinate
+   * @return the packed key
+   */
+  public static long pack(int x, int z) {
+    return ((long) x << 32) | (z & 0xFFFFFFFFL);
+  }
+}
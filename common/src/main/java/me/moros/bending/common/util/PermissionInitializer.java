@@ -57,7 +57,7 @@ public abstract class PermissionInitializer implements Initializer {
 
   private void initAdminNodes() {
     var children = Stream.of(Permissions.ADD, Permissions.REMOVE, Permissions.MODIFY,
-        Permissions.RELOAD, Permissions.IMPORT, Permissions.EXPORT, Permissions.ATTRIBUTE)
+        Permissions.RELOAD, Permissions.IMPORT, Permissions.EXPORT, Permissions.ATTRIBUTE, Permissions.PROFILE)
       .collect(Collectors.toSet());
     children.add("bending.player");
     children.add(FeaturePermissions.BLUE_FIRE);
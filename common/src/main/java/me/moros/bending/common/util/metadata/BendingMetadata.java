@@ -26,22 +26,16 @@ import java.util.concurrent.ConcurrentHashMap;
 import me.moros.bending.api.util.data.DataContainer;
 import me.moros.bending.api.util.data.DataHolder;
 import me.moros.bending.api.util.data.DataKey;
-import me.moros.math.Position;
-import me.moros.math.Vector3i;
 import net.kyori.adventure.key.Key;
 
 public enum BendingMetadata {
   INSTANCE;
 
   private final MetadataHolder<UUID> entityMetadata = new MetadataHolder<>(new ConcurrentHashMap<>());
-  private final Map<Key, MetadataHolder<Position>> worldMetadata = new ConcurrentHashMap<>();
+  private final Map<Key, BlockMetadataStore> worldMetadata = new ConcurrentHashMap<>();
 
-  private MetadataHolder<Position> worldData(Key key) {
-    return worldMetadata.computeIfAbsent(key, u -> new MetadataHolder<>(new ConcurrentHashMap<>()));
-  }
-
-  private DataHolder blockData(Map<Position, DataContainer> dataMap, int x, int y, int z) {
-    return dataMap.computeIfAbsent(Vector3i.of(x, y, z), p -> DataContainer.simple());
+  private BlockMetadataStore worldData(Key key) {
+    return worldMetadata.computeIfAbsent(key, u -> new BlockMetadataStore());
   }
 
   private DataHolder entityData(UUID uuid) {
@@ -49,7 +43,7 @@ public enum BendingMetadata {
   }
 
   public DataHolder metadata(Key world, int x, int y, int z) {
-    return blockData(worldData(world).data(), x, y, z);
+    return worldData(world).holder(x, y, z);
   }
 
   public DataHolder metadata(UUID uuid) {
@@ -61,7 +55,7 @@ public enum BendingMetadata {
     if (blockMetadata == null) {
       return false;
     }
-    var dataHolder = blockMetadata.data().get(Vector3i.of(x, y, z));
+    var dataHolder = blockMetadata.find(x, y, z);
     return dataHolder != null && dataHolder.has(key);
   }
 
@@ -70,10 +64,10 @@ public enum BendingMetadata {
     return dataHolder != null && dataHolder.has(key);
   }
 
-  // Cleanup empty data containers to avoid memory leaks
+  // Cleanup empty data containers to avoid memory leaks, block metadata is evicted on removal and chunk unload
   public void removeEmpty() {
     entityMetadata.cleanup();
-    worldMetadata.entrySet().removeIf(e -> e.getValue().cleanup());
+    worldMetadata.values().removeIf(BlockMetadataStore::isEmpty);
   }
 
   public void clear() {
@@ -90,6 +84,13 @@ public enum BendingMetadata {
     worldMetadata.remove(world);
   }
 
+  public void cleanup(Key world, int chunkX, int chunkZ) {
+    var blockMetadata = worldMetadata.get(world);
+    if (blockMetadata != null) {
+      blockMetadata.unloadChunk(chunkX, chunkZ);
+    }
+  }
+
   private record MetadataHolder<T>(Map<T, DataContainer> data) {
     private boolean cleanup() {
       data().entrySet().removeIf(e -> e.getValue().isEmpty());
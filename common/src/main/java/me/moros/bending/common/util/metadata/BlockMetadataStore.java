@@ -0,0 +1,117 @@
+/*
+ * Copyright 2020-2026 Moros
+ *
+ * This file is part of Bending.
+ *
+ * Bending is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Bending is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bending. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package me.moros.bending.common.util.metadata;
+
+import java.util.Optional;
+
+import me.moros.bending.api.util.data.DataContainer;
+import me.moros.bending.api.util.data.DataHolder;
+import me.moros.bending.api.util.data.DataKey;
+import me.moros.bending.common.util.LongObjectMap;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Block metadata for a single world, partitioned by chunk.
+ * Block positions are packed into longs and stored in primitive open addressing maps,
+ * so lookups that miss never allocate or insert empty containers.
+ */
+final class BlockMetadataStore {
+  private final LongObjectMap<LongObjectMap<DataContainer>> chunks;
+
+  BlockMetadataStore() {
+    this.chunks = new LongObjectMap<>();
+  }
+
+  private static long chunkKey(int x, int z) {
+    return LongObjectMap.pack(x >> 4, z >> 4);
+  }
+
+  private static long blockKey(int x, int y, int z) {
+    return ((x & 0x3FFFFFFL) << 38) | ((z & 0x3FFFFFFL) << 12) | (y & 0xFFFL);
+  }
+
+  synchronized @Nullable DataContainer find(int x, int y, int z) {
+    LongObjectMap<DataContainer> chunk = chunks.get(chunkKey(x, z));
+    return chunk == null ? null : chunk.get(blockKey(x, y, z));
+  }
+
+  private synchronized <T> void add(int x, int y, int z, DataKey<T> dataKey, T value) {
+    chunks.computeIfAbsent(chunkKey(x, z), k -> new LongObjectMap<>())
+      .computeIfAbsent(blockKey(x, y, z), k -> DataContainer.simple()).add(dataKey, value);
+  }
+
+  private synchronized <T> void remove(int x, int y, int z, DataKey<T> dataKey) {
+    long key = chunkKey(x, z);
+    LongObjectMap<DataContainer> chunk = chunks.get(key);
+    if (chunk != null) {
+      long blockKey = blockKey(x, y, z);
+      DataContainer data = chunk.get(blockKey);
+      if (data != null) {
+        data.remove(dataKey);
+        if (data.isEmpty()) {
+          chunk.remove(blockKey);
+          if (chunk.isEmpty()) {
+            chunks.remove(key);
+          }
+        }
+      }
+    }
+  }
+
+  synchronized void unloadChunk(int chunkX, int chunkZ) {
+    chunks.remove(LongObjectMap.pack(chunkX, chunkZ));
+  }
+
+  synchronized boolean isEmpty() {
+    return chunks.isEmpty();
+  }
+
+  DataHolder holder(int x, int y, int z) {
+    return new BlockHolder(this, x, y, z);
+  }
+
+  /**
+   * View over the metadata of a single block. Containers are only created when data is added
+   * and are dropped once their last entry is removed.
+   */
+  private record BlockHolder(BlockMetadataStore store, int x, int y, int z) implements DataHolder {
+    @Override
+    public <T> Optional<T> get(DataKey<T> key) {
+      DataContainer data = store.find(x, y, z);
+      return data == null ? Optional.empty() : data.get(key);
+    }
+
+    @Override
+    public <T> boolean has(DataKey<T> key) {
+      DataContainer data = store.find(x, y, z);
+      return data != null && data.has(key);
+    }
+
+    @Override
+    public <T> void add(DataKey<T> key, T value) {
+      store.add(x, y, z, key, value);
+    }
+
+    @Override
+    public <T> void remove(DataKey<T> key) {
+      store.remove(x, y, z, key);
+    }
+  }
+}
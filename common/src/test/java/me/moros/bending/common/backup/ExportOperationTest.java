@@ -0,0 +1,197 @@
+/*
+ * Copyright 2020-2026 Moros
+ *
+ * This file is part of Bending.
+ *
+ * Bending is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Bending is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bending. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package me.moros.bending.common.backup;
+
+import java.io.BufferedWriter;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import io.leangen.geantyref.TypeToken;
+import me.moros.bending.api.ability.AbilityDescription;
+import me.moros.bending.api.ability.Activation;
+import me.moros.bending.api.ability.element.Element;
+import me.moros.bending.api.ability.preset.Preset;
+import me.moros.bending.api.registry.Registries;
+import me.moros.bending.api.user.profile.BenderProfile;
+import me.moros.bending.common.backup.ExportOperation.ProfileWriter;
+import me.moros.bending.common.storage.file.loader.JsonLoader;
+import org.junit.jupiter.api.Test;
+import org.spongepowered.configurate.BasicConfigurationNode;
+import org.spongepowered.configurate.ConfigurationNode;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ExportOperationTest {
+  private static final TypeToken<Map<String, BenderProfile[]>> PROFILES_TOKEN = new TypeToken<>() {
+  };
+  private static final List<AbilityDescription> ABILITIES = List.of(
+    ability("ExportTestAlpha"), ability("ExportTestBeta"), ability("ExportTestGamma")
+  );
+
+  @Test
+  void testStreamingMatchesLoader() throws IOException {
+    BenderProfile[] profiles = randomProfiles(new Random(0), 300);
+    byte[] expected = decode(saveWithLoader(profiles));
+    byte[] actual = decode(saveWithWriter(profiles));
+    assertArrayEquals(expected, actual);
+    String text = new String(actual, StandardCharsets.UTF_8);
+    assertTrue(text.endsWith("]}" + System.lineSeparator()));
+  }
+
+  @Test
+  void testEmptyProfilesMatchLoader() throws IOException {
+    BenderProfile[] profiles = {
+      BenderProfile.of(new UUID(0, 0)),
+      BenderProfile.of(new UUID(0, 1), false, List.of(), Preset.empty(), List.of())
+    };
+    assertArrayEquals(decode(saveWithLoader(profiles)), decode(saveWithWriter(profiles)));
+  }
+
+  @Test
+  void testNoProfilesMatchLoader() throws IOException {
+    BenderProfile[] profiles = {};
+    assertArrayEquals(decode(saveWithLoader(profiles)), decode(saveWithWriter(profiles)));
+  }
+
+  @Test
+  void testEmptyNodeMatchesLoader() throws IOException {
+    // A node without a value is written as an empty object
+    ConfigurationNode node = BasicConfigurationNode.root();
+    assertEquals("{}", saveNodeWithLoader(node));
+    assertEquals("{}", saveNodeWithWriter(node));
+  }
+
+  @Test
+  void testScalarsMatchLoader() throws IOException {
+    ConfigurationNode node = BasicConfigurationNode.root(n -> {
+      n.node("double").raw(1.0);
+      n.node("float").raw(0.5F);
+      n.node("long").raw(Long.MAX_VALUE);
+      n.node("int").raw(42);
+      n.node("short").raw((short) 7);
+      n.node("bool").raw(false);
+      n.node("string").raw("text \"quoted\"");
+      n.node("map").raw(Map.of());
+      n.node("list").raw(List.of());
+      n.node("nested").node("list").appendListNode().raw(3);
+    });
+    assertEquals(saveNodeWithLoader(node), saveNodeWithWriter(node));
+  }
+
+  private static String saveNodeWithLoader(ConfigurationNode node) throws IOException {
+    StringWriter out = new StringWriter();
+    new JsonLoader().withSerializers().indent(0).sink(() -> new BufferedWriter(out)).build().save(node);
+    return out.toString().stripTrailing();
+  }
+
+  // Unwraps the node from the document written around it
+  private static String saveNodeWithWriter(ConfigurationNode node) throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    try (var writer = new ProfileWriter(out)) {
+      writer.write(node);
+      writer.finish();
+    }
+    String text = new String(decode(out.toByteArray()), StandardCharsets.UTF_8);
+    String prefix = "{\"users\":[";
+    String suffix = "]}" + System.lineSeparator();
+    assertTrue(text.startsWith(prefix) && text.endsWith(suffix));
+    return text.substring(prefix.length(), text.length() - suffix.length());
+  }
+
+  // Mirrors how exports were written before profiles were streamed
+  private static byte[] saveWithLoader(BenderProfile[] profiles) throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    try (var gos = new GZIPOutputStream(out);
+         var osw = new OutputStreamWriter(gos, StandardCharsets.UTF_8);
+         var writer = new BufferedWriter(osw)
+    ) {
+      var loader = new JsonLoader().withSerializers().lenient(false).indent(0).sink(() -> writer).build();
+      loader.save(loader.createNode(n -> n.set(PROFILES_TOKEN, Map.of("users", profiles))));
+    }
+    return out.toByteArray();
+  }
+
+  private static byte[] saveWithWriter(BenderProfile[] profiles) throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    try (var writer = new ProfileWriter(out)) {
+      for (BenderProfile profile : profiles) {
+        writer.write(profile);
+      }
+      writer.finish();
+    }
+    return out.toByteArray();
+  }
+
+  private static byte[] decode(byte[] data) throws IOException {
+    try (var gis = new GZIPInputStream(new ByteArrayInputStream(data))) {
+      return gis.readAllBytes();
+    }
+  }
+
+  private static BenderProfile[] randomProfiles(Random rand, int amount) {
+    BenderProfile[] result = new BenderProfile[amount];
+    for (int i = 0; i < amount; i++) {
+      List<Element> elements = new ArrayList<>();
+      for (Element element : Element.VALUES) {
+        if (rand.nextBoolean()) {
+          elements.add(element);
+        }
+      }
+      List<Preset> presets = new ArrayList<>();
+      int presetAmount = rand.nextInt(3);
+      for (int j = 0; j < presetAmount; j++) {
+        presets.add(randomPreset(rand, "preset" + j));
+      }
+      UUID uuid = new UUID(rand.nextLong(), rand.nextLong());
+      result[i] = BenderProfile.of(uuid, rand.nextBoolean(), elements, randomPreset(rand, ""), presets);
+    }
+    return result;
+  }
+
+  private static Preset randomPreset(Random rand, String name) {
+    AbilityDescription[] slots = new AbilityDescription[9];
+    for (int i = 0; i < slots.length; i++) {
+      if (rand.nextInt(3) == 0) {
+        slots[i] = ABILITIES.get(rand.nextInt(ABILITIES.size()));
+      }
+    }
+    return Preset.create(name, slots);
+  }
+
+  private static AbilityDescription ability(String name) {
+    AbilityDescription desc = AbilityDescription.builder(name, d -> null)
+      .element(Element.AIR).activation(Activation.ATTACK).build();
+    Registries.ABILITIES.register(desc);
+    return desc;
+  }
+}
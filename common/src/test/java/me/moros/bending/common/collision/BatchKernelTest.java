@@ -0,0 +1,87 @@
+/*
+ * Copyright 2020-2026 Moros
+ *
+ * This file is part of Bending.
+ *
+ * Bending is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Bending is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bending. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package me.moros.bending.common.collision;
+
+import java.util.Random;
+
+import me.moros.bending.api.collision.geometry.AABB;
+import me.moros.bending.api.collision.geometry.Ray;
+import me.moros.bending.api.collision.geometry.Sphere;
+import me.moros.math.Vector3d;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+
+class BatchKernelTest {
+  private static final BatchKernel SCALAR = ScalarKernel.INSTANCE;
+
+  @Test
+  void testVectorKernelIsSelected() {
+    // Tests run with the incubator module so the vector kernel must be picked up
+    assertNotSame(SCALAR, BatchKernel.INSTANCE);
+  }
+
+  @Test
+  void testKernelsAgree() {
+    BatchKernel kernel = BatchKernel.INSTANCE;
+    Random rand = new Random(0);
+    for (int round = 0; round < 200; round++) {
+      // Varying sizes exercise both the vector loop and the scalar tail
+      ColliderBatch batch = randomBatch(rand, rand.nextInt(60));
+      for (int i = 0; i < 20; i++) {
+        Vector3d min = randomVector(rand);
+        double r = 0.5 + rand.nextDouble() * 3;
+        double x = min.x();
+        double y = min.y();
+        double z = min.z();
+        assertEquals(SCALAR.sphereVsSpheres(x, y, z, r, batch.spheres), kernel.sphereVsSpheres(x, y, z, r, batch.spheres));
+        assertEquals(SCALAR.sphereVsBoxes(x, y, z, r, batch.boxes), kernel.sphereVsBoxes(x, y, z, r, batch.boxes));
+        assertEquals(SCALAR.sphereVsRays(x, y, z, r, batch.rays), kernel.sphereVsRays(x, y, z, r, batch.rays));
+        double maxX = x + r;
+        double maxY = y + r;
+        double maxZ = z + r;
+        assertEquals(SCALAR.boxVsSpheres(x, y, z, maxX, maxY, maxZ, batch.spheres),
+          kernel.boxVsSpheres(x, y, z, maxX, maxY, maxZ, batch.spheres));
+        assertEquals(SCALAR.boxVsBoxes(x, y, z, maxX, maxY, maxZ, batch.boxes),
+          kernel.boxVsBoxes(x, y, z, maxX, maxY, maxZ, batch.boxes));
+        assertEquals(SCALAR.boxVsRays(x, y, z, maxX, maxY, maxZ, batch.rays),
+          kernel.boxVsRays(x, y, z, maxX, maxY, maxZ, batch.rays));
+      }
+    }
+  }
+
+  private static ColliderBatch randomBatch(Random rand, int amount) {
+    ColliderBatch batch = new ColliderBatch();
+    for (int i = 0; i < amount; i++) {
+      Vector3d position = randomVector(rand);
+      switch (rand.nextInt(3)) {
+        case 0 -> batch.add(Sphere.of(position, 0.5 + rand.nextDouble() * 2));
+        case 1 -> batch.add(AABB.of(position, position.add(Vector3d.of(1, 2, 1))));
+        default -> batch.add(Ray.of(position, randomVector(rand).normalize().multiply(8)));
+      }
+    }
+    return batch;
+  }
+
+  private static Vector3d randomVector(Random rand) {
+    return Vector3d.of(rand.nextDouble() * 40 - 20, rand.nextDouble() * 40 - 20, rand.nextDouble() * 40 - 20);
+  }
+}
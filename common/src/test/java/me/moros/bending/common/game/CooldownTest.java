@@ -0,0 +1,122 @@
+/*
+ * Copyright 2020-2026 Moros
+ *
+ * This file is part of Bending.
+ *
+ * Bending is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Bending is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bending. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package me.moros.bending.common.game;
+
+import java.util.UUID;
+
+import me.moros.bending.api.ability.AbilityDescription;
+import me.moros.bending.api.game.Game;
+import me.moros.bending.api.registry.Registries;
+import me.moros.bending.api.temporal.Cooldown;
+import me.moros.bending.api.temporal.CooldownTable;
+import me.moros.bending.api.user.User;
+import me.moros.bending.api.user.profile.BenderProfile;
+import me.moros.bending.sim.Simulation;
+import me.moros.bending.sim.SimulationOptions;
+import me.moros.bending.sim.platform.entity.SimPlayer;
+import me.moros.math.Vector3d;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CooldownTest {
+  private static final long DURATION = 1000; // 20 ticks
+
+  private static Simulation simulation;
+
+  @BeforeAll
+  static void setup() {
+    simulation = Simulation.start(SimulationOptions.of(1));
+  }
+
+  @AfterAll
+  static void teardown() {
+    simulation.close();
+  }
+
+  private static User createUser(SimPlayer player) {
+    return User.create(simulation.game(), player, BenderProfile.of(player.uuid())).orElseThrow();
+  }
+
+  private static SimPlayer createPlayer(long id) {
+    UUID uuid = new UUID(0x434F4F4C444F574EL, id);
+    return simulation.world().createPlayer(uuid, "cooldown-" + id, Vector3d.of(0.5, 65, 0.5));
+  }
+
+  private static AbilityDescription ability(String name) {
+    AbilityDescription desc = Registries.ABILITIES.fromString(name);
+    assertNotNull(desc);
+    return desc;
+  }
+
+  @Test
+  void testCooldownSurvivesRelog() {
+    Game game = simulation.game();
+    AbilityDescription desc = ability("AirBlast");
+    SimPlayer player = createPlayer(0);
+    User user = createUser(player);
+    assertTrue(user.addCooldown(desc, DURATION));
+    simulation.run(5);
+    game.activationController().onUserDeconstruct(user);
+
+    User relogged = createUser(player);
+    assertTrue(relogged.onCooldown(desc));
+    // Adding the same cooldown again must not clear or extend the active one
+    relogged.addCooldown(desc, DURATION);
+    assertTrue(relogged.onCooldown(desc));
+    simulation.run(10);
+    assertTrue(relogged.onCooldown(desc));
+    simulation.run(10);
+    assertFalse(relogged.onCooldown(desc));
+    game.activationController().onUserDeconstruct(relogged);
+  }
+
+  @Test
+  void testExistingCooldownIsWrittenToNewTable() {
+    AbilityDescription desc = ability("FireBlast");
+    User user = createUser(createPlayer(1));
+    assertTrue(user.addCooldown(desc, DURATION));
+    CooldownTable table = new CooldownTable();
+    assertFalse(table.onCooldown(desc));
+    table.add(user, desc, () -> {
+    }, DURATION);
+    assertTrue(table.onCooldown(desc));
+    simulation.run(25);
+    assertFalse(table.onCooldown(desc));
+    assertFalse(user.onCooldown(desc));
+    user.game().activationController().onUserDeconstruct(user);
+  }
+
+  @Test
+  void testUntrackedCooldown() {
+    AbilityDescription desc = ability("EarthBlast");
+    User user = createUser(createPlayer(2));
+    Cooldown.of(user, desc, () -> {
+    }, DURATION);
+    assertTrue(user.onCooldown(desc));
+    simulation.run(25);
+    assertFalse(user.onCooldown(desc));
+    user.game().activationController().onUserDeconstruct(user);
+  }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2020-2026 Moros
+ *
+ * This file is part of Bending.
+ *
+ * Bending is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Bending is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bending. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package me.moros.bending.common.game;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Random;
+
+import me.moros.bending.api.ability.AbilityDescription;
+import me.moros.bending.api.ability.AbilityDescription.Sequence;
+import me.moros.bending.api.ability.Activation;
+import me.moros.bending.api.ability.SequenceBuilder;
+import me.moros.bending.api.ability.SequenceStep;
+import me.moros.bending.api.ability.element.Element;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SequenceMatcherTest {
+  private static final int INPUTS = 5000;
+  // A small alphabet so random inputs complete sequences often
+  private static final Activation[] ACTIVATIONS = {Activation.ATTACK, Activation.SNEAK};
+  private static final List<AbilityDescription> ABILITIES = List.of(ability(0), ability(1), ability(2));
+
+  @Test
+  void testMatchesAgreeWithLinearScan() {
+    for (long seed = 0; seed < 20; seed++) {
+      Random rand = new Random(seed);
+      List<Sequence> sequences = randomSequences(rand, 2 + rand.nextInt(30));
+      compare(rand, sequences, false);
+    }
+  }
+
+  @Test
+  void testMatchesAgreeWithLinearScanWhenConsumed() {
+    for (long seed = 0; seed < 20; seed++) {
+      Random rand = new Random(seed);
+      List<Sequence> sequences = randomSequences(rand, 2 + rand.nextInt(30));
+      compare(rand, sequences, true);
+    }
+  }
+
+  // Mirrors the step buffer the sequence manager used before the automaton
+  private static void compare(Random rand, List<Sequence> sequences, boolean consume) {
+    SequenceMatcher matcher = SequenceMatcher.compile(sequences);
+    Deque<SequenceStep> buffer = new ArrayDeque<>(Sequence.MAX_STEPS);
+    int state = SequenceMatcher.ROOT;
+    for (int i = 0; i < INPUTS; i++) {
+      SequenceStep input = randomStep(rand);
+      if (buffer.size() >= Sequence.MAX_STEPS) {
+        buffer.removeFirst();
+      }
+      buffer.addLast(input);
+      state = matcher.next(state, input.ability(), input.activation());
+      List<SequenceStep> steps = new ArrayList<>(buffer);
+      List<Sequence> expected = sequences.stream().filter(s -> s.matches(steps)).distinct().toList();
+      assertEquals(expected, matcher.matches(state));
+      if (consume && !expected.isEmpty()) {
+        buffer.clear();
+        state = SequenceMatcher.ROOT;
+      }
+    }
+  }
+
+  private static List<Sequence> randomSequences(Random rand, int amount) {
+    List<Sequence> result = new ArrayList<>(amount);
+    for (int i = 0; i < amount; i++) {
+      int length = 2 + rand.nextInt(5);
+      List<SequenceStep> steps = new ArrayList<>(length);
+      for (int j = 0; j < length; j++) {
+        steps.add(randomStep(rand));
+      }
+      result.add(AbilityDescription.builder(name("SequenceMatcherTest", i), d -> null)
+        .element(Element.AIR).activation(Activation.SEQUENCE).buildSequence(b -> addAll(b, steps)));
+    }
+    return result;
+  }
+
+  private static SequenceBuilder addAll(SequenceBuilder builder, List<SequenceStep> steps) {
+    for (SequenceStep step : steps) {
+      builder.add(step.ability(), step.activation());
+    }
+    return builder;
+  }
+
+  private static SequenceStep randomStep(Random rand) {
+    return SequenceStep.of(ABILITIES.get(rand.nextInt(ABILITIES.size())), ACTIVATIONS[rand.nextInt(ACTIVATIONS.length)]);
+  }
+
+  private static AbilityDescription ability(int index) {
+    return AbilityDescription.builder(name("SequenceMatcherTestAbility", index), d -> null)
+      .element(Element.AIR).activation(Activation.ATTACK).build();
+  }
+
+  // Ability names must be alphabetical
+  private static String name(String prefix, int index) {
+    StringBuilder builder = new StringBuilder(prefix);
+    do {
+      builder.append((char) ('a' + index % 26));
+      index /= 26;
+    } while (index > 0);
+    return builder.toString();
+  }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2020-2026 Moros
+ *
+ * This file is part of Bending.
+ *
+ * Bending is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Bending is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bending. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package me.moros.bending.common.game;
+
+import java.util.List;
+
+import me.moros.bending.api.ability.Ability;
+import me.moros.bending.api.ability.AbilityDescription;
+import me.moros.bending.api.ability.Activation;
+import me.moros.bending.api.ability.element.Element;
+import me.moros.bending.api.user.User;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class UserInstancesTest {
+  private static final AbilityDescription DESC = AbilityDescription.builder("UserInstancesTest", d -> null)
+    .element(Element.AIR).activation(Activation.ATTACK).build();
+
+  @Test
+  void testRemoveAllKeepsActivationOrder() {
+    UserInstances instances = new UserInstances();
+    List<Ability> added = List.of(new First(), new Second(), new Third(), new First(), new Third(), new Second());
+    added.forEach(instances::add);
+
+    var removed = instances.removeAll(List.of(Third.class, First.class));
+    assertEquals(List.of(added.get(0), added.get(2), added.get(3), added.get(4)), List.copyOf(removed));
+    assertEquals(List.of(added.get(1), added.get(5)), instances.stream().toList());
+    assertNull(instances.first(First.class));
+    assertFalse(instances.has(Third.class));
+    assertTrue(instances.has(DESC));
+  }
+
+  @Test
+  void testRemoveAllBySupertype() {
+    UserInstances instances = new UserInstances();
+    List<Ability> added = List.of(new Second(), new First(), new Third());
+    added.forEach(instances::add);
+
+    assertEquals(added, List.copyOf(instances.removeAll(List.of(TestAbility.class))));
+    assertTrue(instances.isEmpty());
+    assertFalse(instances.has(DESC));
+    assertTrue(instances.removeAll(List.of(First.class)).isEmpty());
+  }
+
+  @Test
+  void testRemoveKeepsIndexesInSync() {
+    UserInstances instances = new UserInstances();
+    Ability first = new First();
+    Ability second = new Second();
+    instances.add(first);
+    instances.add(second);
+
+    assertTrue(instances.remove(first));
+    assertFalse(instances.remove(first));
+    assertFalse(instances.has(First.class));
+    assertEquals(second, instances.first(Second.class));
+
+    var it = instances.iterator();
+    it.next();
+    it.remove();
+    assertTrue(instances.isEmpty());
+    assertFalse(instances.remove(second));
+  }
+
+  private abstract static class TestAbility implements Ability {
+    @Override
+    public boolean activate(User user, Activation method) {
+      return true;
+    }
+
+    @Override
+    public void loadConfig() {
+    }
+
+    @Override
+    public AbilityDescription description() {
+      return DESC;
+    }
+
+    @Override
+    public User user() {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public UpdateResult update() {
+      return UpdateResult.CONTINUE;
+    }
+  }
+
+  private static final class First extends TestAbility {
+  }
+
+  private static final class Second extends TestAbility {
+  }
+
+  private static final class Third extends TestAbility {
+  }
+}
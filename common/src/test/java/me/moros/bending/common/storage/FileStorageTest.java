@@ -0,0 +1,63 @@
+/*
+ * Copyright 2020-2026 Moros
+ *
+ * This file is part of Bending.
+ *
+ * Bending is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Bending is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bending. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package me.moros.bending.common.storage;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import me.moros.bending.api.ability.element.Element;
+import me.moros.bending.api.ability.preset.Preset;
+import me.moros.bending.api.user.profile.BenderProfile;
+import me.moros.bending.common.storage.file.loader.JsonLoader;
+import me.moros.bending.sim.SimLogger;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FileStorageTest {
+  @TempDir
+  Path directory;
+
+  @Test
+  void testForEachProfileInUuidOrder() {
+    FileStorage storage = new FileStorage(new SimLogger(false), directory, new JsonLoader());
+    Random rand = new Random(0);
+    List<BenderProfile> expected = new ArrayList<>();
+    // More than a single page, with uuids of every sign combination
+    for (int i = 0; i < 600; i++) {
+      UUID uuid = new UUID(rand.nextLong(), rand.nextLong());
+      BenderProfile profile = BenderProfile.of(uuid, List.of(Element.FIRE), Preset.empty(), List.of());
+      assertTrue(storage.saveProfile(profile));
+      expected.add(profile);
+    }
+    expected.sort(Comparator.comparing(BenderProfile::uuid));
+    List<BenderProfile> actual = new ArrayList<>();
+    assertEquals(expected.size(), storage.forEachProfile(actual::add));
+    assertEquals(expected, actual);
+    assertEquals(expected.size(), storage.countProfiles());
+    storage.close();
+  }
+}
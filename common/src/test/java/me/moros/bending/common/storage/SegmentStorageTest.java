@@ -0,0 +1,74 @@
+/*
+ * Copyright 2020-2026 Moros
+ *
+ * This file is part of Bending.
+ *
+ * Bending is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Bending is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bending. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package me.moros.bending.common.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import me.moros.bending.api.ability.element.Element;
+import me.moros.bending.api.ability.preset.Preset;
+import me.moros.bending.api.user.profile.BenderProfile;
+import me.moros.bending.common.storage.file.loader.JsonLoader;
+import me.moros.bending.common.storage.file.log.SegmentFile;
+import me.moros.bending.sim.SimLogger;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SegmentStorageTest {
+  @TempDir
+  Path directory;
+
+  @Test
+  void testMigrationSkipsUnreadableProfiles() throws IOException {
+    Path legacyPath = directory.resolve("flatfile");
+    FileStorage source = new FileStorage(new SimLogger(false), legacyPath, new JsonLoader());
+    List<BenderProfile> profiles = new ArrayList<>();
+    for (int i = 0; i < 300; i++) {
+      Element element = Element.values()[i % Element.values().length];
+      BenderProfile profile = BenderProfile.of(new UUID(0, i), List.of(element), Preset.empty(), List.of());
+      assertTrue(source.saveProfile(profile));
+      profiles.add(profile);
+    }
+    BenderProfile corrupted = profiles.removeLast();
+    Files.writeString(legacyPath.resolve(corrupted.uuid() + ".json"), "{\"users\": [");
+
+    Path target = directory.resolve(SegmentStorage.FILE_NAME);
+    List<UUID> unreadable = new ArrayList<>();
+    int count = SegmentStorage.migrate(source, target, unreadable::add);
+    source.close();
+    assertEquals(profiles.size(), count);
+    assertEquals(List.of(corrupted.uuid()), unreadable);
+    try (SegmentFile file = SegmentFile.open(target)) {
+      assertEquals(profiles.size(), file.count());
+      for (BenderProfile profile : profiles) {
+        assertEquals(profile, file.read(profile.uuid()));
+      }
+      assertNull(file.read(corrupted.uuid()));
+    }
+  }
+}
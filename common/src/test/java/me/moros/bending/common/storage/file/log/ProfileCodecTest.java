@@ -0,0 +1,139 @@
+/*
+ * Copyright 2020-2026 Moros
+ *
+ * This file is part of Bending.
+ *
+ * Bending is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Bending is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bending. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package me.moros.bending.common.storage.file.log;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import me.moros.bending.api.ability.AbilityDescription;
+import me.moros.bending.api.ability.Activation;
+import me.moros.bending.api.ability.element.Element;
+import me.moros.bending.api.ability.preset.Preset;
+import me.moros.bending.api.user.profile.BenderProfile;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ProfileCodecTest {
+  private static final List<AbilityDescription> ABILITIES = List.of(
+    ability("CodecTestAlpha"), ability("CodecTestBeta"), ability("CodecTestGamma")
+  );
+
+  @Test
+  void testRoundTrip() throws IOException {
+    Random rand = new Random(0);
+    for (int i = 0; i < 500; i++) {
+      BenderProfile profile = randomProfile(rand);
+      ByteBuffer buffer = ByteBuffer.wrap(encode(profile));
+      assertEquals(profile, ProfileCodec.decode(buffer, ABILITIES::get));
+      assertFalse(buffer.hasRemaining());
+    }
+  }
+
+  @Test
+  void testEmptyProfileRoundTrip() throws IOException {
+    BenderProfile profile = BenderProfile.of(new UUID(0, 0));
+    assertEquals(profile, ProfileCodec.decode(ByteBuffer.wrap(encode(profile)), ABILITIES::get));
+  }
+
+  @Test
+  void testUnknownAbilitiesAreDropped() throws IOException {
+    BenderProfile profile = BenderProfile.of(new UUID(1, 2), true, List.of(Element.EARTH), preset(""), List.of());
+    BenderProfile decoded = ProfileCodec.decode(ByteBuffer.wrap(encode(profile)), id -> null);
+    assertEquals(Preset.empty(), decoded.slots());
+    assertEquals(profile.elements(), decoded.elements());
+  }
+
+  @Test
+  void testTruncatedRecordThrows() throws IOException {
+    byte[] data = encode(randomProfile(new Random(1)));
+    for (int length = 0; length < data.length; length++) {
+      ByteBuffer buffer = ByteBuffer.wrap(data, 0, length);
+      assertThrows(IOException.class, () -> ProfileCodec.decode(buffer, ABILITIES::get));
+    }
+  }
+
+  @Test
+  void testVarIntRoundTrip() throws IOException {
+    int[] values = {0, 1, 127, 128, 255, 16383, 16384, Integer.MAX_VALUE, -1, Integer.MIN_VALUE};
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    DataOutputStream out = new DataOutputStream(bytes);
+    for (int value : values) {
+      ProfileCodec.writeVarInt(out, value);
+    }
+    ProfileCodec.writeString(out, "preset éè");
+    ByteBuffer in = ByteBuffer.wrap(bytes.toByteArray());
+    for (int value : values) {
+      assertEquals(value, ProfileCodec.readVarInt(in));
+    }
+    assertEquals("preset éè", ProfileCodec.readString(in));
+    assertFalse(in.hasRemaining());
+  }
+
+  private static byte[] encode(BenderProfile profile) throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    ProfileCodec.encode(new DataOutputStream(bytes), profile, ABILITIES::indexOf);
+    return bytes.toByteArray();
+  }
+
+  private static BenderProfile randomProfile(Random rand) {
+    List<Element> elements = new ArrayList<>();
+    for (Element element : Element.VALUES) {
+      if (rand.nextBoolean()) {
+        elements.add(element);
+      }
+    }
+    List<Preset> presets = new ArrayList<>();
+    int amount = rand.nextInt(4);
+    for (int i = 0; i < amount; i++) {
+      presets.add(randomPreset(rand, "preset" + i));
+    }
+    UUID uuid = new UUID(rand.nextLong(), rand.nextLong());
+    return BenderProfile.of(uuid, rand.nextBoolean(), elements, randomPreset(rand, ""), presets);
+  }
+
+  private static Preset randomPreset(Random rand, String name) {
+    AbilityDescription[] slots = new AbilityDescription[9];
+    for (int i = 0; i < slots.length; i++) {
+      if (rand.nextBoolean()) {
+        slots[i] = ABILITIES.get(rand.nextInt(ABILITIES.size()));
+      }
+    }
+    return Preset.create(name, slots);
+  }
+
+  private static Preset preset(String name) {
+    AbilityDescription[] slots = new AbilityDescription[9];
+    slots[0] = ABILITIES.getFirst();
+    return Preset.create(name, slots);
+  }
+
+  private static AbilityDescription ability(String name) {
+    return AbilityDescription.builder(name, d -> null).element(Element.AIR).activation(Activation.ATTACK).build();
+  }
+}
@@ -0,0 +1,283 @@
+/*
+ * Copyright 2020-2026 Moros
+ *
+ * This file is part of Bending.
+ *
+ * Bending is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Bending is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bending. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package me.moros.bending.common.storage.file.log;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+
+import me.moros.bending.api.ability.AbilityDescription;
+import me.moros.bending.api.ability.Activation;
+import me.moros.bending.api.ability.element.Element;
+import me.moros.bending.api.ability.preset.Preset;
+import me.moros.bending.api.registry.Registries;
+import me.moros.bending.api.user.profile.BenderProfile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SegmentFileTest {
+  private static final List<AbilityDescription> ABILITIES = List.of(
+    ability("SegmentTestAlpha"), ability("SegmentTestBeta"), ability("SegmentTestGamma")
+  );
+
+  @TempDir
+  Path directory;
+
+  @Test
+  void testWriteAndRead() throws IOException {
+    List<BenderProfile> profiles = randomProfiles(new Random(0), 100);
+    try (SegmentFile file = SegmentFile.open(path())) {
+      file.write(profiles);
+      assertEquals(profiles.size(), file.count());
+      for (BenderProfile profile : profiles) {
+        assertEquals(profile, file.read(profile.uuid()));
+      }
+      assertNull(file.read(UUID.randomUUID()));
+    }
+  }
+
+  @Test
+  void testReopen() throws IOException {
+    Random rand = new Random(1);
+    Map<UUID, BenderProfile> latest = new HashMap<>();
+    try (SegmentFile file = SegmentFile.open(path())) {
+      write(file, randomProfiles(rand, 50), latest);
+    }
+    try (SegmentFile file = SegmentFile.open(path())) {
+      assertContains(file, latest);
+      // Overwrite half of the profiles so the index must pick the latest record
+      write(file, updated(rand, latest.values(), 2), latest);
+    }
+    try (SegmentFile file = SegmentFile.open(path())) {
+      assertContains(file, latest);
+    }
+  }
+
+  @Test
+  void testTruncatedTailIsDiscarded() throws IOException {
+    Random rand = new Random(2);
+    Map<UUID, BenderProfile> latest = new HashMap<>();
+    try (SegmentFile file = SegmentFile.open(path())) {
+      write(file, randomProfiles(rand, 20), latest);
+    }
+    long validSize = Files.size(path());
+    BenderProfile lost = randomProfiles(rand, 1).getFirst();
+    try (SegmentFile file = SegmentFile.open(path())) {
+      file.write(List.of(lost));
+    }
+    // Simulate a crash in the middle of appending the last record
+    truncate(path(), Files.size(path()) - 3);
+    try (SegmentFile file = SegmentFile.open(path())) {
+      assertEquals(validSize, Files.size(path()));
+      assertNull(file.read(lost.uuid()));
+      assertContains(file, latest);
+      // Appending after recovery must produce readable records
+      write(file, randomProfiles(rand, 5), latest);
+    }
+    try (SegmentFile file = SegmentFile.open(path())) {
+      assertContains(file, latest);
+    }
+  }
+
+  @Test
+  void testCorruptedTailIsDiscarded() throws IOException {
+    Random rand = new Random(3);
+    Map<UUID, BenderProfile> latest = new HashMap<>();
+    try (SegmentFile file = SegmentFile.open(path())) {
+      write(file, randomProfiles(rand, 20), latest);
+    }
+    long validSize = Files.size(path());
+    BenderProfile corrupted = randomProfiles(rand, 1).getFirst();
+    try (SegmentFile file = SegmentFile.open(path())) {
+      file.write(List.of(corrupted));
+    }
+    // Flip a payload byte of the last record so its checksum no longer matches
+    long pos = Files.size(path()) - Integer.BYTES - 1;
+    byte[] value = new byte[1];
+    try (FileChannel channel = FileChannel.open(path(), StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+      channel.read(ByteBuffer.wrap(value), pos);
+      value[0] ^= 0x10;
+      channel.write(ByteBuffer.wrap(value), pos);
+    }
+    try (SegmentFile file = SegmentFile.open(path())) {
+      assertEquals(validSize, Files.size(path()));
+      assertNull(file.read(corrupted.uuid()));
+      assertContains(file, latest);
+    }
+  }
+
+  @Test
+  void testReadAcrossChunks() throws IOException {
+    Random rand = new Random(5);
+    Map<UUID, BenderProfile> latest = new HashMap<>();
+    // Small chunks so records end up in mapped chunks, across chunk boundaries and in the unmapped tail
+    int chunkSize = 512;
+    try (SegmentFile file = SegmentFile.open(path(), chunkSize)) {
+      for (int i = 0; i < 20; i++) {
+        write(file, randomProfiles(rand, 10), latest);
+        assertContains(file, latest);
+      }
+    }
+    assertTrue(Files.size(path()) > 10 * chunkSize);
+    try (SegmentFile file = SegmentFile.open(path(), chunkSize)) {
+      assertContains(file, latest);
+      write(file, updated(rand, latest.values(), 3), latest);
+      assertContains(file, latest);
+    }
+  }
+
+  @Test
+  void testKeysArePagedInUuidOrder() throws IOException {
+    Random rand = new Random(6);
+    Map<UUID, BenderProfile> latest = new HashMap<>();
+    try (SegmentFile file = SegmentFile.open(path())) {
+      write(file, randomProfiles(rand, 100), latest);
+      List<UUID> expected = new ArrayList<>(latest.keySet());
+      expected.sort(null);
+      List<UUID> actual = new ArrayList<>();
+      List<UUID> page = file.keys(null, 30);
+      while (!page.isEmpty()) {
+        actual.addAll(page);
+        page = file.keys(page.getLast(), 30);
+      }
+      assertEquals(expected, actual);
+    }
+  }
+
+  @Test
+  void testInvalidHeaderThrows() throws IOException {
+    Files.write(path(), new byte[]{1, 2, 3, 4, 5, 6, 7, 8});
+    assertThrows(IOException.class, () -> SegmentFile.open(path()));
+  }
+
+  @Test
+  void testCompactKeepsLatestRecords() throws IOException {
+    Random rand = new Random(4);
+    Map<UUID, BenderProfile> latest = new HashMap<>();
+    try (SegmentFile file = SegmentFile.open(path())) {
+      write(file, randomProfiles(rand, 100), latest);
+      assertFalse(file.compactIfNeeded());
+      // Rewrite every profile until most of the file is garbage
+      while (Files.size(path()) < 4 << 20) {
+        write(file, updated(rand, latest.values(), 1), latest);
+      }
+      long sizeBefore = Files.size(path());
+      assertTrue(file.compactIfNeeded());
+      assertTrue(Files.size(path()) < sizeBefore / 8);
+      assertEquals(latest.size(), file.count());
+      assertContains(file, latest);
+      assertFalse(file.compactIfNeeded());
+      write(file, updated(rand, latest.values(), 1), latest);
+      assertContains(file, latest);
+    }
+    try (SegmentFile file = SegmentFile.open(path())) {
+      assertEquals(latest.size(), file.count());
+      assertContains(file, latest);
+    }
+  }
+
+  private Path path() {
+    return directory.resolve("profiles.seg");
+  }
+
+  private static void write(SegmentFile file, List<BenderProfile> profiles, Map<UUID, BenderProfile> latest) throws IOException {
+    file.write(profiles);
+    for (BenderProfile profile : profiles) {
+      latest.put(profile.uuid(), profile);
+    }
+  }
+
+  private static void assertContains(SegmentFile file, Map<UUID, BenderProfile> expected) throws IOException {
+    assertEquals(expected.keySet(), file.keys());
+    for (BenderProfile profile : expected.values()) {
+      assertEquals(profile, file.read(profile.uuid()));
+    }
+  }
+
+  private static void truncate(Path path, long size) throws IOException {
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+      channel.truncate(size);
+    }
+  }
+
+  // Creates a new version of every nth profile
+  private static List<BenderProfile> updated(Random rand, Iterable<BenderProfile> profiles, int step) {
+    List<BenderProfile> result = new ArrayList<>();
+    int i = 0;
+    for (BenderProfile profile : profiles) {
+      if (i++ % step == 0) {
+        result.add(randomProfile(rand, profile.uuid()));
+      }
+    }
+    return result;
+  }
+
+  private static List<BenderProfile> randomProfiles(Random rand, int amount) {
+    List<BenderProfile> result = new ArrayList<>(amount);
+    for (int i = 0; i < amount; i++) {
+      result.add(randomProfile(rand, new UUID(rand.nextLong(), rand.nextLong())));
+    }
+    return result;
+  }
+
+  private static BenderProfile randomProfile(Random rand, UUID uuid) {
+    List<Element> elements = new ArrayList<>();
+    for (Element element : Element.VALUES) {
+      if (rand.nextBoolean()) {
+        elements.add(element);
+      }
+    }
+    List<Preset> presets = rand.nextBoolean() ? List.of(randomPreset(rand, "preset")) : List.of();
+    return BenderProfile.of(uuid, rand.nextBoolean(), elements, randomPreset(rand, ""), presets);
+  }
+
+  private static Preset randomPreset(Random rand, String name) {
+    AbilityDescription[] slots = new AbilityDescription[9];
+    for (int i = 0; i < slots.length; i++) {
+      if (rand.nextBoolean()) {
+        slots[i] = ABILITIES.get(rand.nextInt(ABILITIES.size()));
+      }
+    }
+    return Preset.create(name, slots);
+  }
+
+  // Abilities are resolved by key when a file is reopened
+  private static AbilityDescription ability(String name) {
+    AbilityDescription desc = AbilityDescription.builder(name, d -> null)
+      .element(Element.AIR).activation(Activation.ATTACK).build();
+    Registries.ABILITIES.register(desc);
+    return desc;
+  }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2020-2026 Moros
+ *
+ * This file is part of Bending.
+ *
+ * Bending is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Bending is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bending. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package me.moros.bending.sim;
+
+import java.nio.file.Path;
+import java.util.Objects;
+
+import me.moros.bending.api.game.Game;
+import me.moros.bending.api.platform.Platform;
+import me.moros.bending.common.AbstractBending;
+import me.moros.bending.common.logging.Logger;
+import me.moros.bending.common.util.ReflectionUtil;
+import me.moros.bending.sim.platform.SimPlatform;
+
+final class SimBending extends AbstractBending<SimExecutor> {
+  private final SimPlatform platform;
+
+  SimBending(SimExecutor executor, Path path, Logger logger) {
+    super(executor, path, logger);
+    injectTasker(() -> parent);
+    this.platform = new SimPlatform();
+    ReflectionUtil.injectStatic(Platform.Holder.class, platform);
+    load();
+  }
+
+  Game game() {
+    return Objects.requireNonNull(game);
+  }
+
+  SimPlatform platform() {
+    return platform;
+  }
+
+  void shutdown() {
+    disable(true);
+  }
+
+  @Override
+  public String author() {
+    return "Moros";
+  }
+
+  @Override
+  public String version() {
+    return "simulation";
+  }
+}
@@ -0,0 +1,185 @@
+/*
+ * Copyright 2020-2026 Moros
+ *
+ * This file is part of Bending.
+ *
+ * Bending is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Bending is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bending. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package me.moros.bending.sim;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import me.moros.bending.common.logging.Logger;
+import me.moros.tasker.Task;
+import me.moros.tasker.executor.SyncExecutor;
+
+/**
+ * A sync executor without a server thread. Tasks only run when {@link #tick()} is called, so the harness decides
+ * when a tick starts and can time it precisely. Tasks may be submitted from any thread.
+ */
+public final class SimExecutor implements SyncExecutor {
+  private static final long MILLIS_PER_TICK = 50;
+
+  private final Logger logger;
+  private final Queue<ScheduledTask> submitted;
+  private final PriorityQueue<ScheduledTask> scheduled;
+  private volatile boolean valid;
+  private long currentTick;
+  private long sequence;
+
+  public SimExecutor(Logger logger) {
+    this.logger = logger;
+    this.submitted = new ConcurrentLinkedQueue<>();
+    this.scheduled = new PriorityQueue<>();
+    this.valid = true;
+  }
+
+  /**
+   * Run every task that is due in the next tick, including repeating tasks scheduled on the main thread.
+   */
+  public void tick() {
+    currentTick++;
+    ScheduledTask next;
+    while ((next = submitted.poll()) != null) {
+      next.due += currentTick;
+      next.order = sequence++;
+      scheduled.add(next);
+    }
+    List<ScheduledTask> repeating = new ArrayList<>();
+    while ((next = scheduled.peek()) != null && next.due <= currentTick) {
+      scheduled.poll();
+      if (next.cancelled) {
+        continue;
+      }
+      try {
+        next.runnable.run();
+      } catch (Throwable t) {
+        logger.error(t.getMessage(), t);
+      }
+      if (next.period > 0 && !next.cancelled) {
+        next.due = currentTick + next.period;
+        repeating.add(next);
+      }
+    }
+    scheduled.addAll(repeating);
+  }
+
+  public long currentTick() {
+    return currentTick;
+  }
+
+  private ScheduledTask schedule(Runnable runnable, long delay, long period) {
+    ScheduledTask task = new ScheduledTask(runnable, Math.max(0, delay), period);
+    if (valid) {
+      submitted.add(task);
+    }
+    return task;
+  }
+
+  private static long toTicks(long duration, TimeUnit unit) {
+    return unit.toMillis(duration) / MILLIS_PER_TICK;
+  }
+
+  private static <T> Runnable complete(CompletableFuture<T> future, Supplier<T> supplier) {
+    return () -> {
+      try {
+        future.complete(supplier.get());
+      } catch (Throwable t) {
+        future.completeExceptionally(t);
+      }
+    };
+  }
+
+  @Override
+  public CompletableFuture<Void> submit(Runnable task) {
+    return submit(task, 0);
+  }
+
+  @Override
+  public <T> CompletableFuture<T> submit(Supplier<T> task) {
+    CompletableFuture<T> future = new CompletableFuture<>();
+    schedule(complete(future, task), 0, 0);
+    return future;
+  }
+
+  @Override
+  public CompletableFuture<Void> submit(Runnable task, long delay) {
+    CompletableFuture<Void> future = new CompletableFuture<>();
+    schedule(complete(future, () -> {
+      task.run();
+      return null;
+    }), delay, 0);
+    return future;
+  }
+
+  @Override
+  public CompletableFuture<Void> submit(Runnable task, long delay, TimeUnit unit) {
+    return submit(task, toTicks(delay, unit));
+  }
+
+  @Override
+  public Task repeat(Runnable task, long interval) {
+    return schedule(task, 0, Math.max(1, interval));
+  }
+
+  @Override
+  public Task repeat(Runnable task, long interval, TimeUnit unit) {
+    return repeat(task, toTicks(interval, unit));
+  }
+
+  @Override
+  public boolean isValid() {
+    return valid;
+  }
+
+  @Override
+  public void shutdown() {
+    valid = false;
+    submitted.clear();
+    scheduled.clear();
+  }
+
+  private static final class ScheduledTask implements Task, Comparable<ScheduledTask> {
+    private final Runnable runnable;
+    private final long period;
+    private volatile boolean cancelled;
+    private long due;
+    private long order;
+
+    private ScheduledTask(Runnable runnable, long delay, long period) {
+      this.runnable = runnable;
+      this.due = delay;
+      this.period = period;
+    }
+
+    @Override
+    public void cancel() {
+      cancelled = true;
+    }
+
+    @Override
+    public int compareTo(ScheduledTask o) {
+      int result = Long.compare(due, o.due);
+      return result == 0 ? Long.compare(order, o.order) : result;
+    }
+  }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2020-2026 Moros
+ *
+ * This file is part of Bending.
+ *
+ * Bending is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Bending is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bending. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package me.moros.bending.sim;
+
+import java.io.PrintStream;
+
+import me.moros.bending.common.logging.Logger;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Writes to the standard error stream so benchmark output on the standard output stays machine readable.
+ */
+public record SimLogger(boolean verbose) implements Logger {
+  private void log(String level, @Nullable String msg, @Nullable Throwable t) {
+    PrintStream out = System.err;
+    out.println("[sim] " + level + ": " + msg);
+    if (t != null) {
+      t.printStackTrace(out);
+    }
+  }
+
+  @Override
+  public void debug(String msg) {
+    if (verbose) {
+      log("DEBUG", msg, null);
+    }
+  }
+
+  @Override
+  public void debug(@Nullable String msg, Throwable t) {
+    if (verbose) {
+      log("DEBUG", msg, t);
+    }
+  }
+
+  @Override
+  public void info(String msg) {
+    if (verbose) {
+      log("INFO", msg, null);
+    }
+  }
+
+  @Override
+  public void info(@Nullable String msg, Throwable t) {
+    if (verbose) {
+      log("INFO", msg, t);
+    }
+  }
+
+  @Override
+  public void warn(String msg) {
+    log("WARN", msg, null);
+  }
+
+  @Override
+  public void warn(@Nullable String msg, Throwable t) {
+    log("WARN", msg, t);
+  }
+
+  @Override
+  public void error(String msg) {
+    log("ERROR", msg, null);
+  }
+
+  @Override
+  public void error(@Nullable String msg, Throwable t) {
+    log("ERROR", msg, t);
+  }
+}
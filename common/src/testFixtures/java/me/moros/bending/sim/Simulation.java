@@ -0,0 +1,235 @@
+/*
+ * Copyright 2020-2026 Moros
+ *
+ * This file is part of Bending.
+ *
+ * Bending is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Bending is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bending. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package me.moros.bending.sim;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import me.moros.bending.api.ability.AbilityDescription;
+import me.moros.bending.api.game.ActivationController;
+import me.moros.bending.api.game.Game;
+import me.moros.bending.api.platform.entity.EntityProperties;
+import me.moros.bending.api.registry.Registries;
+import me.moros.bending.api.user.User;
+import me.moros.bending.api.user.profile.BenderProfile;
+import me.moros.bending.api.util.KeyUtil;
+import me.moros.bending.common.logging.Logger;
+import me.moros.bending.sim.platform.SimNativeAdapter;
+import me.moros.bending.sim.platform.entity.SimPlayer;
+import me.moros.bending.sim.platform.world.SimWorld;
+import me.moros.math.Vector3d;
+
+/**
+ * Headless full-tick simulation. Synthetic users repeatedly sneak, click and release with a weighted random slot
+ * selected, which drives the same activation paths as real player input. Every {@link #tick()} first moves world
+ * entities and then times player input together with all scheduled game tasks.
+ * <p>Registries are global and get locked when the game loads, so only one simulation can be started per JVM.
+ */
+public final class Simulation implements AutoCloseable {
+  private static final AtomicBoolean STARTED = new AtomicBoolean();
+  private static final int CYCLE = 40;
+  private static final int LEASH = 24;
+  private static final float[] PITCHES = {0, 20, 40};
+
+  private final Path path;
+  private final SimExecutor executor;
+  private final SimBending bending;
+  private final SimWorld world;
+  private final List<Actor> actors;
+  private final Random random;
+  private long[] samples;
+  private int sampleCount;
+
+  private Simulation(Path path, SimulationOptions options) {
+    this.path = path;
+    Logger logger = new SimLogger(false);
+    this.executor = new SimExecutor(logger);
+    this.bending = new SimBending(executor, path, logger);
+    this.world = new SimWorld(KeyUtil.simple("simulation"));
+    this.random = new Random(options.seed());
+    this.actors = spawnActors(options);
+    this.samples = new long[1024];
+  }
+
+  public static Simulation start(SimulationOptions options) {
+    if (!STARTED.compareAndSet(false, true)) {
+      throw new IllegalStateException("A simulation has already been started in this JVM.");
+    }
+    try {
+      Path path = Files.createTempDirectory("bending-sim");
+      Files.writeString(path.resolve("bending.conf"), "storage {\n  engine = BINARY\n}\n");
+      return new Simulation(path, options);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private List<Actor> spawnActors(SimulationOptions options) {
+    Game game = bending.game();
+    int[] weightedSlots = bindSlots(options.abilityMix());
+    List<AbilityDescription> abilities = resolve(options.abilityMix());
+    int side = (int) Math.ceil(Math.sqrt(options.users()));
+    List<Actor> result = new ArrayList<>(options.users());
+    for (int i = 0; i < options.users(); i++) {
+      UUID uuid = new UUID(0x504C41594552L, i);
+      int x = 10 + (i % side) * options.spacing();
+      int z = 10 + (i / side) * options.spacing();
+      Vector3d spawn = Vector3d.of(x + 0.5, SimWorld.SURFACE + 1, z + 0.5);
+      SimPlayer player = world.createPlayer(uuid, "sim-" + i, spawn);
+      player.setProperty(EntityProperties.YAW, random.nextFloat() * 360);
+      User user = User.create(game, player, BenderProfile.of(uuid)).orElseThrow();
+      for (int slot = 0; slot < abilities.size(); slot++) {
+        AbilityDescription desc = abilities.get(slot);
+        desc.elements().forEach(user::addElement);
+        user.bindAbility(slot + 1, desc);
+      }
+      result.add(new Actor(user, player, spawn, weightedSlots, random.nextInt(CYCLE)));
+    }
+    return result;
+  }
+
+  private static List<AbilityDescription> resolve(Map<String, Integer> mix) {
+    List<AbilityDescription> result = new ArrayList<>(mix.size());
+    for (String name : mix.keySet()) {
+      AbilityDescription desc = Registries.ABILITIES.fromString(name);
+      if (desc == null || !desc.canBind()) {
+        throw new IllegalArgumentException("Unknown or unbindable ability: " + name);
+      }
+      result.add(desc);
+    }
+    if (result.size() > 9) {
+      throw new IllegalArgumentException("At most 9 abilities can be bound, found " + result.size());
+    }
+    return result;
+  }
+
+  private static int[] bindSlots(Map<String, Integer> mix) {
+    int[] result = new int[mix.values().stream().mapToInt(Integer::intValue).sum()];
+    int idx = 0;
+    int slot = 1;
+    for (int weight : mix.values()) {
+      Arrays.fill(result, idx, idx + weight, slot++);
+      idx += weight;
+    }
+    return result;
+  }
+
+  /**
+   * Run a single tick.
+   * @return the time spent on input handling and game tasks in nanoseconds
+   */
+  public long tick() {
+    world.tick();
+    long tick = executor.currentTick() + 1;
+    ActivationController controller = bending.game().activationController();
+    long start = System.nanoTime();
+    for (Actor actor : actors) {
+      input(controller, actor, tick);
+    }
+    executor.tick();
+    long elapsed = System.nanoTime() - start;
+    if (sampleCount == samples.length) {
+      samples = Arrays.copyOf(samples, sampleCount << 1);
+    }
+    samples[sampleCount++] = elapsed;
+    return elapsed;
+  }
+
+  public void run(int ticks) {
+    for (int i = 0; i < ticks; i++) {
+      tick();
+    }
+  }
+
+  private void input(ActivationController controller, Actor actor, long tick) {
+    SimPlayer player = actor.player();
+    User user = actor.user();
+    player.editProperty(EntityProperties.YAW, yaw -> (yaw + 4) % 360);
+    switch ((int) ((tick + actor.offset()) % CYCLE)) {
+      case 0 -> {
+        player.inventory().selectedSlot(actor.slots()[random.nextInt(actor.slots().length)] - 1);
+        player.setProperty(EntityProperties.PITCH, PITCHES[random.nextInt(PITCHES.length)]);
+        player.sneaking(true);
+        controller.onUserSneak(user, true);
+      }
+      case 15, 30 -> controller.onUserSwing(user);
+      case 25 -> {
+        player.sneaking(false);
+        controller.onUserSneak(user, false);
+      }
+      default -> {
+      }
+    }
+    if (player.location().distanceSq(actor.spawn()) > LEASH * LEASH) {
+      player.teleport(actor.spawn());
+      player.velocity(Vector3d.ZERO);
+    }
+  }
+
+  public TickStats stats() {
+    return TickStats.of(samples, sampleCount);
+  }
+
+  public void resetStats() {
+    sampleCount = 0;
+  }
+
+  public Game game() {
+    return bending.game();
+  }
+
+  public SimWorld world() {
+    return world;
+  }
+
+  public List<User> users() {
+    return actors.stream().map(Actor::user).toList();
+  }
+
+  public SimNativeAdapter packetSink() {
+    return bending.platform().packetSink();
+  }
+
+  @Override
+  public void close() {
+    bending.shutdown();
+    try (Stream<Path> files = Files.walk(path)) {
+      for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+        Files.deleteIfExists(file);
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private record Actor(User user, SimPlayer player, Vector3d spawn, int[] slots, int offset) {
+  }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2020-2026 Moros
+ *
+ * This file is part of Bending.
+ *
+ * Bending is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Bending is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bending. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package me.moros.bending.sim;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Settings for a {@link Simulation}.
+ * @param users the amount of synthetic users to spawn
+ * @param abilityMix ability names mapped to their relative activation weight
+ * @param spacing the distance in blocks between neighbouring users
+ * @param seed the seed for ability selection and aiming
+ */
+public record SimulationOptions(int users, Map<String, Integer> abilityMix, int spacing, long seed) {
+  public static final String DEFAULT_MIX = "AirBlast:2,AirSwipe,FireBlast:2,FireBurst,EarthBlast:2,Shockwave,"
+    + "EarthSmash,WaterManipulation:2,IceSpike";
+
+  public SimulationOptions {
+    if (users < 1 || spacing < 1) {
+      throw new IllegalArgumentException("Users and spacing must be positive.");
+    }
+    if (abilityMix.isEmpty()) {
+      throw new IllegalArgumentException("Ability mix cannot be empty.");
+    }
+    abilityMix = Collections.unmodifiableMap(new LinkedHashMap<>(abilityMix));
+  }
+
+  public static SimulationOptions of(int users) {
+    return of(users, DEFAULT_MIX);
+  }
+
+  public static SimulationOptions of(int users, String abilityMix) {
+    return new SimulationOptions(users, parseMix(abilityMix), 8, 42);
+  }
+
+  /**
+   * Parse a comma separated ability mix, each entry may end with a colon and a weight.
+   * @param input the mix to parse, for example {@code "AirBlast:2,FireBlast"}
+   * @return the parsed ability weights in input order
+   */
+  public static Map<String, Integer> parseMix(String input) {
+    Map<String, Integer> result = new LinkedHashMap<>();
+    for (String entry : input.split(",")) {
+      String trimmed = entry.trim();
+      if (trimmed.isEmpty()) {
+        continue;
+      }
+      int idx = trimmed.indexOf(':');
+      String name = idx < 0 ? trimmed : trimmed.substring(0, idx);
+      int weight = idx < 0 ? 1 : Integer.parseInt(trimmed.substring(idx + 1));
+      if (weight > 0) {
+        result.merge(name, weight, Integer::sum);
+      }
+    }
+    return result;
+  }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2020-2026 Moros
+ *
+ * This file is part of Bending.
+ *
+ * Bending is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Bending is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bending. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package me.moros.bending.sim;
+
+import java.util.Arrays;
+
+/**
+ * Tick time distribution of a simulation run, all values are in nanoseconds.
+ */
+public record TickStats(int ticks, long mean, long p50, long p90, long p99, long p999, long max) {
+  static TickStats of(long[] samples, int count) {
+    if (count == 0) {
+      return new TickStats(0, 0, 0, 0, 0, 0, 0);
+    }
+    long[] sorted = Arrays.copyOf(samples, count);
+    Arrays.sort(sorted);
+    long total = 0;
+    for (long sample : sorted) {
+      total += sample;
+    }
+    return new TickStats(count, total / count, percentile(sorted, 0.5), percentile(sorted, 0.9),
+      percentile(sorted, 0.99), percentile(sorted, 0.999), sorted[count - 1]);
+  }
+
+  private static long percentile(long[] sorted, double p) {
+    int idx = (int) Math.ceil(p * sorted.length) - 1;
+    return sorted[Math.clamp(idx, 0, sorted.length - 1)];
+  }
+
+  public String format() {
+    return "ticks=%d mean=%.3fms p50=%.3fms p90=%.3fms p99=%.3fms p99.9=%.3fms max=%.3fms".formatted(
+      ticks, millis(mean), millis(p50), millis(p90), millis(p99), millis(p999), millis(max));
+  }
+
+  private static double millis(long nanos) {
+    return nanos / 1_000_000.0;
+  }
+}
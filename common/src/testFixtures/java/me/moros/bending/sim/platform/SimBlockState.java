@@ -0,0 +1,60 @@
+/*
+ * Copyright 2020-2026 Moros
+ *
+ * This file is part of Bending.
+ *
+ * Bending is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Bending is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bending. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package me.moros.bending.sim.platform;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import me.moros.bending.api.platform.block.BlockState;
+import me.moros.bending.api.platform.block.BlockType;
+import me.moros.bending.api.platform.property.Property;
+import org.jspecify.annotations.Nullable;
+
+public record SimBlockState(BlockType type, Map<Property<?>, Comparable<?>> properties) implements BlockState {
+  public SimBlockState(BlockType type) {
+    this(type, Map.of());
+  }
+
+  public SimBlockState {
+    properties = Map.copyOf(properties);
+  }
+
+  @Override
+  public boolean matches(BlockState other) {
+    return equals(other);
+  }
+
+  @SuppressWarnings("unchecked")
+  @Override
+  public <V extends Comparable<V>> @Nullable V property(Property<V> property) {
+    return (V) properties.get(property);
+  }
+
+  @Override
+  public <V extends Comparable<V>> BlockState withProperty(Property<V> property, V value) {
+    if (!property.isValidValue(value) || Objects.equals(properties.get(property), value)) {
+      return this;
+    }
+    Map<Property<?>, Comparable<?>> copy = new HashMap<>(properties);
+    copy.put(property, value);
+    return new SimBlockState(type, copy);
+  }
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright 2020-2026 Moros
+ *
+ * This file is part of Bending.
+ *
+ * Bending is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Bending is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bending. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package me.moros.bending.sim.platform;
+
+import java.util.Optional;
+
+import me.moros.bending.api.platform.item.Item;
+import me.moros.bending.api.platform.item.ItemSnapshot;
+import me.moros.bending.api.util.data.DataKey;
+
+public record SimItem(Item type, int amount) implements ItemSnapshot {
+  public static final ItemSnapshot EMPTY = new SimItem(Item.AIR, 0);
+
+  @Override
+  public boolean isEmpty() {
+    return type == Item.AIR || amount <= 0;
+  }
+
+  @Override
+  public <T> Optional<T> get(DataKey<T> key) {
+    return Optional.empty();
+  }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2020-2026 Moros
+ *
+ * This file is part of Bending.
+ *
+ * Bending is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Bending is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bending. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package me.moros.bending.sim.platform;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import me.moros.bending.api.adapter.NativeAdapter;
+import me.moros.bending.api.platform.block.BlockState;
+import me.moros.bending.api.platform.entity.display.Display;
+import me.moros.bending.api.platform.item.Item;
+import me.moros.bending.api.platform.world.World;
+import me.moros.math.Position;
+import me.moros.math.Vector3d;
+import net.kyori.adventure.text.Component;
+
+/**
+ * Packets are never encoded, the adapter only counts how many would have been sent so load tests can report it.
+ */
+public final class SimNativeAdapter implements NativeAdapter {
+  private final AtomicInteger ids = new AtomicInteger(1 << 24);
+  private final LongAdder sent = new LongAdder();
+
+  public long sentPackets() {
+    return sent.sum();
+  }
+
+  private ClientboundPacket packet() {
+    return new SinkPacket(ids.incrementAndGet(), sent);
+  }
+
+  @Override
+  public ClientboundPacket createNotification(Item item, Component title) {
+    return packet();
+  }
+
+  @Override
+  public ClientboundPacket fakeBlock(Position position, BlockState state) {
+    return packet();
+  }
+
+  @Override
+  public ClientboundPacket fakeBreak(Position position, byte progress) {
+    return packet();
+  }
+
+  @Override
+  public ClientboundPacket createFallingBlock(Position center, BlockState state, Vector3d velocity, boolean gravity, World world) {
+    return packet();
+  }
+
+  @Override
+  public ClientboundPacket createDisplayEntity(Position center, Display<?> properties, World world) {
+    return packet();
+  }
+
+  @Override
+  public ClientboundPacket updateDisplayPosition(int id, Vector3d position) {
+    return new SinkPacket(id, sent);
+  }
+
+  @Override
+  public void destroy(int[] ids) {
+    sent.increment();
+  }
+
+  private record SinkPacket(int id, LongAdder sent) implements ClientboundPacket {
+    @Override
+    public void send(Iterable<UUID> playerUUIDs) {
+      sent.increment();
+    }
+
+    @Override
+    public void broadcast(World world, Position center, int dist) {
+      sent.increment();
+    }
+  }
+}
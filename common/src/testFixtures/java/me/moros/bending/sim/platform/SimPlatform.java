@@ -0,0 +1,103 @@
+/*
+ * Copyright 2020-2026 Moros
+ *
+ * This file is part of Bending.
+ *
+ * Bending is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Bending is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bending. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package me.moros.bending.sim.platform;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import me.moros.bending.api.ability.element.ElementHandler;
+import me.moros.bending.api.adapter.NativeAdapter;
+import me.moros.bending.api.gui.Board;
+import me.moros.bending.api.gui.ElementGui;
+import me.moros.bending.api.platform.Platform;
+import me.moros.bending.api.platform.PlatformFactory;
+import me.moros.bending.api.platform.PlatformType;
+import me.moros.bending.api.platform.block.Block;
+import me.moros.bending.api.platform.item.Item;
+import me.moros.bending.api.platform.item.ItemBuilder;
+import me.moros.bending.api.platform.item.ItemSnapshot;
+import me.moros.bending.api.user.User;
+
+/**
+ * A headless platform without boards, menus or recipes. Users fall back to dummy boards.
+ */
+public final class SimPlatform implements Platform, PlatformFactory {
+  private final SimNativeAdapter adapter;
+
+  public SimPlatform() {
+    new SimRegistryInitializer().init();
+    this.adapter = new SimNativeAdapter();
+  }
+
+  @Override
+  public PlatformFactory factory() {
+    return this;
+  }
+
+  @Override
+  public PlatformType type() {
+    return PlatformType.FABRIC; // Closest to vanilla behaviour
+  }
+
+  @Override
+  public boolean hasNativeSupport() {
+    return true;
+  }
+
+  @Override
+  public NativeAdapter nativeAdapter() {
+    return adapter;
+  }
+
+  public SimNativeAdapter packetSink() {
+    return adapter;
+  }
+
+  @Override
+  public Optional<Board> buildBoard(User user) {
+    return Optional.empty();
+  }
+
+  @Override
+  public Optional<ElementGui> buildMenu(ElementHandler handler, User user) {
+    return Optional.empty();
+  }
+
+  @Override
+  public ItemBuilder itemBuilder(Item item) {
+    return new SimItemBuilder(item);
+  }
+
+  @Override
+  public ItemBuilder itemBuilder(ItemSnapshot snapshot) {
+    return new SimItemBuilder(snapshot.type());
+  }
+
+  @Override
+  public Optional<ItemSnapshot> campfireRecipeCooked(Item input) {
+    return Optional.empty();
+  }
+
+  @Override
+  public Collection<ItemSnapshot> calculateOptimalOreDrops(Block block) {
+    return List.of();
+  }
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright 2020-2026 Moros
+ *
+ * This file is part of Bending.
+ *
+ * Bending is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Bending is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bending. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package me.moros.bending.sim.platform;
+
+import java.util.List;
+import java.util.function.Function;
+
+import me.moros.bending.api.platform.block.BlockProperties;
+import me.moros.bending.api.platform.block.BlockState;
+import me.moros.bending.api.platform.block.BlockTag;
+import me.moros.bending.api.platform.block.BlockType;
+import me.moros.bending.api.platform.entity.EntityType;
+import me.moros.bending.api.platform.item.Item;
+import me.moros.bending.api.platform.item.ItemTag;
+import me.moros.bending.api.platform.particle.Particle;
+import me.moros.bending.api.platform.potion.PotionEffect;
+import me.moros.bending.api.platform.potion.PotionEffectTag;
+import me.moros.bending.api.platform.sound.Sound;
+import me.moros.bending.api.platform.sound.SoundGroup;
+import me.moros.bending.api.registry.Registry;
+import me.moros.bending.api.registry.TagBuilder;
+import me.moros.bending.common.util.RegistryInitializer;
+import net.kyori.adventure.key.Key;
+
+/**
+ * Without a server there is no vanilla data to copy, so block properties are derived from block names and only the
+ * tags that bending materials are built from are populated. Every other registry is filled lazily by its defaults.
+ */
+final class SimRegistryInitializer implements RegistryInitializer {
+  private static final SoundGroup STONE_SOUNDS = new SoundGroup(Sound.BLOCK_STONE_BREAK, Sound.BLOCK_STONE_STEP,
+    Sound.BLOCK_STONE_PLACE, Sound.BLOCK_STONE_HIT, Sound.BLOCK_STONE_FALL);
+
+  @Override
+  public void initBlockTypeRegistry(Registry<Key, BlockType> registry, Registry<Key, BlockProperties> propertyRegistry,
+                                    Registry<Key, BlockState> stateRegistry, Registry<Key, Item> itemRegistry) {
+    for (BlockType type : registry) {
+      String name = type.key().value();
+      boolean air = name.endsWith("air");
+      boolean liquid = isLiquid(name);
+      boolean passable = air || liquid || isPassable(name);
+      stateRegistry.register(new SimBlockState(type));
+      propertyRegistry.register(BlockProperties.builder(type, "block.minecraft." + name)
+        .isAir(air)
+        .isSolid(!passable)
+        .isLiquid(liquid)
+        .isFlammable(isFlammable(name))
+        .hasGravity(hasGravity(name))
+        .isCollidable(!passable)
+        .hardness(hardness(name, passable))
+        .soundGroup(STONE_SOUNDS).build());
+      if (!passable) {
+        itemRegistry.register(Item.registry().get(type.key()));
+      }
+    }
+  }
+
+  @Override
+  public void initBlockTypeTagRegistry(Registry<Key, BlockType> registry, Function<Key, TagBuilder<BlockType, BlockTag>> builder) {
+    tag(registry, builder, BlockTag.DIRT, BlockType.DIRT, BlockType.COARSE_DIRT, BlockType.ROOTED_DIRT,
+      BlockType.PODZOL, BlockType.MYCELIUM, BlockType.MUD, BlockType.GRASS_BLOCK);
+    tag(registry, builder, BlockTag.GRASS_BLOCKS, BlockType.GRASS_BLOCK);
+    tag(registry, builder, BlockTag.BASE_STONE_OVERWORLD, BlockType.STONE, BlockType.GRANITE, BlockType.DIORITE,
+      BlockType.ANDESITE, BlockType.TUFF, BlockType.DEEPSLATE);
+    tag(registry, builder, BlockTag.SAND, BlockType.SAND, BlockType.RED_SAND);
+    tag(registry, builder, BlockTag.ICE, BlockType.ICE, BlockType.PACKED_ICE, BlockType.BLUE_ICE, BlockType.FROSTED_ICE);
+    tag(registry, builder, BlockTag.FIRE, BlockType.FIRE, BlockType.SOUL_FIRE);
+    tag(registry, builder, BlockTag.SNOW, BlockType.SNOW, BlockType.SNOW_BLOCK, BlockType.POWDER_SNOW);
+    registry.getTagOrCreate(BlockTag.LEAVES.key(), k -> builder.apply(k).endsWith("_leaves").build());
+  }
+
+  private void tag(Registry<Key, BlockType> registry, Function<Key, TagBuilder<BlockType, BlockTag>> builder,
+                   BlockTag tag, BlockType... types) {
+    registry.getTagOrCreate(tag.key(), k -> builder.apply(k).add(List.of(types)).build());
+  }
+
+  @Override
+  public void initEntityTypeRegistry(Registry<Key, EntityType> registry) {
+  }
+
+  @Override
+  public void initItemRegistry(Registry<Key, Item> registry) {
+  }
+
+  @Override
+  public void initItemTagRegistry(Registry<Key, Item> registry, Function<Key, TagBuilder<Item, ItemTag>> builder) {
+  }
+
+  @Override
+  public void initParticleRegistry(Registry<Key, Particle> registry) {
+  }
+
+  @Override
+  public void initPotionEffectRegistry(Registry<Key, PotionEffect> registry) {
+  }
+
+  @Override
+  public void initPotionEffectTagRegistry(Registry<Key, PotionEffect> registry, Function<Key, TagBuilder<PotionEffect, PotionEffectTag>> builder) {
+  }
+
+  @Override
+  public void initSoundRegistry(Registry<Key, Sound> registry) {
+  }
+
+  private static boolean isLiquid(String name) {
+    return name.equals("water") || name.equals("lava") || name.equals("bubble_column");
+  }
+
+  private static boolean isPassable(String name) {
+    return name.endsWith("fire") || name.endsWith("torch") || name.endsWith("sapling") || name.endsWith("button")
+      || name.endsWith("sign") || name.endsWith("carpet") || name.endsWith("rail") || name.endsWith("vine")
+      || name.endsWith("vines") || name.endsWith("fern") || name.endsWith("tulip") || name.endsWith("flower")
+      || name.endsWith("grass") || name.equals("snow") || name.equals("dead_bush") || name.equals("cobweb");
+  }
+
+  private static boolean isFlammable(String name) {
+    return name.endsWith("planks") || name.endsWith("_log") || name.endsWith("_wood") || name.endsWith("leaves")
+      || name.endsWith("wool") || name.equals("bookshelf") || name.equals("hay_block");
+  }
+
+  private static boolean hasGravity(String name) {
+    return name.equals("sand") || name.equals("red_sand") || name.equals("gravel") || name.startsWith("suspicious_")
+      || name.endsWith("concrete_powder") || name.endsWith("anvil") || name.equals("dragon_egg");
+  }
+
+  private static double hardness(String name, boolean passable) {
+    if (name.equals("bedrock") || name.endsWith("portal")) {
+      return -1;
+    } else if (passable) {
+      return 0;
+    } else if (name.contains("obsidian")) {
+      return 50;
+    } else if (name.contains("dirt") || name.contains("sand") || name.equals("gravel") || name.equals("grass_block")) {
+      return 0.5;
+    }
+    return 1.5;
+  }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2020-2026 Moros
+ *
+ * This file is part of Bending.
+ *
+ * Bending is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Bending is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bending. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package me.moros.bending.sim.platform.entity;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.OptionalDouble;
+
+import me.moros.bending.api.config.attribute.ModifierOperation;
+import me.moros.bending.api.platform.entity.AttributeProperties;
+import me.moros.bending.api.platform.entity.AttributeType;
+import net.kyori.adventure.key.Key;
+
+final class SimAttributes implements AttributeProperties {
+  private final Map<AttributeType, Double> baseValues;
+  private final Map<AttributeType, Map<Key, Modifier>> modifiers;
+
+  SimAttributes() {
+    this.baseValues = new HashMap<>();
+    this.modifiers = new HashMap<>();
+    baseValues.put(AttributeType.MAX_HEALTH, 20.0);
+    baseValues.put(AttributeType.ARMOR, 0.0);
+    baseValues.put(AttributeType.MOVEMENT_SPEED, 0.1);
+    baseValues.put(AttributeType.KNOCKBACK_RESISTANCE, 0.0);
+    baseValues.put(AttributeType.GRAVITY, 0.08);
+    baseValues.put(AttributeType.SAFE_FALL_DISTANCE, 3.0);
+    baseValues.put(AttributeType.FALL_DAMAGE_MULTIPLIER, 1.0);
+    baseValues.put(AttributeType.SCALE, 1.0);
+  }
+
+  @Override
+  public OptionalDouble value(AttributeType type) {
+    Double base = baseValues.get(type);
+    if (base == null) {
+      return OptionalDouble.empty();
+    }
+    double value = base;
+    double summed = 1;
+    double multiplier = 1;
+    for (Modifier modifier : modifiers.getOrDefault(type, Map.of()).values()) {
+      switch (modifier.operation()) {
+        case ADDITIVE -> value += modifier.value();
+        case SUMMED_MULTIPLICATIVE -> summed += modifier.value();
+        case MULTIPLICATIVE -> multiplier *= 1 + modifier.value();
+      }
+    }
+    return OptionalDouble.of(value * summed * multiplier);
+  }
+
+  @Override
+  public OptionalDouble baseValue(AttributeType type) {
+    Double base = baseValues.get(type);
+    return base == null ? OptionalDouble.empty() : OptionalDouble.of(base);
+  }
+
+  @Override
+  public boolean baseValue(AttributeType type, double baseValue) {
+    return baseValues.replace(type, baseValue) != null;
+  }
+
+  @Override
+  public boolean addModifier(AttributeType type, Key key, ModifierOperation operation, double value) {
+    if (!baseValues.containsKey(type)) {
+      return false;
+    }
+    modifiers.computeIfAbsent(type, k -> new HashMap<>()).put(key, new Modifier(operation, value));
+    return true;
+  }
+
+  @Override
+  public boolean removeModifier(AttributeType type, Key key) {
+    Map<Key, Modifier> map = modifiers.get(type);
+    return map != null && map.remove(key) != null;
+  }
+
+  private record Modifier(ModifierOperation operation, double value) {
+  }
+}
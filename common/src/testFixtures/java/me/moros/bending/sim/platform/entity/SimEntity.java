@@ -0,0 +1,218 @@
+/*
+ * Copyright 2020-2026 Moros
+ *
+ * This file is part of Bending.
+ *
+ * Bending is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Bending is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bending. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package me.moros.bending.sim.platform.entity;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.UnaryOperator;
+
+import me.moros.bending.api.platform.block.BlockType;
+import me.moros.bending.api.platform.entity.Entity;
+import me.moros.bending.api.platform.entity.EntityProperties;
+import me.moros.bending.api.platform.entity.EntityType;
+import me.moros.bending.api.platform.property.Property;
+import me.moros.bending.api.platform.world.World;
+import me.moros.bending.api.util.data.DataKey;
+import me.moros.bending.api.util.data.DataKeyed;
+import me.moros.bending.common.util.metadata.BendingMetadata;
+import me.moros.math.FastMath;
+import me.moros.math.Vector3d;
+import net.kyori.adventure.audience.Audience;
+import net.kyori.adventure.text.Component;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * An entity whose state lives entirely in a property map. Movement uses vanilla-like gravity and drag against
+ * full block collision boxes, which is enough for abilities that push, pull or track entities.
+ */
+public class SimEntity implements Entity {
+  private static final double GRAVITY = 0.08;
+  private static final double DRAG = 0.98;
+  private static final int ITEM_LIFETIME = 6000;
+
+  private final Map<DataKeyed<?>, Object> properties;
+  private boolean onGround;
+  private boolean removed;
+  protected int ticksLived;
+
+  public SimEntity(int id, UUID uuid, EntityType type, World world, Vector3d position, double width, double height) {
+    this(id, uuid, type, world, position, width, height, Map.of());
+  }
+
+  protected SimEntity(int id, UUID uuid, EntityType type, World world, Vector3d position, double width, double height,
+                      Map<DataKeyed<?>, Object> defaults) {
+    this.properties = new HashMap<>();
+    properties.put(EntityProperties.ENTITY_ID, id);
+    properties.put(EntityProperties.UUID, uuid);
+    properties.put(EntityProperties.ENTITY_TYPE, type);
+    properties.put(EntityProperties.NAME, Component.text(type.key().value()));
+    properties.put(EntityProperties.WORLD, world);
+    properties.put(EntityProperties.POSITION, position);
+    properties.put(EntityProperties.VELOCITY, Vector3d.ZERO);
+    properties.put(EntityProperties.WIDTH, width);
+    properties.put(EntityProperties.HEIGHT, height);
+    properties.put(EntityProperties.YAW, 0F);
+    properties.put(EntityProperties.PITCH, 0F);
+    properties.put(EntityProperties.GRAVITY, true);
+    properties.put(EntityProperties.INVULNERABLE, false);
+    properties.put(EntityProperties.INVISIBLE, false);
+    properties.put(EntityProperties.IN_WATER, false);
+    properties.put(EntityProperties.IN_LAVA, false);
+    properties.put(EntityProperties.FIRE_TICKS, 0);
+    properties.put(EntityProperties.FIRE_IMMUNE_TICKS, 0);
+    properties.put(EntityProperties.FREEZE_TICKS, 0);
+    properties.put(EntityProperties.REQUIRED_TICKS_TO_FREEZE, 140);
+    properties.put(EntityProperties.FALL_DISTANCE, 0.0);
+    properties.put(EntityProperties.ALLOW_PICKUP, true);
+    properties.putAll(defaults);
+  }
+
+  /**
+   * Advance this entity by one tick.
+   * @return false if the entity should be removed from its world
+   */
+  public boolean tick() {
+    if (!valid()) {
+      return false;
+    }
+    ticksLived++;
+    move();
+    BlockType feet = world().getBlockType(location());
+    properties.put(EntityProperties.IN_WATER, feet == BlockType.WATER);
+    properties.put(EntityProperties.IN_LAVA, feet == BlockType.LAVA);
+    editProperty(EntityProperties.FIRE_TICKS, t -> Math.max(0, t - 1));
+    EntityType type = type();
+    if (type == EntityType.FALLING_BLOCK || type == EntityType.ARROW || type == EntityType.SPECTRAL_ARROW) {
+      return !onGround;
+    }
+    return type != EntityType.ITEM || ticksLived < ITEM_LIFETIME;
+  }
+
+  private void move() {
+    Vector3d pos = location();
+    Vector3d vel = velocity();
+    if (vel.lengthSq() < 1e-8 && onGround) {
+      return;
+    }
+    World world = world();
+    double x = pos.x() + vel.x();
+    double z = pos.z() + vel.z();
+    if (world.getBlockType(FastMath.floor(x), FastMath.floor(pos.y()), FastMath.floor(z)).isCollidable()) {
+      x = pos.x();
+      z = pos.z();
+      vel = Vector3d.of(0, vel.y(), 0);
+    }
+    double dy = vel.y();
+    double y = pos.y() + dy;
+    int floorY = FastMath.floor(y);
+    onGround = false;
+    if (dy <= 0 && world.getBlockType(FastMath.floor(x), floorY, FastMath.floor(z)).isCollidable()) {
+      y = floorY + 1;
+      vel = vel.withY(0);
+      onGround = true;
+      properties.put(EntityProperties.FALL_DISTANCE, 0.0);
+    } else if (dy < 0) {
+      editProperty(EntityProperties.FALL_DISTANCE, d -> d - dy);
+    }
+    y = Math.max(y, world.minHeight());
+    double gravity = propertyValue(EntityProperties.GRAVITY) && !onGround ? GRAVITY : 0;
+    properties.put(EntityProperties.POSITION, Vector3d.of(x, y, z));
+    properties.put(EntityProperties.VELOCITY, vel.subtract(0, gravity, 0).multiply(DRAG));
+  }
+
+  @Override
+  public boolean valid() {
+    return !removed;
+  }
+
+  @Override
+  public boolean isOnGround() {
+    return onGround;
+  }
+
+  @Override
+  public void remove() {
+    removed = true;
+  }
+
+  @Override
+  public boolean isProjectile() {
+    return type() == EntityType.ARROW || type() == EntityType.SPECTRAL_ARROW;
+  }
+
+  @SuppressWarnings("unchecked")
+  @Override
+  public <V> @Nullable V property(DataKeyed<V> dataKeyed) {
+    return (V) properties.get(dataKeyed);
+  }
+
+  @Override
+  public <V> boolean setProperty(DataKeyed<V> dataKeyed, V value) {
+    if (dataKeyed instanceof Property<V> property && !property.isValidValue(value)) {
+      return false;
+    }
+    properties.put(dataKeyed, value);
+    return true;
+  }
+
+  @Override
+  public <V> boolean editProperty(DataKeyed<V> dataKeyed, UnaryOperator<V> operator) {
+    V value = property(dataKeyed);
+    return value != null && setProperty(dataKeyed, operator.apply(value));
+  }
+
+  @Override
+  public <T> Optional<T> get(DataKey<T> key) {
+    return BendingMetadata.INSTANCE.metadata(uuid()).get(key);
+  }
+
+  @Override
+  public <T> void add(DataKey<T> key, T value) {
+    BendingMetadata.INSTANCE.metadata(uuid()).add(key, value);
+  }
+
+  @Override
+  public <T> void remove(DataKey<T> key) {
+    BendingMetadata.INSTANCE.metadata(uuid()).remove(key);
+  }
+
+  @Override
+  public Audience audience() {
+    return Audience.empty();
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (obj instanceof SimEntity other) {
+      return uuid().equals(other.uuid());
+    }
+    return false;
+  }
+
+  @Override
+  public int hashCode() {
+    return uuid().hashCode();
+  }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2020-2026 Moros
+ *
+ * This file is part of Bending.
+ *
+ * Bending is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Bending is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bending. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package me.moros.bending.sim.platform.entity;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+import me.moros.bending.api.platform.item.EquipmentSlot;
+import me.moros.bending.api.platform.item.Item;
+import me.moros.bending.api.platform.item.ItemSnapshot;
+import me.moros.bending.api.platform.item.PlayerInventory;
+import me.moros.bending.sim.platform.SimItem;
+
+public final class SimInventory implements PlayerInventory {
+  private final Map<EquipmentSlot, ItemSnapshot> equipment;
+  private final Map<Item, Integer> contents;
+  private int selectedSlot;
+
+  SimInventory() {
+    this.equipment = new EnumMap<>(EquipmentSlot.class);
+    this.contents = new HashMap<>();
+  }
+
+  public void selectedSlot(int selectedSlot) {
+    this.selectedSlot = selectedSlot;
+  }
+
+  @Override
+  public int selectedSlot() {
+    return selectedSlot;
+  }
+
+  @Override
+  public boolean canPlaceBlock() {
+    return false;
+  }
+
+  @Override
+  public ItemSnapshot item(EquipmentSlot slot) {
+    return equipment.getOrDefault(slot, SimItem.EMPTY);
+  }
+
+  @Override
+  public void item(EquipmentSlot slot, ItemSnapshot item) {
+    equipment.put(slot, item);
+  }
+
+  @Override
+  public boolean has(Item type, int amount) {
+    return contents.getOrDefault(type, 0) >= amount;
+  }
+
+  @Override
+  public void offer(ItemSnapshot item) {
+    if (!item.isEmpty()) {
+      contents.merge(item.type(), item.amount(), Integer::sum);
+    }
+  }
+
+  @Override
+  public boolean remove(Item type, int amount) {
+    int current = contents.getOrDefault(type, 0);
+    if (current < amount) {
+      return false;
+    }
+    if (current == amount) {
+      contents.remove(type);
+    } else {
+      contents.put(type, current - amount);
+    }
+    return true;
+  }
+
+  @Override
+  public void dropItem(EquipmentSlot slot) {
+    equipment.remove(slot);
+  }
+}
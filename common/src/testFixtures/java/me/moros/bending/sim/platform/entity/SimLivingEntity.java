@@ -0,0 +1,159 @@
+/*
+ * Copyright 2020-2026 Moros
+ *
+ * This file is part of Bending.
+ *
+ * Bending is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Bending is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bending. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package me.moros.bending.sim.platform.entity;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import me.moros.bending.api.ability.AbilityDescription;
+import me.moros.bending.api.platform.entity.Entity;
+import me.moros.bending.api.platform.entity.EntityProperties;
+import me.moros.bending.api.platform.entity.EntityType;
+import me.moros.bending.api.platform.entity.LivingEntity;
+import me.moros.bending.api.platform.item.Inventory;
+import me.moros.bending.api.platform.potion.Potion;
+import me.moros.bending.api.platform.potion.PotionEffect;
+import me.moros.bending.api.platform.world.World;
+import me.moros.bending.api.user.User;
+import me.moros.bending.api.util.data.DataKeyed;
+import me.moros.math.Position;
+import me.moros.math.Vector3d;
+import org.jspecify.annotations.Nullable;
+
+public class SimLivingEntity extends SimEntity implements LivingEntity {
+  private final Map<PotionEffect, ActivePotion> potions;
+
+  public SimLivingEntity(int id, UUID uuid, EntityType type, World world, Vector3d position, double width, double height) {
+    super(id, uuid, type, world, position, width, height, livingDefaults());
+    this.potions = new HashMap<>();
+  }
+
+  private static Map<DataKeyed<?>, Object> livingDefaults() {
+    Map<DataKeyed<?>, Object> defaults = new HashMap<>();
+    defaults.put(EntityProperties.MAX_HEALTH, 20F);
+    defaults.put(EntityProperties.HEALTH, 20F);
+    defaults.put(EntityProperties.MAX_OXYGEN, 300);
+    defaults.put(EntityProperties.REMAINING_OXYGEN, 300);
+    defaults.put(EntityProperties.SNEAKING, false);
+    defaults.put(EntityProperties.SPRINTING, false);
+    defaults.put(EntityProperties.GLIDING, false);
+    defaults.put(EntityProperties.AI, true);
+    defaults.put(EntityProperties.DEAD, false);
+    defaults.put(EntityProperties.RIGHT_HAND, true);
+    defaults.put(EntityProperties.ATTRIBUTES, new SimAttributes());
+    return defaults;
+  }
+
+  @Override
+  public boolean tick() {
+    if (!super.tick()) {
+      return false;
+    }
+    potions.values().removeIf(p -> p.expiresAt() <= ticksLived);
+    return true;
+  }
+
+  @Override
+  public boolean valid() {
+    return super.valid() && !propertyValue(EntityProperties.DEAD);
+  }
+
+  @Override
+  public double eyeHeight() {
+    return height() * 0.85;
+  }
+
+  @Override
+  public @Nullable Inventory inventory() {
+    return null;
+  }
+
+  @Override
+  public boolean damage(double damage) {
+    if (!valid() || propertyValue(EntityProperties.INVULNERABLE)) {
+      return false;
+    }
+    float health = (float) Math.max(0, propertyValue(EntityProperties.HEALTH) - damage);
+    setProperty(EntityProperties.HEALTH, health);
+    if (health <= 0) {
+      onDeath();
+    }
+    return true;
+  }
+
+  @Override
+  public boolean damage(double damage, Entity source) {
+    return damage(damage);
+  }
+
+  @Override
+  public boolean damage(double damage, User source, AbilityDescription desc) {
+    return damage(damage);
+  }
+
+  protected void onDeath() {
+    setProperty(EntityProperties.DEAD, true);
+  }
+
+  @Override
+  public boolean addPotion(Potion potion) {
+    potions.put(potion.effect(), new ActivePotion(potion, ticksLived + potion.duration()));
+    return true;
+  }
+
+  @Override
+  public boolean hasPotion(PotionEffect effect) {
+    return potions.containsKey(effect);
+  }
+
+  @Override
+  public @Nullable Potion potion(PotionEffect effect) {
+    ActivePotion active = potions.get(effect);
+    return active == null ? null : active.potion();
+  }
+
+  @Override
+  public void removePotion(PotionEffect effect) {
+    potions.remove(effect);
+  }
+
+  @Override
+  public Collection<Potion> activePotions() {
+    Collection<Potion> result = new ArrayList<>(potions.size());
+    for (ActivePotion active : potions.values()) {
+      result.add(active.potion());
+    }
+    return result;
+  }
+
+  @Override
+  public Entity shootArrow(Position origin, Vector3d direction, double power) {
+    Entity arrow = world().createEntity(origin, EntityType.ARROW);
+    arrow.velocity(direction.normalize().multiply(power));
+    world().addEntity(arrow);
+    return arrow;
+  }
+
+  private record ActivePotion(Potion potion, long expiresAt) {
+  }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2020-2026 Moros
+ *
+ * This file is part of Bending.
+ *
+ * Bending is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Bending is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bending. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package me.moros.bending.sim.platform.entity;
+
+import java.util.UUID;
+
+import me.moros.bending.api.platform.entity.Entity;
+import me.moros.bending.api.platform.entity.EntityProperties;
+import me.moros.bending.api.platform.entity.EntityType;
+import me.moros.bending.api.platform.entity.player.GameMode;
+import me.moros.bending.api.platform.entity.player.Player;
+import me.moros.bending.api.platform.world.World;
+import me.moros.math.Vector3d;
+import net.kyori.adventure.text.Component;
+
+/**
+ * A synthetic player that holds every permission and respawns in place instead of dying.
+ */
+public final class SimPlayer extends SimLivingEntity implements Player {
+  private final SimInventory inventory;
+
+  public SimPlayer(int id, UUID uuid, String name, World world, Vector3d position) {
+    super(id, uuid, EntityType.PLAYER, world, position, 0.6, 1.8);
+    this.inventory = new SimInventory();
+    setProperty(EntityProperties.NAME, Component.text(name));
+    setProperty(EntityProperties.GAMEMODE, GameMode.SURVIVAL);
+    setProperty(EntityProperties.ALLOW_FLIGHT, false);
+    setProperty(EntityProperties.FLYING, false);
+  }
+
+  @Override
+  public double eyeHeight() {
+    return 1.62;
+  }
+
+  @Override
+  public SimInventory inventory() {
+    return inventory;
+  }
+
+  @Override
+  protected void onDeath() {
+    setProperty(EntityProperties.HEALTH, propertyValue(EntityProperties.MAX_HEALTH));
+    setProperty(EntityProperties.FIRE_TICKS, 0);
+    setProperty(EntityProperties.FALL_DISTANCE, 0.0);
+    velocity(Vector3d.ZERO);
+  }
+
+  @Override
+  public boolean hasPermission(String permission) {
+    return true;
+  }
+
+  @Override
+  public boolean canSee(Entity other) {
+    return true;
+  }
+}
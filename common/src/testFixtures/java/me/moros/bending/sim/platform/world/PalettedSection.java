@@ -0,0 +1,108 @@
+/*
+ * Copyright 2020-2026 Moros
+ *
+ * This file is part of Bending.
+ *
+ * Bending is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Bending is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bending. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package me.moros.bending.sim.platform.world;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import me.moros.bending.api.platform.block.BlockState;
+
+/**
+ * A 16x16x16 block container that stores palette indices packed into longs, similar to vanilla chunk sections.
+ * Sections start with a single entry palette and grow their index width as new states are written.
+ */
+final class PalettedSection {
+  static final int SIZE = 16 * 16 * 16;
+
+  private final List<BlockState> palette;
+  private long[] data;
+  private int bits;
+  private int mask;
+  private int perLong;
+
+  PalettedSection(BlockState fill) {
+    this.palette = new ArrayList<>();
+    this.palette.add(fill);
+    this.data = new long[0];
+    this.bits = 0;
+  }
+
+  static int index(int x, int y, int z) {
+    return ((y & 15) << 8) | ((z & 15) << 4) | (x & 15);
+  }
+
+  BlockState get(int index) {
+    if (bits == 0) {
+      return palette.getFirst();
+    }
+    return palette.get(read(index));
+  }
+
+  BlockState set(int index, BlockState state) {
+    int id = palette.indexOf(state);
+    if (id < 0) {
+      id = palette.size();
+      palette.add(state);
+      if (id > mask) {
+        resize(Math.max(4, 32 - Integer.numberOfLeadingZeros(id)));
+      }
+    }
+    if (bits == 0) {
+      return palette.getFirst();
+    }
+    int previous = read(index);
+    write(index, id);
+    return palette.get(previous);
+  }
+
+  int paletteSize() {
+    return palette.size();
+  }
+
+  private int read(int index) {
+    int cell = index / perLong;
+    int shift = (index - cell * perLong) * bits;
+    return (int) (data[cell] >>> shift) & mask;
+  }
+
+  private void write(int index, int id) {
+    int cell = index / perLong;
+    int shift = (index - cell * perLong) * bits;
+    data[cell] = (data[cell] & ~((long) mask << shift)) | ((long) id << shift);
+  }
+
+  private void resize(int newBits) {
+    long[] oldData = data;
+    int oldBits = bits;
+    int oldMask = mask;
+    int oldPerLong = perLong;
+    bits = newBits;
+    mask = (1 << newBits) - 1;
+    perLong = Long.SIZE / newBits;
+    data = new long[(SIZE + perLong - 1) / perLong];
+    if (oldBits > 0) {
+      for (int i = 0; i < SIZE; i++) {
+        int cell = i / oldPerLong;
+        int shift = (i - cell * oldPerLong) * oldBits;
+        write(i, (int) (oldData[cell] >>> shift) & oldMask);
+      }
+    }
+  }
+}
@@ -0,0 +1,459 @@
+/*
+ * Copyright 2020-2026 Moros
+ *
+ * This file is part of Bending.
+ *
+ * Bending is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Bending is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bending. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package me.moros.bending.sim.platform.world;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+import me.moros.bending.api.collision.geometry.AABB;
+import me.moros.bending.api.collision.raytrace.BlockRayTrace;
+import me.moros.bending.api.collision.raytrace.CompositeRayTrace;
+import me.moros.bending.api.collision.raytrace.Context;
+import me.moros.bending.api.collision.raytrace.RayTrace;
+import me.moros.bending.api.platform.block.Block;
+import me.moros.bending.api.platform.block.BlockState;
+import me.moros.bending.api.platform.block.BlockType;
+import me.moros.bending.api.platform.block.Lockable;
+import me.moros.bending.api.platform.entity.Entity;
+import me.moros.bending.api.platform.entity.EntityProperties;
+import me.moros.bending.api.platform.entity.EntityType;
+import me.moros.bending.api.platform.item.ItemSnapshot;
+import me.moros.bending.api.platform.particle.ParticleContext;
+import me.moros.bending.api.platform.world.World;
+import me.moros.bending.api.util.data.DataHolder;
+import me.moros.bending.common.util.EntityIndex;
+import me.moros.bending.common.util.LongObjectMap;
+import me.moros.bending.common.util.metadata.BendingMetadata;
+import me.moros.bending.sim.platform.entity.SimEntity;
+import me.moros.bending.sim.platform.entity.SimLivingEntity;
+import me.moros.bending.sim.platform.entity.SimPlayer;
+import me.moros.math.FastMath;
+import me.moros.math.Position;
+import me.moros.math.Vector3d;
+import net.kyori.adventure.audience.Audience;
+import net.kyori.adventure.key.Key;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * An in-memory flat world. Chunk sections are generated on first access and stored in paletted containers.
+ * The terrain is layered stone, dirt and grass with a shallow sand-rimmed pool every 32 blocks, so earth, sand and
+ * water abilities can all find sources close to any spawn point.
+ */
+public final class SimWorld implements World {
+  public static final int SURFACE = 64;
+
+  private static final int MIN_HEIGHT = -64;
+  private static final int MAX_HEIGHT = 320;
+  private static final int POOL_SPACING = 32;
+  private static final int POOL_SIZE = 6;
+  private static final long UUID_MSB = 0x53494D0000000000L;
+
+  private final Key key;
+  private final LongObjectMap<PalettedSection> sections;
+  private final Map<UUID, SimEntity> entities;
+  private final AtomicInteger entityIds;
+  private final BlockState air;
+  private final BlockState bedrock;
+  private final BlockState stone;
+  private final BlockState dirt;
+  private final BlockState grass;
+  private final BlockState sand;
+  private final BlockState water;
+  private long time;
+  private long particles;
+
+  public SimWorld(Key key) {
+    this.key = key;
+    this.sections = new LongObjectMap<>(1024);
+    this.entities = new LinkedHashMap<>();
+    this.entityIds = new AtomicInteger();
+    this.air = BlockType.AIR.defaultState();
+    this.bedrock = BlockType.BEDROCK.defaultState();
+    this.stone = BlockType.STONE.defaultState();
+    this.dirt = BlockType.DIRT.defaultState();
+    this.grass = BlockType.GRASS_BLOCK.defaultState();
+    this.sand = BlockType.SAND.defaultState();
+    this.water = BlockType.WATER.defaultState();
+    this.time = 1000;
+  }
+
+  /**
+   * Advance the world clock and move every entity by one tick, dropping any that became invalid.
+   */
+  public void tick() {
+    time++;
+    entities.values().removeIf(e -> !e.tick());
+  }
+
+  public SimPlayer createPlayer(UUID uuid, String name, Vector3d position) {
+    SimPlayer player = new SimPlayer(entityIds.incrementAndGet(), uuid, name, this, position);
+    entities.put(uuid, player);
+    return player;
+  }
+
+  public void removeEntity(UUID uuid) {
+    SimEntity entity = entities.remove(uuid);
+    if (entity != null) {
+      entity.remove();
+    }
+  }
+
+  public Collection<SimEntity> entities() {
+    return entities.values();
+  }
+
+  public int loadedSections() {
+    return sections.size();
+  }
+
+  public long spawnedParticles() {
+    return particles;
+  }
+
+  private static long sectionKey(int x, int y, int z) {
+    return ((long) (x >> 4) & 0x3FFFFF) << 42 | ((long) (z >> 4) & 0x3FFFFF) << 20 | ((long) (y >> 4) & 0xFFFFF);
+  }
+
+  private PalettedSection section(int x, int y, int z) {
+    return sections.computeIfAbsent(sectionKey(x, y, z), k -> generate(x & ~15, y & ~15, z & ~15));
+  }
+
+  private PalettedSection generate(int baseX, int baseY, int baseZ) {
+    PalettedSection section = new PalettedSection(air);
+    if (baseY > SURFACE) {
+      return section;
+    }
+    for (int y = 0; y < 16; y++) {
+      for (int z = 0; z < 16; z++) {
+        for (int x = 0; x < 16; x++) {
+          BlockState state = terrain(baseX + x, baseY + y, baseZ + z);
+          if (state != air) {
+            section.set(PalettedSection.index(x, y, z), state);
+          }
+        }
+      }
+    }
+    return section;
+  }
+
+  private BlockState terrain(int x, int y, int z) {
+    if (y <= MIN_HEIGHT) {
+      return bedrock;
+    } else if (y > SURFACE) {
+      return air;
+    } else if (y < SURFACE - 4) {
+      return stone;
+    }
+    int localX = Math.floorMod(x, POOL_SPACING);
+    int localZ = Math.floorMod(z, POOL_SPACING);
+    if (localX < POOL_SIZE && localZ < POOL_SIZE) {
+      return y >= SURFACE - 3 ? water : dirt;
+    } else if (y < SURFACE) {
+      return dirt;
+    }
+    return localX < POOL_SIZE + 2 && localZ < POOL_SIZE + 2 ? sand : grass;
+  }
+
+  private boolean outOfBounds(int y) {
+    return y < MIN_HEIGHT || y >= MAX_HEIGHT;
+  }
+
+  @Override
+  public BlockType getBlockType(int x, int y, int z) {
+    return getBlockState(x, y, z).type();
+  }
+
+  @Override
+  public BlockState getBlockState(int x, int y, int z) {
+    if (outOfBounds(y)) {
+      return air;
+    }
+    return section(x, y, z).get(PalettedSection.index(x, y, z));
+  }
+
+  @Override
+  public AABB blockBounds(int x, int y, int z) {
+    if (getBlockType(x, y, z).isCollidable()) {
+      return AABB.of(Vector3d.of(x, y, z), Vector3d.of(x + 1, y + 1, z + 1));
+    }
+    return AABB.dummy();
+  }
+
+  @Override
+  public DataHolder blockMetadata(int x, int y, int z) {
+    return BendingMetadata.INSTANCE.metadata(key(), x, y, z);
+  }
+
+  @Override
+  public boolean isBlockEntity(Position position) {
+    return false;
+  }
+
+  @Override
+  public @Nullable Lockable containerLock(Position position) {
+    return null;
+  }
+
+  @Override
+  public boolean setBlockState(int x, int y, int z, BlockState state) {
+    if (outOfBounds(y)) {
+      return false;
+    }
+    section(x, y, z).set(PalettedSection.index(x, y, z), state);
+    return true;
+  }
+
+  @Override
+  public boolean breakNaturally(int x, int y, int z) {
+    if (outOfBounds(y)) {
+      return false;
+    }
+    return !section(x, y, z).set(PalettedSection.index(x, y, z), air).type().isAir();
+  }
+
+  @Override
+  public List<Entity> nearbyEntities(AABB box, Predicate<Entity> predicate, int limit) {
+    return EntityIndex.INSTANCE.nearbyEntities(this, box, predicate, limit, this::loadEntities);
+  }
+
+  private List<Entity> loadEntities(AABB box) {
+    List<Entity> result = new ArrayList<>();
+    for (SimEntity entity : entities.values()) {
+      if (entity.valid() && box.intersects(entity.bounds())) {
+        result.add(entity);
+      }
+    }
+    return result;
+  }
+
+  @Override
+  public String name() {
+    return key.value();
+  }
+
+  @Override
+  public int minHeight() {
+    return MIN_HEIGHT;
+  }
+
+  @Override
+  public int maxHeight() {
+    return MAX_HEIGHT;
+  }
+
+  @Override
+  public void spawnParticle(ParticleContext context) {
+    particles += context.count();
+  }
+
+  @Override
+  public BlockRayTrace rayTraceBlocks(Context context) {
+    Vector3d origin = context.origin();
+    Vector3d end = context.endPoint();
+    Vector3d dir = end.subtract(origin);
+    if (dir.lengthSq() == 0) {
+      return RayTrace.miss(end);
+    }
+    int x = FastMath.floor(origin.x());
+    int y = FastMath.floor(origin.y());
+    int z = FastMath.floor(origin.z());
+    int stepX = (int) Math.signum(dir.x());
+    int stepY = (int) Math.signum(dir.y());
+    int stepZ = (int) Math.signum(dir.z());
+    double deltaX = stepX == 0 ? Double.MAX_VALUE : Math.abs(1 / dir.x());
+    double deltaY = stepY == 0 ? Double.MAX_VALUE : Math.abs(1 / dir.y());
+    double deltaZ = stepZ == 0 ? Double.MAX_VALUE : Math.abs(1 / dir.z());
+    double maxX = stepX == 0 ? Double.MAX_VALUE : (stepX > 0 ? x + 1 - origin.x() : origin.x() - x) * deltaX;
+    double maxY = stepY == 0 ? Double.MAX_VALUE : (stepY > 0 ? y + 1 - origin.y() : origin.y() - y) * deltaY;
+    double maxZ = stepZ == 0 ? Double.MAX_VALUE : (stepZ > 0 ? z + 1 - origin.z() : origin.z() - z) * deltaZ;
+    double t = 0;
+    while (t <= 1 && !outOfBounds(y)) {
+      if (!context.ignore(x, y, z) && blocksRay(context, getBlockType(x, y, z))) {
+        return RayTrace.hit(origin.add(dir.multiply(t)), new Block(this, x, y, z));
+      }
+      if (maxX < maxY && maxX < maxZ) {
+        t = maxX;
+        maxX += deltaX;
+        x += stepX;
+      } else if (maxY < maxZ) {
+        t = maxY;
+        maxY += deltaY;
+        y += stepY;
+      } else {
+        t = maxZ;
+        maxZ += deltaZ;
+        z += stepZ;
+      }
+    }
+    return RayTrace.miss(end);
+  }
+
+  private static boolean blocksRay(Context context, BlockType type) {
+    if (type.isAir()) {
+      return false;
+    } else if (type.isLiquid()) {
+      return !context.ignoreLiquids();
+    }
+    return type.isCollidable() || !context.ignorePassable();
+  }
+
+  @Override
+  public CompositeRayTrace rayTraceEntities(Context context, double range) {
+    Vector3d origin = context.origin();
+    Vector3d dir = context.dir().normalize().multiply(range);
+    Entity result = null;
+    double minT = Double.MAX_VALUE;
+    for (Entity entity : nearbyEntities(AABB.fromRay(origin, dir, context.raySize()), context.entityPredicate())) {
+      double t = clip(entity.bounds(), origin, dir);
+      if (t >= 0 && t < minT) {
+        result = entity;
+        minT = t;
+      }
+    }
+    return result == null ? RayTrace.miss(origin.add(dir)) : RayTrace.hit(origin.add(dir.multiply(minT)), result);
+  }
+
+  // Slab test, returns the entry point along the segment as a fraction of dir or -1 on miss
+  private static double clip(AABB box, Vector3d origin, Vector3d dir) {
+    double[] o = {origin.x(), origin.y(), origin.z()};
+    double[] d = {dir.x(), dir.y(), dir.z()};
+    double[] min = {box.min().x(), box.min().y(), box.min().z()};
+    double[] max = {box.max().x(), box.max().y(), box.max().z()};
+    double near = 0;
+    double far = 1;
+    for (int i = 0; i < 3; i++) {
+      if (Math.abs(d[i]) < 1e-9) {
+        if (o[i] < min[i] || o[i] > max[i]) {
+          return -1;
+        }
+        continue;
+      }
+      double t1 = (min[i] - o[i]) / d[i];
+      double t2 = (max[i] - o[i]) / d[i];
+      near = Math.max(near, Math.min(t1, t2));
+      far = Math.min(far, Math.max(t1, t2));
+      if (near > far) {
+        return -1;
+      }
+    }
+    return near;
+  }
+
+  @Override
+  public boolean isDay() {
+    return time % 24000 < 12000;
+  }
+
+  @Override
+  public boolean isNight() {
+    return !isDay();
+  }
+
+  @Override
+  public Entity createEntity(Position pos, EntityType type) {
+    if (type == EntityType.PLAYER) {
+      throw new IllegalArgumentException("Cannot create a Player.");
+    }
+    int id = entityIds.incrementAndGet();
+    UUID uuid = new UUID(UUID_MSB, id);
+    Vector3d position = pos.toVector3d();
+    if (type == EntityType.FALLING_BLOCK) {
+      return new SimEntity(id, uuid, type, this, position, 0.98, 0.98);
+    } else if (type == EntityType.ITEM) {
+      return new SimEntity(id, uuid, type, this, position, 0.25, 0.25);
+    } else if (type == EntityType.ARROW || type == EntityType.SPECTRAL_ARROW) {
+      return new SimEntity(id, uuid, type, this, position, 0.5, 0.5);
+    } else if (type.key().value().endsWith("display") || type == EntityType.MARKER) {
+      return new SimEntity(id, uuid, type, this, position, 0, 0);
+    }
+    return new SimLivingEntity(id, uuid, type, this, position, 0.6, 1.8);
+  }
+
+  @Override
+  public boolean addEntity(Entity entity) {
+    if (entity instanceof SimEntity simEntity && simEntity.world() == this && simEntity.valid()) {
+      return entities.putIfAbsent(simEntity.uuid(), simEntity) == null;
+    }
+    return false;
+  }
+
+  @Override
+  public Entity dropItem(Position pos, ItemSnapshot item, boolean canPickup) {
+    Entity entity = createEntity(pos, EntityType.ITEM);
+    entity.setProperty(EntityProperties.ALLOW_PICKUP, canPickup);
+    addEntity(entity);
+    return entity;
+  }
+
+  @Override
+  public Entity createFallingBlock(Position pos, BlockState state, boolean gravity) {
+    Entity entity = createEntity(pos, EntityType.FALLING_BLOCK);
+    entity.setProperty(EntityProperties.GRAVITY, gravity);
+    addEntity(entity);
+    return entity;
+  }
+
+  @Override
+  public int lightLevel(int x, int y, int z) {
+    return Math.max(blockLightLevel(x, y, z), skyLightLevel(x, y, z));
+  }
+
+  @Override
+  public int blockLightLevel(int x, int y, int z) {
+    return 0;
+  }
+
+  @Override
+  public int skyLightLevel(int x, int y, int z) {
+    return y > SURFACE && isDay() ? 15 : 0;
+  }
+
+  @Override
+  public Dimension dimension() {
+    return Dimension.OVERWORLD;
+  }
+
+  @Override
+  public CompletableFuture<?> loadChunkAsync(int x, int z) {
+    return CompletableFuture.completedFuture(null);
+  }
+
+  @Override
+  public int viewDistance() {
+    return 10;
+  }
+
+  @Override
+  public Iterable<? extends Audience> audiences() {
+    return List.of();
+  }
+
+  @Override
+  public Key key() {
+    return key;
+  }
+}
@@ -0,0 +1,178 @@
+/*
+ * Copyright 2020-2026 Moros
+ *
+ * This file is part of Bending.
+ *
+ * Bending is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Bending is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bending. If not, see <https://www.gnu.org/licenses/>.
+ */
+package me.moros.bending.common.collision;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+import me.moros.bending.common.collision.ColliderBatch.Buffer;
+
+/**
+ * Vector API implementation, only loaded when the jdk.incubator.vector module is present.
+ * Remaining elements that do not fill a whole vector are resolved by {@link ScalarKernel}.
+ */
+final class VectorKernel implements BatchKernel {
+  private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+
+  VectorKernel() {
+  }
+
+  private static DoubleVector load(double[] array, int offset) {
+    return DoubleVector.fromArray(SPECIES, array, offset);
+  }
+
+  private static DoubleVector lengthSq(DoubleVector x, DoubleVector y, DoubleVector z) {
+    return x.mul(x).add(y.mul(y)).add(z.mul(z));
+  }
+
+  @Override
+  public int sphereVsSpheres(double x, double y, double z, double r, Buffer spheres) {
+    double[][] c = spheres.components;
+    int bound = SPECIES.loopBound(spheres.size);
+    int i = 0;
+    for (; i < bound; i += SPECIES.length()) {
+      DoubleVector sum = load(c[3], i).add(r);
+      DoubleVector distSq = lengthSq(load(c[0], i).sub(x), load(c[1], i).sub(y), load(c[2], i).sub(z));
+      VectorMask<Double> mask = distSq.compare(VectorOperators.LE, sum.mul(sum));
+      if (mask.anyTrue()) {
+        return i + mask.firstTrue();
+      }
+    }
+    return ScalarKernel.sphereVsSpheres(i, x, y, z, r, spheres);
+  }
+
+  @Override
+  public int sphereVsBoxes(double x, double y, double z, double r, Buffer boxes) {
+    double[][] c = boxes.components;
+    int bound = SPECIES.loopBound(boxes.size);
+    DoubleVector px = DoubleVector.broadcast(SPECIES, x);
+    DoubleVector py = DoubleVector.broadcast(SPECIES, y);
+    DoubleVector pz = DoubleVector.broadcast(SPECIES, z);
+    double rSq = r * r;
+    int i = 0;
+    for (; i < bound; i += SPECIES.length()) {
+      DoubleVector dx = px.sub(px.max(load(c[0], i)).min(load(c[3], i)));
+      DoubleVector dy = py.sub(py.max(load(c[1], i)).min(load(c[4], i)));
+      DoubleVector dz = pz.sub(pz.max(load(c[2], i)).min(load(c[5], i)));
+      VectorMask<Double> mask = lengthSq(dx, dy, dz).compare(VectorOperators.LE, rSq);
+      if (mask.anyTrue()) {
+        return i + mask.firstTrue();
+      }
+    }
+    return ScalarKernel.sphereVsBoxes(i, x, y, z, r, boxes);
+  }
+
+  @Override
+  public int sphereVsRays(double x, double y, double z, double r, Buffer rays) {
+    double[][] c = rays.components;
+    int bound = SPECIES.loopBound(rays.size);
+    double rSq = r * r;
+    int i = 0;
+    for (; i < bound; i += SPECIES.length()) {
+      DoubleVector mx = load(c[0], i).sub(x);
+      DoubleVector my = load(c[1], i).sub(y);
+      DoubleVector mz = load(c[2], i).sub(z);
+      DoubleVector dx = load(c[3], i);
+      DoubleVector dy = load(c[4], i);
+      DoubleVector dz = load(c[5], i);
+      DoubleVector b = dx.mul(mx).add(dy.mul(my)).add(dz.mul(mz));
+      DoubleVector value = lengthSq(mx, my, mz).sub(b.mul(b).div(lengthSq(dx, dy, dz)));
+      VectorMask<Double> mask = value.compare(VectorOperators.LE, rSq);
+      if (mask.anyTrue()) {
+        return i + mask.firstTrue();
+      }
+    }
+    return ScalarKernel.sphereVsRays(i, x, y, z, r, rays);
+  }
+
+  @Override
+  public int boxVsSpheres(double minX, double minY, double minZ, double maxX, double maxY, double maxZ, Buffer spheres) {
+    double[][] c = spheres.components;
+    int bound = SPECIES.loopBound(spheres.size);
+    int i = 0;
+    for (; i < bound; i += SPECIES.length()) {
+      DoubleVector x = load(c[0], i);
+      DoubleVector y = load(c[1], i);
+      DoubleVector z = load(c[2], i);
+      DoubleVector r = load(c[3], i);
+      DoubleVector dx = x.sub(x.max(minX).min(maxX));
+      DoubleVector dy = y.sub(y.max(minY).min(maxY));
+      DoubleVector dz = z.sub(z.max(minZ).min(maxZ));
+      VectorMask<Double> mask = lengthSq(dx, dy, dz).compare(VectorOperators.LE, r.mul(r));
+      if (mask.anyTrue()) {
+        return i + mask.firstTrue();
+      }
+    }
+    return ScalarKernel.boxVsSpheres(i, minX, minY, minZ, maxX, maxY, maxZ, spheres);
+  }
+
+  @Override
+  public int boxVsBoxes(double minX, double minY, double minZ, double maxX, double maxY, double maxZ, Buffer boxes) {
+    double[][] c = boxes.components;
+    int bound = SPECIES.loopBound(boxes.size);
+    int i = 0;
+    for (; i < bound; i += SPECIES.length()) {
+      VectorMask<Double> mask = load(c[3], i).compare(VectorOperators.GT, minX)
+        .and(load(c[0], i).compare(VectorOperators.LT, maxX))
+        .and(load(c[4], i).compare(VectorOperators.GT, minY))
+        .and(load(c[1], i).compare(VectorOperators.LT, maxY))
+        .and(load(c[5], i).compare(VectorOperators.GT, minZ))
+        .and(load(c[2], i).compare(VectorOperators.LT, maxZ));
+      if (mask.anyTrue()) {
+        return i + mask.firstTrue();
+      }
+    }
+    return ScalarKernel.boxVsBoxes(i, minX, minY, minZ, maxX, maxY, maxZ, boxes);
+  }
+
+  @Override
+  public int boxVsRays(double minX, double minY, double minZ, double maxX, double maxY, double maxZ, Buffer rays) {
+    double[][] c = rays.components;
+    int bound = SPECIES.loopBound(rays.size);
+    DoubleVector vMinX = DoubleVector.broadcast(SPECIES, minX);
+    DoubleVector vMinY = DoubleVector.broadcast(SPECIES, minY);
+    DoubleVector vMinZ = DoubleVector.broadcast(SPECIES, minZ);
+    DoubleVector vMaxX = DoubleVector.broadcast(SPECIES, maxX);
+    DoubleVector vMaxY = DoubleVector.broadcast(SPECIES, maxY);
+    DoubleVector vMaxZ = DoubleVector.broadcast(SPECIES, maxZ);
+    int i = 0;
+    for (; i < bound; i += SPECIES.length()) {
+      DoubleVector ox = load(c[0], i);
+      DoubleVector oy = load(c[1], i);
+      DoubleVector oz = load(c[2], i);
+      DoubleVector ix = load(c[6], i);
+      DoubleVector iy = load(c[7], i);
+      DoubleVector iz = load(c[8], i);
+      DoubleVector t0x = vMinX.sub(ox).mul(ix);
+      DoubleVector t0y = vMinY.sub(oy).mul(iy);
+      DoubleVector t0z = vMinZ.sub(oz).mul(iz);
+      DoubleVector t1x = vMaxX.sub(ox).mul(ix);
+      DoubleVector t1y = vMaxY.sub(oy).mul(iy);
+      DoubleVector t1z = vMaxZ.sub(oz).mul(iz);
+      DoubleVector near = t0x.min(t1x).max(t0y.min(t1y)).max(t0z.min(t1z));
+      DoubleVector far = t0x.max(t1x).min(t0y.max(t1y)).min(t0z.max(t1z));
+      VectorMask<Double> mask = near.compare(VectorOperators.LE, far);
+      if (mask.anyTrue()) {
+        return i + mask.firstTrue();
+      }
+    }
+    return ScalarKernel.boxVsRays(i, minX, minY, minZ, maxX, maxY, maxZ, rays);
+  }
+}
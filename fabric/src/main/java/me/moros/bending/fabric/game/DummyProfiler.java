@@ -0,0 +1,55 @@
+/*
+ * Copyright 2020-2026 Moros
+ *
+ * This file is part of Bending.
+ *
+ * Bending is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Bending is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bending. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package me.moros.bending.fabric.game;
+
+import java.util.List;
+import java.util.Map;
+
+import me.moros.bending.api.game.Profiler;
+import me.moros.bending.api.game.ProfilerReport;
+
+final class DummyProfiler implements Profiler {
+  static final DummyProfiler INSTANCE = new DummyProfiler();
+
+  private DummyProfiler() {
+  }
+
+  @Override
+  public boolean isEnabled() {
+    return false;
+  }
+
+  @Override
+  public void enable() {
+  }
+
+  @Override
+  public void disable() {
+  }
+
+  @Override
+  public void reset() {
+  }
+
+  @Override
+  public ProfilerReport report() {
+    return new ProfilerReport(0, 0, List.of(), List.of(), Map.of());
+  }
+}
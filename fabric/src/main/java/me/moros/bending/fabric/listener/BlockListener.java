@@ -51,6 +51,9 @@ public record BlockListener(Supplier<Game> gameSupplier) implements FabricListen
       if (ActionLimiter.isLimited(player.getUUID(), ActionType.INTERACT_BLOCK)) {
         return false;
       }
+      if (!mayBeTemp(player.level(), pos)) {
+        return true;
+      }
       var block = PlatformAdapter.fromFabricWorld(player.level()).blockAt(pos.getX(), pos.getY(), pos.getZ());
       TempBlock.MANAGER.get(block).ifPresent(TempBlock::removeWithoutReverting);
     }
@@ -58,7 +61,7 @@ public record BlockListener(Supplier<Game> gameSupplier) implements FabricListen
   }
 
   private boolean onAfterBlockBreak(ServerLevel level, BlockPos pos) {
-    if (!disabledWorld(level)) {
+    if (!disabledWorld(level) && mayBeTemp(level, pos)) {
       var block = PlatformAdapter.fromFabricWorld(level).blockAt(pos.getX(), pos.getY(), pos.getZ());
       var tb = TempBlock.MANAGER.get(block).orElse(null);
       if (tb != null) {
@@ -71,44 +74,50 @@ public record BlockListener(Supplier<Game> gameSupplier) implements FabricListen
 
   private boolean onBlockDropLoot(ServerLevel level, BlockPos pos) {
     if (!disabledWorld(level)) {
-      var block = PlatformAdapter.fromFabricWorld(level).blockAt(pos.getX(), pos.getY(), pos.getZ());
-      return !TempBlock.MANAGER.isTemp(block);
+      return !isTemp(level, pos);
     }
     return true;
   }
 
   private boolean onBlockChange(ServerLevel level, BlockPos pos) {
     if (!disabledWorld(level)) {
-      var block = PlatformAdapter.fromFabricWorld(level).blockAt(pos.getX(), pos.getY(), pos.getZ());
-      return !TempBlock.MANAGER.isTemp(block);
+      return !isTemp(level, pos);
     }
     return true;
   }
 
   private boolean onBlockSpread(ServerLevel level, BlockPos pos, BlockPos pos2) {
     if (!disabledWorld(level)) {
-      var world = PlatformAdapter.fromFabricWorld(level);
-      var block1 = world.blockAt(pos.getX(), pos.getY(), pos.getZ());
-      var block2 = world.blockAt(pos2.getX(), pos2.getY(), pos2.getZ());
-      return !TempBlock.MANAGER.isTemp(block1) && !TempBlock.MANAGER.isTemp(block2);
+      return !isTemp(level, pos) && !isTemp(level, pos2);
     }
     return true;
   }
 
   private boolean onBlockPistonEvent(ServerLevel level, BlockPos pos, List<BlockPos> toMove, List<BlockPos> toDestroy) {
     if (!disabledWorld(level)) {
-      var world = PlatformAdapter.fromFabricWorld(level);
       for (BlockPos bp : toMove) {
-        if (TempBlock.MANAGER.isTemp(world.blockAt(bp.getX(), bp.getY(), bp.getZ()))) {
+        if (isTemp(level, bp)) {
           return false;
         }
       }
       for (BlockPos bp : toDestroy) {
-        if (TempBlock.MANAGER.isTemp(world.blockAt(bp.getX(), bp.getY(), bp.getZ()))) {
+        if (isTemp(level, bp)) {
           return false;
         }
       }
     }
     return true;
   }
+
+  private static boolean mayBeTemp(ServerLevel level, BlockPos pos) {
+    return TempBlock.mayBeTemp(level.dimension().identifier(), pos.getX(), pos.getY(), pos.getZ());
+  }
+
+  private static boolean isTemp(ServerLevel level, BlockPos pos) {
+    if (!mayBeTemp(level, pos)) {
+      return false;
+    }
+    var block = PlatformAdapter.fromFabricWorld(level).blockAt(pos.getX(), pos.getY(), pos.getZ());
+    return TempBlock.MANAGER.isTemp(block);
+  }
 }
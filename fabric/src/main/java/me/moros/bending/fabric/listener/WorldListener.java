@@ -30,18 +30,21 @@ import me.moros.bending.common.util.metadata.BendingMetadata;
 import me.moros.bending.fabric.platform.PlatformAdapter;
 import net.fabricmc.fabric.api.entity.event.v1.ServerEntityLevelChangeEvents;
 import net.fabricmc.fabric.api.event.Event;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerChunkEvents;
 import net.fabricmc.fabric.api.event.lifecycle.v1.ServerLevelEvents;
 import net.minecraft.resources.Identifier;
 import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.world.entity.Entity;
+import net.minecraft.world.level.chunk.LevelChunk;
 
 public record WorldListener(Supplier<Game> gameSupplier) implements FabricListener, Initializer {
   @Override
   public void init() {
     var early = Identifier.fromNamespaceAndPath("bending", "early");
     ServerLevelEvents.UNLOAD.register(this::onWorldUnload);
+    ServerChunkEvents.CHUNK_UNLOAD.register(this::onChunkUnload);
     ServerEntityLevelChangeEvents.AFTER_ENTITY_CHANGE_LEVEL.register(early, this::onChangeWorld);
     ServerEntityLevelChangeEvents.AFTER_ENTITY_CHANGE_LEVEL.addPhaseOrdering(early, Event.DEFAULT_PHASE);
     ServerEntityLevelChangeEvents.AFTER_PLAYER_CHANGE_LEVEL.register(early, this::onChangeWorld);
@@ -54,6 +57,11 @@ public record WorldListener(Supplier<Game> gameSupplier) implements FabricListen
     BendingMetadata.INSTANCE.cleanup(key);
   }
 
+  private void onChunkUnload(ServerLevel world, LevelChunk chunk) {
+    var pos = chunk.getPos();
+    BendingMetadata.INSTANCE.cleanup(world.dimension().identifier(), pos.getMinBlockX() >> 4, pos.getMinBlockZ() >> 4);
+  }
+
   private void onChangeWorld(Entity originalEntity, Entity newEntity, ServerLevel origin, ServerLevel destination) {
     var uuid = newEntity.getUUID();
     User user = Registries.BENDERS.get(uuid);
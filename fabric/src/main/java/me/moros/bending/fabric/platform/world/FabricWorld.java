@@ -39,6 +39,7 @@ import me.moros.bending.api.platform.item.ItemSnapshot;
 import me.moros.bending.api.platform.particle.ParticleContext;
 import me.moros.bending.api.platform.world.World;
 import me.moros.bending.api.util.data.DataHolder;
+import me.moros.bending.common.util.EntityIndex;
 import me.moros.bending.common.util.metadata.BendingMetadata;
 import me.moros.bending.fabric.mixin.accessor.ChunkMapAccess;
 import me.moros.bending.fabric.mixin.accessor.FallingBlockEntityAccess;
@@ -122,18 +123,16 @@ public record FabricWorld(ServerLevel handle) implements World {
 
   @Override
   public List<Entity> nearbyEntities(AABB box, Predicate<Entity> predicate, int limit) {
+    return EntityIndex.INSTANCE.nearbyEntities(this, box, predicate, limit, this::loadEntities);
+  }
+
+  private List<Entity> loadEntities(AABB box) {
     var min = new Vec3(box.min().x(), box.min().y(), box.min().z());
     var max = new Vec3(box.max().x(), box.max().y(), box.max().z());
     net.minecraft.world.phys.AABB aabb = new net.minecraft.world.phys.AABB(min, max);
     List<Entity> entities = new ArrayList<>();
     for (var vanillaEntity : handle().getEntities(null, aabb)) {
-      Entity entity = PlatformAdapter.fromFabricEntity(vanillaEntity);
-      if (predicate.test(entity)) {
-        entities.add(entity);
-        if (limit > 0 && entities.size() >= limit) {
-          return entities;
-        }
-      }
+      entities.add(PlatformAdapter.fromFabricEntity(vanillaEntity));
     }
     return entities;
   }
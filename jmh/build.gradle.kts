@@ -5,4 +5,24 @@ plugins {
 
 dependencies {
     implementation(projects.bendingCommon)
+    implementation(testFixtures(projects.bendingCommon))
+    implementation(libs.bundles.configurate)
+}
+
+jmh {
+    jvmArgsAppend.add("--add-modules=jdk.incubator.vector")
+    // Machine readable results to diff against when upgrading
+    resultFormat = "JSON"
+    resultsFile = layout.buildDirectory.file("results/jmh/results.json")
+    // Run a subset with -PjmhIncludes=<regex>, e.g. -PjmhIncludes=Temporal
+    (findProperty("jmhIncludes") as String?)?.let { includes.add(it) }
+}
+
+tasks.register<JavaExec>("loadTest") {
+    description = "Runs the headless tick simulation and reports tick-time percentiles."
+    group = "verification"
+    classpath = sourceSets["jmh"].runtimeClasspath
+    mainClass = "me.moros.bending.LoadTest"
+    jvmArgs("--add-modules=jdk.incubator.vector")
+    args((findProperty("loadTestArgs") as String? ?: "").split(' ').filter { it.isNotBlank() })
 }
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2020-2026 Moros
+ *
+ * This file is part of Bending.
+ *
+ * Bending is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Bending is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bending. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package me.moros.bending;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import me.moros.bending.api.collision.geometry.AABB;
+import me.moros.bending.api.collision.geometry.Collider;
+import me.moros.bending.api.collision.geometry.Collider.Type;
+import me.moros.bending.api.collision.geometry.Disk;
+import me.moros.bending.api.collision.geometry.OBB;
+import me.moros.bending.api.collision.geometry.Ray;
+import me.moros.bending.api.collision.geometry.Sphere;
+import me.moros.math.Rotation;
+import me.moros.math.Vector3d;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+@State(Scope.Benchmark)
+@Fork(value = 1)
+@Warmup(iterations = 3, time = 50, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 5, time = 50, timeUnit = TimeUnit.MILLISECONDS)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@BenchmarkMode(Mode.AverageTime)
+public class ColliderBenchmark {
+  private static final int SAMPLES = 1024;
+
+  @Param({"SPHERE", "AABB", "OBB", "RAY", "DISK"})
+  Type first;
+
+  @Param({"SPHERE", "AABB", "OBB", "RAY", "DISK"})
+  Type second;
+
+  Collider[] firstColliders;
+  Collider[] secondColliders;
+
+  @Setup
+  public void setup() {
+    firstColliders = new Collider[SAMPLES];
+    secondColliders = new Collider[SAMPLES];
+    for (int i = 0; i < SAMPLES; i++) {
+      firstColliders[i] = generate(first);
+      secondColliders[i] = generate(second);
+    }
+  }
+
+  @Benchmark
+  public void intersects(Blackhole bh) {
+    for (int i = 0; i < SAMPLES; i++) {
+      bh.consume(firstColliders[i].intersects(secondColliders[i]));
+    }
+  }
+
+  // Centers are close enough that roughly half of the pairs intersect
+  private static Collider generate(Type type) {
+    ThreadLocalRandom rand = ThreadLocalRandom.current();
+    Vector3d center = CollisionUtil.randomVector(3);
+    Vector3d half = Vector3d.of(rand.nextDouble(0.2, 1.5), rand.nextDouble(0.2, 1.5), rand.nextDouble(0.2, 1.5));
+    AABB box = AABB.of(center.subtract(half), center.add(half));
+    return switch (type) {
+      case SPHERE -> Sphere.of(center, half.x());
+      case AABB -> box;
+      case OBB -> randomObb(box);
+      case RAY -> Ray.of(center, CollisionUtil.randomVector(1).normalize().multiply(rand.nextDouble(2, 8)));
+      case DISK -> {
+        Vector3d flat = half.withY(0.1);
+        yield Disk.of(Sphere.of(half.x()), randomObb(AABB.of(flat.negate(), flat))).at(center);
+      }
+    };
+  }
+
+  private static OBB randomObb(AABB box) {
+    return OBB.of(box, Rotation.from(Vector3d.PLUS_J, ThreadLocalRandom.current().nextDouble(2 * Math.PI)));
+  }
+}
@@ -25,10 +25,12 @@ import java.util.Collections;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 
 import me.moros.bending.CollisionUtil.CachedAbility;
 import me.moros.bending.CollisionUtil.CollectionType;
 import me.moros.bending.api.collision.geometry.Collider;
+import me.moros.bending.common.collision.DynamicLBVH;
 import me.moros.bending.common.collision.LBVH;
 import org.jspecify.annotations.Nullable;
 import org.openjdk.jmh.annotations.Benchmark;
@@ -51,16 +53,18 @@ import org.openjdk.jmh.infra.Blackhole;
 @OutputTimeUnit(TimeUnit.MICROSECONDS)
 @BenchmarkMode(Mode.AverageTime)
 public class CollisionBenchmark {
-  @Param({"1", "4", "10"}) // size * 30 players * 2 abilities each
+  @Param({"1", "4", "10", "20", "40", "80"}) // size * 30 players * 2 abilities each
   int size;
 
   CachedAbility[] abilities;
+  DynamicLBVH<CachedAbility, CachedAbility> dynamicBVH;
 
   @Setup
   public void setup() {
     // Generate up to 10 extra colliders per ability to stress the BVH
     abilities = CollisionUtil.generateColliders(size, true);
     Collections.shuffle(Arrays.asList(abilities));
+    dynamicBVH = new DynamicLBVH<>(Function.identity());
   }
 
   @Benchmark
@@ -98,12 +102,31 @@ public class CollisionBenchmark {
   public void processCollisionsLBVH(Blackhole bh) {
     var copy = new CachedAbility[abilities.length];
     System.arraycopy(abilities, 0, copy, 0, abilities.length);
-    var bvh = LBVH.buildTree(copy);
+    processQuery(LBVH.buildTree(copy), bh);
+  }
+
+  @Benchmark
+  public void processCollisionsLBVHParallel(Blackhole bh) {
+    var copy = new CachedAbility[abilities.length];
+    System.arraycopy(abilities, 0, copy, 0, abilities.length);
+    processQuery(LBVH.buildTree(copy, true), bh);
+  }
+
+  @Benchmark
+  public void processCollisionsDynamicLBVH(Blackhole bh) {
+    // After the first invocation, the tree is refitted instead of rebuilt
+    var copy = new CachedAbility[abilities.length];
+    System.arraycopy(abilities, 0, copy, 0, abilities.length);
+    processQuery(dynamicBVH.update(copy), bh);
+  }
+
+  private void processQuery(LBVH<CachedAbility> bvh, Blackhole bh) {
     Collection<CachedAbility> pruned = CollectionType.IdentityHashSet.create(abilities.length / 2);
-    for (var pair : bvh.queryAll()) {
-      var first = pair.first();
+    var query = bvh.queryAll();
+    for (int i = 0; i < query.size(); i++) {
+      var first = query.first(i);
       if (!pruned.contains(first)) {
-        handleInternal(first, pair.second(), pruned, bh);
+        handleInternal(first, query.second(i), pruned, bh);
       }
     }
     bh.consume(pruned);
@@ -0,0 +1,160 @@
+/*
+ * Copyright 2020-2026 Moros
+ *
+ * This file is part of Bending.
+ *
+ * Bending is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Bending is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bending. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package me.moros.bending;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import me.moros.bending.api.ability.AbilityDescription;
+import me.moros.bending.api.ability.Activation;
+import me.moros.bending.api.ability.element.Element;
+import me.moros.bending.api.config.ConfigProcessor;
+import me.moros.bending.api.config.Configurable;
+import me.moros.bending.api.config.attribute.Attribute;
+import me.moros.bending.api.config.attribute.AttributeHolder;
+import me.moros.bending.api.config.attribute.Modifiable;
+import me.moros.bending.api.config.attribute.Modifier;
+import me.moros.bending.api.config.attribute.ModifierOperation;
+import me.moros.bending.api.config.attribute.ModifyPolicy;
+import me.moros.bending.api.user.AttributeUser;
+import me.moros.bending.common.config.ConfigManager;
+import me.moros.bending.common.logging.Logger;
+import org.jspecify.annotations.Nullable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.spongepowered.configurate.reference.WatchServiceListener;
+
+@State(Scope.Benchmark)
+@Fork(value = 1)
+@Warmup(iterations = 3, time = 50, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 5, time = 50, timeUnit = TimeUnit.MILLISECONDS)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@BenchmarkMode(Mode.AverageTime)
+public class ConfigBenchmark {
+  @Param({"0", "1", "5"}) // amount of active attribute modifiers
+  int modifiers;
+
+  Path directory;
+  WatchServiceListener listener;
+  ConfigManager configManager;
+  ConfigProcessor processor;
+  AbilityDescription desc;
+  AttributeUser user;
+
+  @Setup
+  public void setup() throws IOException {
+    directory = Files.createTempDirectory("bending-jmh");
+    listener = WatchServiceListener.create();
+    configManager = new ConfigManager(NoopLogger.INSTANCE, directory, listener);
+    processor = configManager.processor();
+    desc = AbilityDescription.builder("ConfigBenchmark", d -> null)
+      .element(Element.FIRE).activation(Activation.ATTACK).build();
+    AttributeHolder holder = AttributeHolder.createEmpty();
+    List<Attribute> attributes = List.of(Attribute.COOLDOWN, Attribute.RANGE, Attribute.DAMAGE, Attribute.SPEED, Attribute.RADIUS);
+    for (int i = 0; i < modifiers; i++) {
+      holder.add(ModifyPolicy.of(Element.FIRE), attributes.get(i), Modifier.of(ModifierOperation.MULTIPLICATIVE, 1.5));
+    }
+    user = () -> holder;
+    processor.calculate(user, desc, BenchConfig.class);
+  }
+
+  @TearDown
+  public void tearDown() throws IOException {
+    configManager.close();
+    listener.close();
+  }
+
+  @Benchmark
+  public BenchConfig calculate() {
+    return processor.calculate(user, desc, BenchConfig.class);
+  }
+
+  public static final class BenchConfig implements Configurable {
+    @Modifiable(Attribute.COOLDOWN)
+    private long cooldown = 5000;
+    @Modifiable(Attribute.RANGE)
+    private double range = 18;
+    @Modifiable(Attribute.DAMAGE)
+    private double damage = 3;
+    @Modifiable(Attribute.SPEED)
+    private double speed = 0.8;
+    @Modifiable(Attribute.RADIUS)
+    private double radius = 1.5;
+    private int maxBlocks = 32;
+    private boolean persistent = false;
+
+    public BenchConfig() {
+    }
+
+    @Override
+    public List<String> path() {
+      return List.of("abilities", "benchmark", "config");
+    }
+  }
+
+  private static final class NoopLogger implements Logger {
+    private static final Logger INSTANCE = new NoopLogger();
+
+    @Override
+    public void debug(String msg) {
+    }
+
+    @Override
+    public void debug(@Nullable String msg, Throwable t) {
+    }
+
+    @Override
+    public void info(String msg) {
+    }
+
+    @Override
+    public void info(@Nullable String msg, Throwable t) {
+    }
+
+    @Override
+    public void warn(String msg) {
+    }
+
+    @Override
+    public void warn(@Nullable String msg, Throwable t) {
+    }
+
+    @Override
+    public void error(String msg) {
+    }
+
+    @Override
+    public void error(@Nullable String msg, Throwable t) {
+    }
+  }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2020-2026 Moros
+ *
+ * This file is part of Bending.
+ *
+ * Bending is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Bending is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bending. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package me.moros.bending;
+
+import java.util.Comparator;
+
+import me.moros.bending.api.game.Profiler;
+import me.moros.bending.api.game.ProfilerReport.AbilityTiming;
+import me.moros.bending.sim.Simulation;
+import me.moros.bending.sim.SimulationOptions;
+
+/**
+ * Standalone load test that drives the headless simulation and prints tick-time percentiles.
+ * <p>Usage: {@code LoadTest [users] [warmupTicks] [ticks] [abilityMix]}
+ */
+public final class LoadTest {
+  private LoadTest() {
+  }
+
+  public static void main(String[] args) {
+    int users = args.length > 0 ? Integer.parseInt(args[0]) : 100;
+    int warmup = args.length > 1 ? Integer.parseInt(args[1]) : 600;
+    int ticks = args.length > 2 ? Integer.parseInt(args[2]) : 6000;
+    String mix = args.length > 3 ? args[3] : SimulationOptions.DEFAULT_MIX;
+
+    SimulationOptions options = SimulationOptions.of(users, mix);
+    try (Simulation simulation = Simulation.start(options)) {
+      simulation.run(warmup);
+      simulation.resetStats();
+      Profiler profiler = simulation.game().profiler();
+      profiler.reset();
+      profiler.enable();
+      simulation.run(ticks);
+      profiler.disable();
+
+      System.out.printf("users=%d warmup=%d ticks=%d mix=%s%n", users, warmup, ticks, options.abilityMix());
+      System.out.println(simulation.stats().format());
+      System.out.println("Top abilities by total time:");
+      profiler.report().abilities().stream()
+        .sorted(Comparator.comparingLong(AbilityTiming::totalNanos).reversed())
+        .limit(10)
+        .forEach(t -> System.out.printf("  %-20s updates=%d total=%.2fms p99=%.1fus max=%.1fus%n",
+          t.description().key().value(), t.updates(), t.totalNanos() / 1e6, t.p99Nanos() / 1e3, t.maxNanos() / 1e3));
+      System.out.printf("packets=%d sections=%d%n", simulation.packetSink().sentPackets(), simulation.world().loadedSections());
+    }
+  }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2020-2026 Moros
+ *
+ * This file is part of Bending.
+ *
+ * Bending is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Bending is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bending. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package me.moros.bending;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import me.moros.bending.api.platform.block.BlockProperties;
+import me.moros.bending.api.platform.block.BlockTag;
+import me.moros.bending.api.platform.block.BlockType;
+import me.moros.bending.api.registry.Registry;
+import me.moros.bending.api.util.material.MaterialUtil;
+import me.moros.bending.common.util.ReflectionUtil;
+import net.kyori.adventure.key.Key;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+@State(Scope.Benchmark)
+@Fork(value = 1)
+@Warmup(iterations = 3, time = 50, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 5, time = 50, timeUnit = TimeUnit.MILLISECONDS)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@BenchmarkMode(Mode.AverageTime)
+public class MaterialBenchmark {
+  private static final int SAMPLES = 1024;
+
+  Registry<Key, BlockProperties> propertyRegistry;
+  Set<BlockType> transparent;
+  BlockType[] samples;
+
+  @Setup
+  public void setup() {
+    var clazz = ReflectionUtil.getClassOrThrow("me.moros.bending.api.platform.block.BlockTypeImpl");
+    propertyRegistry = ReflectionUtil.getStaticFieldOrThrow(clazz, "PROPERTY_REGISTRY");
+    BlockType.AIR.key(); // Init vanilla block types
+    List<BlockType> types = BlockType.registry().stream().toList();
+    for (BlockType type : types) {
+      propertyRegistry.register(BlockProperties.builder(type, type.key().asString())
+        .isAir(type.name().endsWith("air"))
+        .isSolid(!type.name().endsWith("air"))
+        .isCollidable(!type.name().endsWith("air"))
+        .build());
+    }
+    BlockTag.builder(BlockTag.FIRE.key()).add(BlockType.FIRE, BlockType.SOUL_FIRE).buildAndRegister();
+    MaterialUtil.init();
+    transparent = new HashSet<>();
+    MaterialUtil.TRANSPARENT.forEach(transparent::add);
+    var rand = ThreadLocalRandom.current();
+    samples = new BlockType[SAMPLES];
+    for (int i = 0; i < SAMPLES; i++) {
+      samples[i] = types.get(rand.nextInt(types.size()));
+    }
+  }
+
+  @Benchmark
+  public void propertyLookup(Blackhole bh) {
+    for (BlockType type : samples) {
+      bh.consume(propertyRegistry.getOrThrow(type.key()).isCollidable());
+    }
+  }
+
+  @Benchmark
+  public void propertyTable(Blackhole bh) {
+    for (BlockType type : samples) {
+      bh.consume(type.isCollidable());
+    }
+  }
+
+  @Benchmark
+  public void tagHashSet(Blackhole bh) {
+    for (BlockType type : samples) {
+      bh.consume(transparent.contains(type));
+    }
+  }
+
+  @Benchmark
+  public void tagBitSet(Blackhole bh) {
+    for (BlockType type : samples) {
+      bh.consume(MaterialUtil.TRANSPARENT.isTagged(type));
+    }
+  }
+
+  @Benchmark
+  public void isFire(Blackhole bh) {
+    for (BlockType type : samples) {
+      bh.consume(MaterialUtil.isFire(type));
+    }
+  }
+}
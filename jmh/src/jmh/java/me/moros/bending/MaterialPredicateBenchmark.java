@@ -0,0 +1,121 @@
+/*
+ * Copyright 2020-2026 Moros
+ *
+ * This file is part of Bending.
+ *
+ * Bending is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Bending is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bending. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package me.moros.bending;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import me.moros.bending.api.platform.block.Block;
+import me.moros.bending.api.platform.world.World;
+import me.moros.bending.api.util.material.EarthMaterials;
+import me.moros.bending.api.util.material.MaterialUtil;
+import me.moros.bending.api.util.material.WaterMaterials;
+import me.moros.bending.sim.Simulation;
+import me.moros.bending.sim.SimulationOptions;
+import me.moros.bending.sim.platform.world.SimWorld;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Block predicates from {@link MaterialUtil} evaluated against simulated terrain, unlike {@link MaterialBenchmark}
+ * these include the world lookups that abilities pay for.
+ */
+@State(Scope.Benchmark)
+@Fork(value = 1)
+@Warmup(iterations = 3, time = 50, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 5, time = 50, timeUnit = TimeUnit.MILLISECONDS)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@BenchmarkMode(Mode.AverageTime)
+public class MaterialPredicateBenchmark {
+  private static final int SAMPLES = 1024;
+  private static final int SPREAD = 64; // Covers a few water pools of the simulated terrain
+
+  Simulation simulation;
+  Block[] samples;
+
+  @Setup
+  public void setup() {
+    simulation = Simulation.start(SimulationOptions.of(1));
+    World world = simulation.world();
+    var rand = ThreadLocalRandom.current();
+    samples = new Block[SAMPLES];
+    for (int i = 0; i < SAMPLES; i++) {
+      int y = SimWorld.SURFACE - 4 + rand.nextInt(7);
+      samples[i] = world.blockAt(rand.nextInt(SPREAD), y, rand.nextInt(SPREAD));
+    }
+  }
+
+  @TearDown
+  public void tearDown() {
+    simulation.close();
+  }
+
+  @Benchmark
+  public void isTransparent(Blackhole bh) {
+    for (Block block : samples) {
+      bh.consume(MaterialUtil.isTransparent(block));
+    }
+  }
+
+  @Benchmark
+  public void isWater(Blackhole bh) {
+    for (Block block : samples) {
+      bh.consume(MaterialUtil.isWater(block));
+    }
+  }
+
+  @Benchmark
+  public void isIgnitable(Blackhole bh) {
+    for (Block block : samples) {
+      bh.consume(MaterialUtil.isIgnitable(block));
+    }
+  }
+
+  @Benchmark
+  public void isMeltable(Blackhole bh) {
+    for (Block block : samples) {
+      bh.consume(MaterialUtil.isMeltable(block));
+    }
+  }
+
+  @Benchmark
+  public void isEarthbendable(Blackhole bh) {
+    for (Block block : samples) {
+      bh.consume(EarthMaterials.EARTH_BENDABLE.isTagged(block));
+    }
+  }
+
+  @Benchmark
+  public void isWaterBendable(Blackhole bh) {
+    for (Block block : samples) {
+      bh.consume(WaterMaterials.isWaterBendable(block));
+    }
+  }
+}
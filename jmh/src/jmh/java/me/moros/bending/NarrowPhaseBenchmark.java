@@ -0,0 +1,113 @@
+/*
+ * Copyright 2020-2026 Moros
+ *
+ * This file is part of Bending.
+ *
+ * Bending is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Bending is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bending. If not, see <https://www.gnu.org/licenses/>.
+ */
+package me.moros.bending;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import me.moros.bending.api.collision.geometry.AABB;
+import me.moros.bending.api.collision.geometry.Collider;
+import me.moros.bending.api.collision.geometry.OBB;
+import me.moros.bending.api.collision.geometry.Sphere;
+import me.moros.bending.common.collision.ColliderBatch;
+import me.moros.math.Rotation;
+import me.moros.math.Vector3d;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+@State(Scope.Benchmark)
+@Fork(value = 1)
+@Warmup(iterations = 3, time = 50, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 5, time = 50, timeUnit = TimeUnit.MILLISECONDS)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@BenchmarkMode(Mode.AverageTime)
+public class NarrowPhaseBenchmark {
+  @Param({"4", "16", "64"}) // colliders per ability
+  int size;
+
+  @Param({"0", "20"}) // percentage of OBB colliders, the rest is split between spheres and AABBs
+  int obbPercentage;
+
+  List<Collider> first;
+  List<Collider> second;
+  ColliderBatch batch;
+
+  @Setup
+  public void setup() {
+    first = generate(size, obbPercentage);
+    second = generate(size, obbPercentage);
+    batch = new ColliderBatch();
+  }
+
+  @Benchmark
+  public void perPair(Blackhole bh) {
+    for (Collider firstCollider : first) {
+      bh.consume(firstIntersection(firstCollider, second));
+    }
+  }
+
+  @Benchmark
+  public void batched(Blackhole bh) {
+    batch.clear();
+    batch.addAll(second);
+    for (Collider firstCollider : first) {
+      bh.consume(batch.firstIntersection(firstCollider));
+    }
+  }
+
+  private static int firstIntersection(Collider probe, List<Collider> colliders) {
+    for (int i = 0; i < colliders.size(); i++) {
+      if (probe.intersects(colliders.get(i))) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  private static List<Collider> generate(int amount, int obbPercentage) {
+    ThreadLocalRandom rand = ThreadLocalRandom.current();
+    List<Collider> colliders = new ArrayList<>(amount);
+    for (int i = 0; i < amount; i++) {
+      // Spread colliders far enough apart that most pairs miss, as is the case in real fights
+      Vector3d center = CollisionUtil.randomVector(4 * amount);
+      Vector3d half = Vector3d.of(rand.nextDouble(0.2, 1.5), rand.nextDouble(0.2, 1.5), rand.nextDouble(0.2, 1.5));
+      AABB box = AABB.of(center.subtract(half), center.add(half));
+      if (rand.nextInt(100) < obbPercentage) {
+        colliders.add(OBB.of(box, Rotation.from(Vector3d.PLUS_J, rand.nextDouble(2 * Math.PI))));
+      } else if (rand.nextBoolean()) {
+        colliders.add(Sphere.of(center, half.x()));
+      } else {
+        colliders.add(box);
+      }
+    }
+    return colliders;
+  }
+}
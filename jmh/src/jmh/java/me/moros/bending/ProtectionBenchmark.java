@@ -0,0 +1,121 @@
+/*
+ * Copyright 2020-2026 Moros
+ *
+ * This file is part of Bending.
+ *
+ * Bending is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Bending is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bending. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package me.moros.bending;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import me.moros.bending.api.platform.block.Block;
+import me.moros.bending.api.platform.entity.LivingEntity;
+import me.moros.bending.api.platform.world.World;
+import me.moros.bending.api.protection.Protection;
+import me.moros.bending.api.protection.Protection.Granularity;
+import me.moros.bending.api.protection.ProtectionCache;
+import me.moros.bending.api.registry.Registries;
+import me.moros.bending.api.user.User;
+import me.moros.bending.api.util.KeyUtil;
+import me.moros.bending.sim.Simulation;
+import me.moros.bending.sim.SimulationOptions;
+import me.moros.bending.sim.platform.world.SimWorld;
+import net.kyori.adventure.key.Key;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+@State(Scope.Benchmark)
+@Fork(value = 1)
+@Warmup(iterations = 3, time = 50, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 5, time = 50, timeUnit = TimeUnit.MILLISECONDS)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@BenchmarkMode(Mode.AverageTime)
+public class ProtectionBenchmark {
+  private static final int SAMPLES = 1024;
+  private static final int SPREAD = 64; // 4x4 chunks
+
+  @Param({"1", "3"})
+  int protections;
+
+  @Param({"BLOCK", "CHUNK"})
+  Granularity granularity;
+
+  Simulation simulation;
+  User user;
+  Block[] samples;
+
+  @Setup
+  public void setup() {
+    // Registries are locked once the game loads, so protections must be registered first
+    for (int i = 0; i < protections; i++) {
+      Registries.PROTECTIONS.register(new StubProtection(KeyUtil.simple("jmh-" + i), granularity));
+    }
+    simulation = Simulation.start(SimulationOptions.of(1));
+    user = simulation.users().getFirst();
+    World world = simulation.world();
+    var rand = ThreadLocalRandom.current();
+    samples = new Block[SAMPLES];
+    for (int i = 0; i < SAMPLES; i++) {
+      samples[i] = world.blockAt(rand.nextInt(SPREAD), SimWorld.SURFACE + rand.nextInt(8), rand.nextInt(SPREAD));
+    }
+    for (Block block : samples) {
+      ProtectionCache.INSTANCE.canBuild(user, block);
+    }
+  }
+
+  @TearDown
+  public void tearDown() {
+    simulation.close();
+  }
+
+  @Benchmark
+  public void hit(Blackhole bh) {
+    for (Block block : samples) {
+      bh.consume(ProtectionCache.INSTANCE.canBuild(user, block));
+    }
+  }
+
+  @Benchmark
+  public void miss(Blackhole bh) {
+    // Dropping the user's cache forces every block, and the first block of every chunk, to query all protections
+    ProtectionCache.INSTANCE.invalidate(user.uuid());
+    for (Block block : samples) {
+      bh.consume(ProtectionCache.INSTANCE.canBuild(user, block));
+    }
+  }
+
+  private record StubProtection(Key key, Granularity granularity) implements Protection {
+    private static final long COST = 64; // Stand-in for a region lookup in a protection plugin
+
+    @Override
+    public boolean canBuild(LivingEntity entity, Block block) {
+      Blackhole.consumeCPU(COST);
+      return granularity == Granularity.CHUNK || ((block.blockX() ^ block.blockZ()) & 15) != 0;
+    }
+  }
+}
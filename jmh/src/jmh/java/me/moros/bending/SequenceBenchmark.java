@@ -0,0 +1,140 @@
+/*
+ * Copyright 2020-2026 Moros
+ *
+ * This file is part of Bending.
+ *
+ * Bending is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Bending is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bending. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package me.moros.bending;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import me.moros.bending.api.ability.AbilityDescription;
+import me.moros.bending.api.ability.AbilityDescription.Sequence;
+import me.moros.bending.api.ability.Activation;
+import me.moros.bending.api.ability.SequenceBuilder;
+import me.moros.bending.api.ability.SequenceStep;
+import me.moros.bending.api.ability.element.Element;
+import me.moros.bending.common.game.SequenceMatcher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+@State(Scope.Benchmark)
+@Fork(value = 1)
+@Warmup(iterations = 3, time = 50, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 5, time = 50, timeUnit = TimeUnit.MILLISECONDS)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@BenchmarkMode(Mode.AverageTime)
+public class SequenceBenchmark {
+  private static final int ABILITIES = 24;
+  private static final int INPUTS = 1024;
+  private static final Activation[] ACTIVATIONS = {Activation.ATTACK, Activation.INTERACT, Activation.SNEAK, Activation.SNEAK_RELEASE};
+
+  @Param({"10", "50", "200"})
+  int sequences;
+
+  List<Sequence> registered;
+  SequenceMatcher matcher;
+  SequenceStep[] inputs;
+
+  @Setup
+  public void setup() {
+    Random rand = new Random(42);
+    List<AbilityDescription> abilities = new ArrayList<>(ABILITIES);
+    for (int i = 0; i < ABILITIES; i++) {
+      abilities.add(AbilityDescription.builder(name("SequenceBenchmarkAbility", i), d -> null)
+        .element(Element.AIR).activation(Activation.ATTACK).build());
+    }
+    registered = new ArrayList<>(sequences);
+    for (int i = 0; i < sequences; i++) {
+      int length = 2 + rand.nextInt(4);
+      List<SequenceStep> steps = new ArrayList<>(length);
+      for (int j = 0; j < length; j++) {
+        steps.add(SequenceStep.of(abilities.get(rand.nextInt(ABILITIES)), ACTIVATIONS[rand.nextInt(ACTIVATIONS.length)]));
+      }
+      registered.add(AbilityDescription.builder(name("SequenceBenchmark", i), d -> null)
+        .element(Element.AIR).activation(Activation.SEQUENCE).buildSequence(b -> addAll(b, steps)));
+    }
+    matcher = SequenceMatcher.compile(registered);
+    inputs = new SequenceStep[INPUTS];
+    for (int i = 0; i < INPUTS; i++) {
+      inputs[i] = SequenceStep.of(abilities.get(rand.nextInt(ABILITIES)), ACTIVATIONS[rand.nextInt(ACTIVATIONS.length)]);
+    }
+  }
+
+  private static SequenceBuilder addAll(SequenceBuilder builder, List<SequenceStep> steps) {
+    for (SequenceStep step : steps) {
+      builder.add(step.ability(), step.activation());
+    }
+    return builder;
+  }
+
+  // Ability names must be alphabetical
+  private static String name(String prefix, int index) {
+    StringBuilder builder = new StringBuilder(prefix);
+    do {
+      builder.append((char) ('a' + index % 26));
+      index /= 26;
+    } while (index > 0);
+    return builder.toString();
+  }
+
+  @Benchmark
+  public void linearScan(Blackhole bh) {
+    Deque<SequenceStep> buffer = new ArrayDeque<>(Sequence.MAX_STEPS);
+    for (SequenceStep input : inputs) {
+      if (buffer.size() >= Sequence.MAX_STEPS) {
+        buffer.removeFirst();
+      }
+      buffer.addLast(input);
+      List<SequenceStep> bufferSteps = new ArrayList<>(buffer);
+      for (Sequence sequence : registered) {
+        if (sequence.matches(bufferSteps)) {
+          bh.consume(sequence);
+          buffer.clear();
+          break;
+        }
+      }
+    }
+  }
+
+  @Benchmark
+  public void automaton(Blackhole bh) {
+    int state = SequenceMatcher.ROOT;
+    for (SequenceStep input : inputs) {
+      state = matcher.next(state, input.ability(), input.activation());
+      List<Sequence> matches = matcher.matches(state);
+      if (!matches.isEmpty()) {
+        bh.consume(matches.getFirst());
+        state = SequenceMatcher.ROOT;
+      }
+    }
+  }
+}
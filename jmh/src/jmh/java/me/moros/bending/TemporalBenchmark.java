@@ -0,0 +1,116 @@
+/*
+ * Copyright 2020-2026 Moros
+ *
+ * This file is part of Bending.
+ *
+ * Bending is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Bending is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bending. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package me.moros.bending;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import me.moros.bending.api.platform.block.Block;
+import me.moros.bending.api.platform.block.BlockType;
+import me.moros.bending.api.platform.world.World;
+import me.moros.bending.api.temporal.TempBlock;
+import me.moros.bending.sim.Simulation;
+import me.moros.bending.sim.SimulationOptions;
+import me.moros.bending.sim.platform.world.SimWorld;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+@State(Scope.Benchmark)
+@Fork(value = 1)
+@Warmup(iterations = 3, time = 50, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 5, time = 50, timeUnit = TimeUnit.MILLISECONDS)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@BenchmarkMode(Mode.AverageTime)
+public class TemporalBenchmark {
+  private static final int AREA = 128;
+  private static final int LAYERS = 4;
+  private static final int MAX_DURATION = 100; // in ticks, the average live population is rate * MAX_DURATION / 2
+  private static final BlockType[] TYPES = {BlockType.STONE, BlockType.ICE, BlockType.SAND};
+
+  @Param({"10", "100", "500"}) // temp blocks created per tick
+  int rate;
+
+  Simulation simulation;
+  Block[] blocks;
+  long[] durations;
+  int cursor;
+
+  @Setup
+  public void setup() {
+    simulation = Simulation.start(SimulationOptions.of(1));
+    World world = simulation.world();
+    Random rand = new Random(42);
+    List<Block> positions = new ArrayList<>(AREA * AREA * LAYERS);
+    for (int y = 0; y < LAYERS; y++) {
+      for (int x = 0; x < AREA; x++) {
+        for (int z = 0; z < AREA; z++) {
+          positions.add(world.blockAt(x, SimWorld.SURFACE + 4 + y, z)); // Above the simulated user
+        }
+      }
+    }
+    Collections.shuffle(positions, rand);
+    blocks = positions.toArray(Block[]::new);
+    durations = new long[blocks.length];
+    for (int i = 0; i < durations.length; i++) {
+      durations[i] = (1 + rand.nextInt(MAX_DURATION)) * 50L;
+    }
+  }
+
+  @TearDown
+  public void tearDown() {
+    TempBlock.MANAGER.removeAll();
+    simulation.close();
+  }
+
+  @Benchmark
+  public void churn(Blackhole bh) {
+    build(bh);
+    TempBlock.MANAGER.tick();
+  }
+
+  @Benchmark
+  public void buildAndClear(Blackhole bh) {
+    build(bh);
+    TempBlock.MANAGER.removeAll();
+  }
+
+  private void build(Blackhole bh) {
+    for (int i = 0; i < rate; i++) {
+      int idx = cursor;
+      cursor = (cursor + 1) % blocks.length;
+      BlockType type = TYPES[idx % TYPES.length];
+      bh.consume(TempBlock.builder(type).duration(durations[idx]).build(blocks[idx]));
+    }
+  }
+}
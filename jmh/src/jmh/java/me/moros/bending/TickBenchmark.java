@@ -0,0 +1,69 @@
+/*
+ * Copyright 2020-2026 Moros
+ *
+ * This file is part of Bending.
+ *
+ * Bending is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Bending is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bending. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package me.moros.bending;
+
+import java.util.concurrent.TimeUnit;
+
+import me.moros.bending.sim.Simulation;
+import me.moros.bending.sim.SimulationOptions;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@Fork(value = 1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@BenchmarkMode(Mode.SampleTime)
+public class TickBenchmark {
+  @Param({"10", "50", "200"}) // amount of simulated users
+  int users;
+
+  @Param({SimulationOptions.DEFAULT_MIX, "AirBlast,FireBlast,EarthBlast,WaterManipulation"})
+  String mix;
+
+  Simulation simulation;
+
+  @Setup
+  public void setup() {
+    simulation = Simulation.start(SimulationOptions.of(users, mix));
+    simulation.run(200); // let abilities reach a steady state
+  }
+
+  @TearDown
+  public void tearDown() {
+    simulation.close();
+  }
+
+  @Benchmark
+  public long tick() {
+    return simulation.tick();
+  }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2020-2026 Moros
+ *
+ * This file is part of Bending.
+ *
+ * Bending is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Bending is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bending. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package me.moros.bending.common.game;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import me.moros.bending.api.ability.AbilityDescription;
+import me.moros.bending.api.ability.AbilityDescription.Sequence;
+import me.moros.bending.api.ability.Activation;
+import me.moros.bending.api.ability.SequenceStep;
+import me.moros.bending.api.game.ActivationController;
+import me.moros.bending.api.registry.Registries;
+import me.moros.bending.api.user.User;
+import me.moros.bending.sim.Simulation;
+import me.moros.bending.sim.SimulationOptions;
+import me.moros.bending.sim.platform.entity.SimInventory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+// Lives in the implementation package as SequenceManagerImpl can only be constructed from there
+@State(Scope.Benchmark)
+@Fork(value = 1)
+@Warmup(iterations = 3, time = 50, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 5, time = 50, timeUnit = TimeUnit.MILLISECONDS)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@BenchmarkMode(Mode.AverageTime)
+public class SequenceManagerBenchmark {
+  private static final int SLOTS = 9;
+  private static final int INPUTS = 1024;
+  private static final Activation[] ACTIVATIONS = {Activation.ATTACK, Activation.INTERACT, Activation.SNEAK, Activation.SNEAK_RELEASE};
+
+  Simulation simulation;
+  User user;
+  SimInventory inventory;
+  SequenceManagerImpl manager;
+  int[] slots;
+  Activation[] actions;
+
+  @Setup
+  public void setup() {
+    simulation = Simulation.start(SimulationOptions.of(1));
+    user = simulation.users().getFirst();
+    inventory = (SimInventory) user.inventory();
+    // Bind the steps of as many registered sequences as fit in the hotbar
+    List<AbilityDescription> bound = new ArrayList<>(SLOTS);
+    List<Sequence> usable = new ArrayList<>();
+    for (Sequence sequence : Registries.SEQUENCES) {
+      Set<AbilityDescription> missing = new LinkedHashSet<>();
+      sequence.steps().stream().map(SequenceStep::ability).filter(d -> !bound.contains(d)).forEach(missing::add);
+      if (bound.size() + missing.size() <= SLOTS && missing.stream().allMatch(AbilityDescription::canBind)) {
+        bound.addAll(missing);
+        usable.add(sequence);
+      }
+    }
+    for (int i = 0; i < bound.size(); i++) {
+      AbilityDescription desc = bound.get(i);
+      desc.elements().forEach(user::addElement);
+      user.bindAbility(i + 1, desc);
+    }
+    // Matches never activate anything so only the step matching itself is measured
+    ActivationController controller = (ActivationController) Proxy.newProxyInstance(
+      ActivationController.class.getClassLoader(), new Class<?>[]{ActivationController.class}, (p, m, args) -> null
+    );
+    manager = new SequenceManagerImpl(controller);
+    generateInputs(new Random(42), bound, usable);
+  }
+
+  // A mix of complete sequences and random noise in between
+  private void generateInputs(Random rand, List<AbilityDescription> bound, List<Sequence> usable) {
+    slots = new int[INPUTS];
+    actions = new Activation[INPUTS];
+    int idx = 0;
+    while (idx < INPUTS) {
+      if (usable.isEmpty() || rand.nextInt(4) == 0) {
+        slots[idx] = 1 + rand.nextInt(Math.max(1, bound.size()));
+        actions[idx++] = ACTIVATIONS[rand.nextInt(ACTIVATIONS.length)];
+        continue;
+      }
+      for (SequenceStep step : usable.get(rand.nextInt(usable.size())).steps()) {
+        if (idx >= INPUTS) {
+          break;
+        }
+        slots[idx] = bound.indexOf(step.ability()) + 1;
+        actions[idx++] = step.activation();
+      }
+    }
+  }
+
+  @TearDown
+  public void tearDown() {
+    simulation.close();
+  }
+
+  @Benchmark
+  public void registerStep() {
+    for (int i = 0; i < INPUTS; i++) {
+      inventory.selectedSlot(slots[i] - 1);
+      manager.registerStep(user, actions[i]);
+    }
+  }
+}
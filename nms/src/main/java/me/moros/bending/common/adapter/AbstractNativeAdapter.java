@@ -19,11 +19,14 @@
 
 package me.moros.bending.common.adapter;
 
+import java.util.Map;
+
 import me.moros.bending.api.ability.DamageSource;
 import me.moros.bending.api.adapter.NativeAdapter;
 import me.moros.bending.api.event.BendingDamageEvent;
 import me.moros.bending.api.platform.block.Block;
 import me.moros.bending.api.platform.entity.Entity;
+import me.moros.bending.api.platform.world.World;
 import net.kyori.adventure.text.Component;
 import net.minecraft.core.BlockPos;
 import net.minecraft.server.level.ServerLevel;
@@ -45,6 +48,21 @@ public abstract class AbstractNativeAdapter extends AbstractPacketUtil implement
     return adapt(block.world()).setBlock(position, adapt(state), 2);
   }
 
+  @Override
+  public void setBlocksFast(World world, Map<Block, me.moros.bending.api.platform.block.BlockState> changes) {
+    if (changes.isEmpty()) {
+      return;
+    }
+    ServerLevel level = adapt(world);
+    BlockPos.MutableBlockPos position = new BlockPos.MutableBlockPos();
+    for (var entry : changes.entrySet()) {
+      Block block = entry.getKey();
+      position.set(block.blockX(), block.blockY(), block.blockZ());
+      // Client updates are collected per section by the chunk holder and sent as a single section packet
+      level.setBlock(position, adapt(entry.getValue()), 2);
+    }
+  }
+
   @Override
   public boolean eyeInWater(Entity entity) {
     return adapt(entity).isEyeInFluid(FluidTags.WATER);
@@ -31,6 +31,7 @@ import io.netty.buffer.Unpooled;
 import me.moros.bending.api.ability.AbilityDescription;
 import me.moros.bending.api.gui.Board;
 import me.moros.bending.api.user.User;
+import me.moros.bending.api.util.Tasker;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
 import net.minecraft.ChatFormatting;
@@ -63,6 +64,7 @@ public abstract class Sidebar implements Board {
   private static final Component INACTIVE = Component.text("> ", NamedTextColor.DARK_GRAY);
   private static final Component SEP = Component.text(" -------------- ");
   private static final String OBJECTIVE_ID = "bending-board";
+  private static final int ALL_SLOTS = 0x3FE; // bits 1-9
   private static final String[] CHAT_CODES;
 
   static {
@@ -82,6 +84,10 @@ public abstract class Sidebar implements Board {
   private final MinecraftServer server;
   private final User user;
   private final Map<AbilityDescription, IndexedScore> misc;
+  private final Score[] sent;
+  private final List<Packet<? super ClientGamePacketListener>> pending;
+  private int dirtySlots;
+  private boolean flushScheduled;
   private int selectedSlot;
   private boolean closed;
 
@@ -89,6 +95,8 @@ public abstract class Sidebar implements Board {
     this.server = server;
     this.user = user;
     this.misc = new ConcurrentHashMap<>();
+    this.sent = new Score[10];
+    this.pending = new ArrayList<>();
     this.selectedSlot = user.currentSlot();
   }
 
@@ -99,7 +107,10 @@ public abstract class Sidebar implements Board {
   private List<Packet<? super ClientGamePacketListener>> createInitialPacket(Component title) {
     List<Packet<? super ClientGamePacketListener>> packets = new ArrayList<>(11);
     packets.addAll(buildInitialPackets(title));
-    forEachSlotScore((score, slot) -> packets.addAll(createScore(slot, score)));
+    forEachSlotScore((score, slot) -> {
+      sent[slot] = score;
+      packets.addAll(createScore(slot, score));
+    });
     return packets;
   }
 
@@ -113,8 +124,10 @@ public abstract class Sidebar implements Board {
   }
 
   @Override
-  public void disableScoreboard() {
+  public synchronized void disableScoreboard() {
     if (!closed) {
+      pending.clear();
+      dirtySlots = 0;
       List<Packet<? super ClientGamePacketListener>> packets = new ArrayList<>();
       for (int slot = 1; slot <= 9; slot++) {
         packets.add(buildTeamPacket(slot, TeamAction.REMOVE, Score.EMPTY));
@@ -127,9 +140,43 @@ public abstract class Sidebar implements Board {
   }
 
   @Override
-  public void updateAll() {
-    List<Packet<? super ClientGamePacketListener>> packets = new ArrayList<>();
-    forEachSlotScore((score, slot) -> packets.add(updateScore(slot, score)));
+  public synchronized void updateAll() {
+    markDirty(ALL_SLOTS);
+  }
+
+  /**
+   * Mark slot lines as dirty and schedule a flush for the next tick if one isn't already pending.
+   * Changes made within the same tick are coalesced into a single bundle.
+   */
+  private void markDirty(int slotMask) {
+    dirtySlots |= slotMask;
+    if (!flushScheduled && !closed && (dirtySlots != 0 || !pending.isEmpty())) {
+      flushScheduled = true;
+      Tasker.sync().submit(this::flush);
+    }
+  }
+
+  private synchronized void flush() {
+    flushScheduled = false;
+    if (closed) {
+      return;
+    }
+    List<Packet<? super ClientGamePacketListener>> packets = new ArrayList<>(pending);
+    pending.clear();
+    int mask = dirtySlots;
+    dirtySlots = 0;
+    if (mask != 0) {
+      var snapshot = user.slots().abilities();
+      for (int slot = 1; slot <= 9; slot++) {
+        if ((mask & (1 << slot)) != 0) {
+          Score score = getScoreForSlot(slot, snapshot.get(slot - 1));
+          if (!score.equals(sent[slot])) {
+            sent[slot] = score;
+            packets.add(updateScore(slot, score));
+          }
+        }
+      }
+    }
     trySendPackets(packets);
   }
 
@@ -152,17 +199,13 @@ public abstract class Sidebar implements Board {
   }
 
   @Override
-  public void activeSlot(int oldSlot, int newSlot) {
+  public synchronized void activeSlot(int oldSlot, int newSlot) {
     if (validSlot(oldSlot) && validSlot(newSlot)) {
       if (selectedSlot != oldSlot) {
         oldSlot = selectedSlot; // Fixes bug when slot is set using setHeldItemSlot
       }
       selectedSlot = newSlot;
-      List<Packet<? super ClientGamePacketListener>> packets = List.of(
-        updateScore(oldSlot, getScoreForSlot(oldSlot, user.boundAbility(oldSlot))),
-        updateScore(newSlot, getScoreForSlot(newSlot, user.boundAbility(newSlot)))
-      );
-      trySendPackets(packets);
+      markDirty((1 << oldSlot) | (1 << newSlot));
     }
   }
 
@@ -171,8 +214,8 @@ public abstract class Sidebar implements Board {
   }
 
   @Override
-  public void updateMisc(AbilityDescription desc, boolean show) {
-    List<Packet<? super ClientGamePacketListener>> packets = new ArrayList<>();
+  public synchronized void updateMisc(AbilityDescription desc, boolean show) {
+    List<Packet<? super ClientGamePacketListener>> packets = pending;
     if (show) {
       if (misc.isEmpty()) {
         packets.addAll(createScore(10, new Score(SEP)));
@@ -191,7 +234,7 @@ public abstract class Sidebar implements Board {
         }
       }
     }
-    trySendPackets(packets);
+    markDirty(0);
   }
 
   private int pickAvailableSlot() {
@@ -68,7 +68,7 @@ final class PaperBending extends AbstractBending<BendingBootstrap> {
     injectTasker(() -> new PaperExecutor(parent));
     String version = parent.getPluginMeta().getAPIVersion();
     ReflectionUtil.injectStatic(Platform.Holder.class, new BukkitPlatform(logger(), version));
-    new ProtectionInitializer().init();
+    new ProtectionInitializer(parent).init();
     registerHooks(parent.getServer());
     load();
     new BukkitPermissionInitializer().init();
@@ -19,6 +19,8 @@
 
 package me.moros.bending.paper.listener;
 
+import java.util.List;
+
 import me.moros.bending.api.ability.ActionType;
 import me.moros.bending.api.game.Game;
 import me.moros.bending.api.temporal.ActionLimiter;
@@ -40,6 +42,7 @@ import org.bukkit.event.block.BlockPistonExtendEvent;
 import org.bukkit.event.block.BlockPistonRetractEvent;
 import org.bukkit.event.block.BlockPlaceEvent;
 import org.bukkit.event.block.BlockSpreadEvent;
+import org.jspecify.annotations.Nullable;
 
 public record BlockListener(Game game) implements Listener, BukkitListener {
   @EventHandler(priority = EventPriority.LOW, ignoreCancelled = true)
@@ -47,9 +50,7 @@ public record BlockListener(Game game) implements Listener, BukkitListener {
     if (disabledWorld(event)) {
       return;
     }
-    Block b = event.getIgnitingBlock();
-    var block = b == null ? null : PlatformAdapter.fromBukkitBlock(b);
-    if (TempBlock.MANAGER.isTemp(block)) {
+    if (isTemp(event.getIgnitingBlock())) {
       event.setCancelled(true);
     }
   }
@@ -59,7 +60,7 @@ public record BlockListener(Game game) implements Listener, BukkitListener {
     if (disabledWorld(event)) {
       return;
     }
-    if (TempBlock.MANAGER.isTemp(PlatformAdapter.fromBukkitBlock(event.getSource()))) {
+    if (isTemp(event.getSource())) {
       event.setCancelled(true);
     }
   }
@@ -69,8 +70,8 @@ public record BlockListener(Game game) implements Listener, BukkitListener {
     if (disabledWorld(event)) {
       return;
     }
-    var block = PlatformAdapter.fromBukkitBlock(event.getBlock());
-    if (!MaterialUtil.isFire(block) && TempBlock.MANAGER.isTemp(block)) {
+    Block block = event.getBlock();
+    if (isTemp(block) && !MaterialUtil.isFire(PlatformAdapter.fromBukkitBlock(block))) {
       event.setCancelled(true);
     }
   }
@@ -80,9 +81,7 @@ public record BlockListener(Game game) implements Listener, BukkitListener {
     if (disabledWorld(event)) {
       return;
     }
-    Block b = event.getIgnitingBlock();
-    var block = b == null ? null : PlatformAdapter.fromBukkitBlock(b);
-    if (TempBlock.MANAGER.isTemp(block)) {
+    if (isTemp(event.getIgnitingBlock())) {
       event.setCancelled(true);
     }
   }
@@ -96,16 +95,18 @@ public record BlockListener(Game game) implements Listener, BukkitListener {
       event.setCancelled(true);
       return;
     }
-    TempBlock.MANAGER.get(PlatformAdapter.fromBukkitBlock(event.getBlock())).ifPresent(TempBlock::removeWithoutReverting);
+    Block block = event.getBlock();
+    if (mayBeTemp(block)) {
+      TempBlock.MANAGER.get(PlatformAdapter.fromBukkitBlock(block)).ifPresent(TempBlock::removeWithoutReverting);
+    }
   }
 
   @EventHandler(priority = EventPriority.LOW, ignoreCancelled = true)
   public void onBlockBreak(BlockBreakEvent event) {
-    var block = PlatformAdapter.fromBukkitBlock(event.getBlock());
-    if (disabledWorld(event)) {
+    if (disabledWorld(event) || !mayBeTemp(event.getBlock())) {
       return;
     }
-    var tb = TempBlock.MANAGER.get(block).orElse(null);
+    var tb = TempBlock.MANAGER.get(PlatformAdapter.fromBukkitBlock(event.getBlock())).orElse(null);
     if (tb != null) {
       event.setDropItems(false);
       tb.removeWithoutReverting();
@@ -117,7 +118,7 @@ public record BlockListener(Game game) implements Listener, BukkitListener {
     if (disabledWorld(event)) {
       return;
     }
-    if (TempBlock.MANAGER.isTemp(PlatformAdapter.fromBukkitBlock(event.getBlock()))) {
+    if (isTemp(event.getBlock())) {
       event.setCancelled(true);
     }
   }
@@ -127,8 +128,7 @@ public record BlockListener(Game game) implements Listener, BukkitListener {
     if (disabledWorld(event)) {
       return;
     }
-    if (TempBlock.MANAGER.isTemp(PlatformAdapter.fromBukkitBlock(event.getBlock()))
-      || TempBlock.MANAGER.isTemp(PlatformAdapter.fromBukkitBlock(event.getToBlock()))) {
+    if (isTemp(event.getBlock()) || isTemp(event.getToBlock())) {
       event.setCancelled(true);
     }
   }
@@ -149,7 +149,7 @@ public record BlockListener(Game game) implements Listener, BukkitListener {
     if (disabledWorld(event)) {
       return;
     }
-    if (event.getBlocks().stream().map(PlatformAdapter::fromBukkitBlock).anyMatch(TempBlock.MANAGER::isTemp)) {
+    if (anyTemp(event.getBlocks())) {
       event.setCancelled(true);
     }
   }
@@ -159,8 +159,25 @@ public record BlockListener(Game game) implements Listener, BukkitListener {
     if (disabledWorld(event)) {
       return;
     }
-    if (event.getBlocks().stream().map(PlatformAdapter::fromBukkitBlock).anyMatch(TempBlock.MANAGER::isTemp)) {
+    if (anyTemp(event.getBlocks())) {
       event.setCancelled(true);
     }
   }
+
+  private static boolean mayBeTemp(Block block) {
+    return TempBlock.mayBeTemp(block.getWorld().key(), block.getX(), block.getY(), block.getZ());
+  }
+
+  private static boolean isTemp(@Nullable Block block) {
+    return block != null && mayBeTemp(block) && TempBlock.MANAGER.isTemp(PlatformAdapter.fromBukkitBlock(block));
+  }
+
+  private static boolean anyTemp(List<Block> blocks) {
+    for (Block block : blocks) {
+      if (isTemp(block)) {
+        return true;
+      }
+    }
+    return false;
+  }
 }
@@ -20,16 +20,25 @@
 package me.moros.bending.paper.listener;
 
 import me.moros.bending.api.game.Game;
+import me.moros.bending.common.util.metadata.BendingMetadata;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
 import org.bukkit.event.player.PlayerChangedWorldEvent;
+import org.bukkit.event.world.ChunkUnloadEvent;
 import org.bukkit.event.world.WorldUnloadEvent;
 
 public record WorldListener(Game game) implements Listener {
   @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
   public void onWorldUnload(WorldUnloadEvent event) {
     game.worldManager().onWorldUnload(event.getWorld().key());
+    BendingMetadata.INSTANCE.cleanup(event.getWorld().key());
+  }
+
+  @EventHandler(priority = EventPriority.MONITOR)
+  public void onChunkUnload(ChunkUnloadEvent event) {
+    var chunk = event.getChunk();
+    BendingMetadata.INSTANCE.cleanup(event.getWorld().key(), chunk.getX(), chunk.getZ());
   }
 
   @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
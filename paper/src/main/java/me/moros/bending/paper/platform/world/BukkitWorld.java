@@ -40,6 +40,7 @@ import me.moros.bending.api.platform.item.ItemSnapshot;
 import me.moros.bending.api.platform.particle.ParticleContext;
 import me.moros.bending.api.platform.world.World;
 import me.moros.bending.api.util.data.DataHolder;
+import me.moros.bending.common.util.EntityIndex;
 import me.moros.bending.common.util.metadata.BendingMetadata;
 import me.moros.bending.paper.platform.PlatformAdapter;
 import me.moros.bending.paper.platform.block.LockableImpl;
@@ -110,18 +111,16 @@ public record BukkitWorld(org.bukkit.World handle) implements World {
 
   @Override
   public List<Entity> nearbyEntities(AABB box, Predicate<Entity> predicate, int limit) {
+    return EntityIndex.INSTANCE.nearbyEntities(this, box, predicate, limit, this::loadEntities);
+  }
+
+  private List<Entity> loadEntities(AABB box) {
     var min = new Vector(box.min().x(), box.min().y(), box.min().z());
     var max = new Vector(box.max().x(), box.max().y(), box.max().z());
     BoundingBox bb = BoundingBox.of(min, max);
     List<Entity> entities = new ArrayList<>();
     for (var bukkitEntity : handle().getNearbyEntities(bb)) {
-      Entity entity = PlatformAdapter.fromBukkitEntity(bukkitEntity);
-      if (predicate.test(entity)) {
-        entities.add(entity);
-        if (limit > 0 && entities.size() >= limit) {
-          return entities;
-        }
-      }
+      entities.add(PlatformAdapter.fromBukkitEntity(bukkitEntity));
     }
     return entities;
   }
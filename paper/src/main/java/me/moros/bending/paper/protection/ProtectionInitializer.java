@@ -33,13 +33,16 @@ import me.moros.bending.paper.protection.plugin.GriefPreventionProtection;
 import me.moros.bending.paper.protection.plugin.TownyProtection;
 import me.moros.bending.paper.protection.plugin.WorldGuardProtection;
 import org.bukkit.Bukkit;
+import org.bukkit.event.Listener;
 import org.bukkit.plugin.Plugin;
 import org.spongepowered.configurate.objectmapping.meta.Setting;
 
 public final class ProtectionInitializer implements Initializer {
+  private final Plugin parent;
   private final Config config;
 
-  public ProtectionInitializer() {
+  public ProtectionInitializer(Plugin parent) {
+    this.parent = parent;
     this.config = ConfigManager.load(Config::new);
   }
 
@@ -59,6 +62,9 @@ public final class ProtectionInitializer implements Initializer {
     if (plugin != null && plugin.isEnabled() && Boolean.TRUE.equals(config.protection.get(name))) {
       Protection protection = factory.apply(plugin);
       Registries.PROTECTIONS.register(protection);
+      if (protection instanceof Listener listener) {
+        Bukkit.getPluginManager().registerEvents(listener, parent);
+      }
     }
   }
 
@@ -20,24 +20,75 @@
 package me.moros.bending.paper.protection.plugin;
 
 import com.palmergames.bukkit.towny.TownyAPI;
+import com.palmergames.bukkit.towny.TownySettings;
+import com.palmergames.bukkit.towny.event.DeleteTownEvent;
+import com.palmergames.bukkit.towny.event.TownClaimEvent;
+import com.palmergames.bukkit.towny.event.town.TownUnclaimEvent;
 import com.palmergames.bukkit.towny.object.TownBlock;
 import com.palmergames.bukkit.towny.object.TownyPermission;
+import com.palmergames.bukkit.towny.object.WorldCoord;
 import com.palmergames.bukkit.towny.utils.PlayerCacheUtil;
 import me.moros.bending.api.platform.block.Block;
 import me.moros.bending.api.platform.entity.LivingEntity;
 import me.moros.bending.api.platform.entity.player.Player;
 import me.moros.bending.api.protection.AbstractProtection;
+import me.moros.bending.api.protection.ProtectionCache;
 import me.moros.bending.paper.platform.PlatformAdapter;
 import org.bukkit.Location;
 import org.bukkit.Material;
+import org.bukkit.World;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
 import org.bukkit.plugin.Plugin;
+import org.jspecify.annotations.Nullable;
 
-public final class TownyProtection extends AbstractProtection {
+public final class TownyProtection extends AbstractProtection implements Listener {
   private final TownyAPI api;
+  private final int townBlockSize;
+  private final Granularity granularity;
 
   public TownyProtection(Plugin plugin) {
     super(plugin.getName());
     api = TownyAPI.getInstance();
+    townBlockSize = TownySettings.getTownBlockSize();
+    granularity = townBlockSize == 16 ? Granularity.CHUNK : Granularity.BLOCK;
+  }
+
+  @Override
+  public Granularity granularity() {
+    return granularity;
+  }
+
+  @EventHandler(priority = EventPriority.MONITOR)
+  public void onTownClaim(TownClaimEvent event) {
+    invalidate(event.getTownBlock().getWorldCoord());
+  }
+
+  @EventHandler(priority = EventPriority.MONITOR)
+  public void onTownUnclaim(TownUnclaimEvent event) {
+    invalidate(event.getWorldCoord());
+  }
+
+  @EventHandler(priority = EventPriority.MONITOR)
+  public void onTownDelete(DeleteTownEvent event) {
+    ProtectionCache.INSTANCE.invalidateAll();
+  }
+
+  private void invalidate(@Nullable WorldCoord coord) {
+    World world = coord == null ? null : coord.getBukkitWorld();
+    if (world == null) {
+      ProtectionCache.INSTANCE.invalidateAll();
+      return;
+    }
+    // Town blocks can be smaller or larger than a chunk
+    int minX = coord.getX() * townBlockSize;
+    int minZ = coord.getZ() * townBlockSize;
+    for (int x = minX >> 4; x <= (minX + townBlockSize - 1) >> 4; x++) {
+      for (int z = minZ >> 4; z <= (minZ + townBlockSize - 1) >> 4; z++) {
+        ProtectionCache.INSTANCE.invalidate(world.key(), x, z);
+      }
+    }
   }
 
   @Override